@@ -0,0 +1,81 @@
+package com.taskflow.api.benchmark;
+
+import com.taskflow.api.TaskFlowApiApplication;
+import com.taskflow.api.config.IdSequenceSeeder;
+import com.taskflow.api.model.Project;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Boots the application without a web server against the "bench" profile
+ * and seeds data with plain JDBC batches (much faster than going through JPA).
+ */
+public final class BenchmarkContext {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    private BenchmarkContext() {
+    }
+
+    public static ConfigurableApplicationContext start(String... extraArgs) {
+        List<String> args = new ArrayList<>(List.of("--spring.profiles.active=bench"));
+        args.addAll(List.of(extraArgs));
+
+        return new SpringApplicationBuilder(TaskFlowApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(args.toArray(String[]::new));
+    }
+
+    public static long insertUser(JdbcTemplate jdbc, String username) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbc.update("INSERT INTO users (username, email, password, first_name, last_name, role, is_active, created_at, updated_at) " +
+                        "VALUES (?, ?, 'password', 'Bench', 'User', 'DEVELOPER', TRUE, ?, ?)",
+                username, username + "@bench.local", Timestamp.valueOf(now), Timestamp.valueOf(now));
+        return jdbc.queryForObject("SELECT id FROM users WHERE username = ?", Long.class, username);
+    }
+
+    public static long insertProject(JdbcTemplate jdbc, long ownerId, String name) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbc.update("INSERT INTO projects (name, active_name_key, description, owner_id, is_active, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, ?, TRUE, ?, ?)",
+                name, Project.nameKey(name), "Benchmark project", ownerId, Timestamp.valueOf(now), Timestamp.valueOf(now));
+        return jdbc.queryForObject("SELECT MAX(id) FROM projects WHERE owner_id = ?", Long.class, ownerId);
+    }
+
+    /**
+     * Inserts tasks with consecutive IDs and strictly increasing created_at, one second apart, starting at baseTime.
+     */
+    public static void insertTasks(JdbcTemplate jdbc, long projectId, Long assigneeId, int count, LocalDateTime baseTime) {
+        String[] statuses = {"TODO", "IN_PROGRESS", "IN_REVIEW", "TESTING", "DONE", "CANCELLED"};
+        String[] priorities = {"LOW", "MEDIUM", "HIGH", "URGENT"};
+
+        long firstId = jdbc.queryForObject("SELECT NEXT VALUE FOR task_seq", Long.class);
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < count; i++) {
+            Timestamp createdAt = Timestamp.valueOf(baseTime.plusSeconds(i));
+            batch.add(new Object[]{
+                    firstId + i, "Task " + i, "Benchmark task number " + i,
+                    statuses[i % statuses.length], priorities[i % priorities.length],
+                    projectId, assigneeId,
+                    Timestamp.valueOf(baseTime.plusDays(1 + i % 30)), 1 + i % 8,
+                    createdAt, createdAt});
+
+            if (batch.size() == BATCH_SIZE || i == count - 1) {
+                jdbc.batchUpdate("INSERT INTO tasks (id, title, description, status, priority, project_id, assignee_id, " +
+                        "due_date, estimated_hours, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+
+        // Dense IDs like JPA assigns them; move the sequence past them so they never collide
+        new IdSequenceSeeder(jdbc).seed();
+    }
+
+}
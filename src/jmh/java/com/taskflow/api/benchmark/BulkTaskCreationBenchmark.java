@@ -0,0 +1,75 @@
+package com.taskflow.api.benchmark;
+
+import com.taskflow.api.model.Task;
+import com.taskflow.api.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Task insert throughput (rows/sec): one createTask call per row, the
+ * pre-batching path, versus a single batched createTasks call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BulkTaskCreationBenchmark {
+
+    private static final int ROWS = 1_000;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private long ownerId;
+    private long projectId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        taskService = context.getBean(TaskService.class);
+
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        ownerId = BenchmarkContext.insertUser(jdbc, "importer");
+        projectId = BenchmarkContext.insertProject(jdbc, ownerId, "Import");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void createOneByOne() {
+        for (Task task : newTasks()) {
+            taskService.createTask(task, projectId, ownerId);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<Long> createBulk() {
+        return taskService.createTasks(newTasks(), projectId, ownerId);
+    }
+
+    private static List<Task> newTasks() {
+        List<Task> tasks = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            tasks.add(Task.builder().title("Imported task " + i).description("Bulk import benchmark").estimatedHours(2).build());
+        }
+        return tasks;
+    }
+
+}
@@ -0,0 +1,104 @@
+package com.taskflow.api.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.api.exception.BadRequestException;
+import com.taskflow.api.exception.GlobalExceptionHandler;
+import com.taskflow.api.exception.ResourceNotFoundException;
+import com.taskflow.api.exception.UnauthorizedException;
+import com.taskflow.api.search.TaskSearchService;
+import com.taskflow.api.service.ProjectService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 404 and 401 throughput through the real service proxies (transactions, SQL metrics aspect)
+ * and GlobalExceptionHandler, rendered to JSON, with and without stack trace capture.
+ *
+ * Both of those pay for a transaction and a lookup query; badRequest (a search with no
+ * searchable words) throws before touching the database, so it isolates the exception cost.
+ *
+ * Run with -Pjmh.prof=gc to see the allocation per failed request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ExceptionPathBenchmark {
+
+    private static final long MISSING_PROJECT_ID = Long.MAX_VALUE;
+
+    @Param({"false", "true"})
+    public boolean captureStackTraces;
+
+    private ConfigurableApplicationContext context;
+    private ProjectService projectService;
+    private TaskSearchService searchService;
+    private GlobalExceptionHandler exceptionHandler;
+    private ObjectMapper objectMapper;
+    private long projectId;
+    private long strangerId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // The services log a WARN line before each throw; silence it to measure the exception path itself
+        context = BenchmarkContext.start("--app.exceptions.capture-stack-traces=" + captureStackTraces,
+                "--logging.level.com.taskflow.api=ERROR");
+        projectService = context.getBean(ProjectService.class);
+        searchService = context.getBean(TaskSearchService.class);
+        exceptionHandler = context.getBean(GlobalExceptionHandler.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        long ownerId = BenchmarkContext.insertUser(jdbc, "owner");
+        strangerId = BenchmarkContext.insertUser(jdbc, "stranger");
+        projectId = BenchmarkContext.insertProject(jdbc, ownerId, "Private");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] notFound() throws JsonProcessingException {
+        try {
+            projectService.findById(MISSING_PROJECT_ID);
+            throw new IllegalStateException("Project should not exist");
+        } catch (ResourceNotFoundException ex) {
+            return objectMapper.writeValueAsBytes(exceptionHandler.handleResourceNotFound(ex).getBody());
+        }
+    }
+
+    @Benchmark
+    public byte[] unauthorized() throws JsonProcessingException {
+        try {
+            projectService.findByIdWithAccess(projectId, strangerId);
+            throw new IllegalStateException("Stranger should not have access");
+        } catch (UnauthorizedException ex) {
+            return objectMapper.writeValueAsBytes(exceptionHandler.handleUnauthorized(ex).getBody());
+        }
+    }
+
+    @Benchmark
+    public byte[] badRequest() throws JsonProcessingException {
+        try {
+            searchService.search("?", strangerId, 10);
+            throw new IllegalStateException("Query should be rejected");
+        } catch (BadRequestException ex) {
+            return objectMapper.writeValueAsBytes(exceptionHandler.handleBadRequest(ex).getBody());
+        }
+    }
+
+}
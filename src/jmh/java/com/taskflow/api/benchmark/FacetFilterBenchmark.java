@@ -0,0 +1,104 @@
+package com.taskflow.api.benchmark;
+
+import com.taskflow.api.cache.ProjectAccess;
+import com.taskflow.api.facet.TaskFacetIndex;
+import com.taskflow.api.facet.TaskFacetService;
+import com.taskflow.api.facet.TaskFilter;
+import com.taskflow.api.model.enums.Priority;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static com.taskflow.api.facet.TaskFilter.and;
+import static com.taskflow.api.facet.TaskFilter.inProgress;
+import static com.taskflow.api.facet.TaskFilter.not;
+import static com.taskflow.api.facet.TaskFilter.priority;
+import static com.taskflow.api.facet.TaskFilter.project;
+
+/**
+ * Resolving a four-facet filter over 200k tasks: bitmap index vs the equivalent SQL count.
+ *
+ * Both sides only produce the matching set (the index) or its size (SQL);
+ * loading the page of entities afterwards costs the same either way.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FacetFilterBenchmark {
+
+    private static final int PROJECT_COUNT = 20;
+    private static final int TASKS_PER_PROJECT = 10_000;
+
+    private ConfigurableApplicationContext context;
+    private TaskFacetIndex index;
+    private JdbcTemplate jdbc;
+    private final List<TaskFilter> filters = new ArrayList<>();
+    private final List<Object[]> sqlArgs = new ArrayList<>();
+    private ProjectAccess access;
+    private int round;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("--app.facets.rebuild-on-startup=false", "--app.search.rebuild-on-startup=false");
+        index = context.getBean(TaskFacetIndex.class);
+        jdbc = context.getBean(JdbcTemplate.class);
+
+        long ownerId = BenchmarkContext.insertUser(jdbc, "owner");
+        List<Long> assigneeIds = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            assigneeIds.add(BenchmarkContext.insertUser(jdbc, "assignee" + i));
+        }
+        List<Long> projectIds = new ArrayList<>();
+        for (int i = 0; i < PROJECT_COUNT; i++) {
+            long projectId = BenchmarkContext.insertProject(jdbc, ownerId, "Facets " + i);
+            BenchmarkContext.insertTasks(jdbc, projectId, assigneeIds.get(i % assigneeIds.size()), TASKS_PER_PROJECT,
+                    LocalDateTime.of(2024, 1, 1, 0, 0));
+            projectIds.add(projectId);
+        }
+        context.getBean(TaskFacetService.class).rebuild();
+
+        // In progress AND (HIGH OR URGENT) AND 5 of 20 projects AND NOT one assignee, within 10 accessible projects.
+        // The excluded assignee rotates per call: H2 would otherwise hand back the previous result of an identical query.
+        for (Long excludedId : assigneeIds) {
+            filters.add(and(
+                    inProgress(),
+                    priority(Priority.HIGH, Priority.URGENT),
+                    project(projectIds.subList(0, 5).toArray(Long[]::new)),
+                    not(TaskFilter.assignee(excludedId))));
+            sqlArgs.add(new Object[]{projectIds.get(0), projectIds.get(4), excludedId, projectIds.get(0), projectIds.get(9)});
+        }
+        access = new ProjectAccess(false, Set.copyOf(projectIds.subList(0, 10)));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public long bitmapIndex() {
+        return index.match(filters.get(round++ % filters.size()), access).getLongCardinality();
+    }
+
+    @Benchmark
+    public long sqlCount() {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM tasks WHERE status IN ('IN_PROGRESS', 'IN_REVIEW', 'TESTING') " +
+                "AND priority IN ('HIGH', 'URGENT') AND project_id BETWEEN ? AND ? " +
+                "AND (assignee_id IS NULL OR assignee_id <> ?) AND project_id BETWEEN ? AND ?", Long.class, sqlArgs.get(round++ % sqlArgs.size()));
+    }
+
+}
@@ -0,0 +1,99 @@
+package com.taskflow.api.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.api.model.Project;
+import com.taskflow.api.model.Task;
+import com.taskflow.api.model.User;
+import com.taskflow.api.model.enums.Priority;
+import com.taskflow.api.model.enums.TaskStatus;
+import com.taskflow.api.projection.TaskSummary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response body serialization with the application's own ObjectMapper (spring.jackson.* applied).
+ *
+ * Entities are detached and built in memory with empty collections, as a controller
+ * would return them; taskSummaryPage is the same page as read-model records.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonSerializationBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    private ConfigurableApplicationContext context;
+    private ObjectMapper objectMapper;
+
+    private User user;
+    private Task task;
+    private List<Task> taskPage;
+    private List<TaskSummary> taskSummaryPage;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        objectMapper = context.getBean(ObjectMapper.class);
+
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 9, 30);
+        user = User.builder().id(1L).username("owner").email("owner@bench.local").password("hash")
+                .firstName("Bench").lastName("User").createdAt(now).updatedAt(now).build();
+        Project project = Project.builder().id(1L).name("Benchmark").description("Benchmark project")
+                .user(user).createdAt(now).updatedAt(now).build();
+
+        taskPage = new ArrayList<>(PAGE_SIZE);
+        taskSummaryPage = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            Task pageTask = Task.builder().id((long) i).title("Task " + i).description("Benchmark task number " + i)
+                    .status(TaskStatus.values()[i % TaskStatus.values().length])
+                    .priority(Priority.values()[i % Priority.values().length])
+                    .project(project).assignee(user).dueDate(now.plusDays(i)).estimatedHours(1 + i % 8)
+                    .createdAt(now.plusMinutes(i)).updatedAt(now.plusMinutes(i)).build();
+            taskPage.add(pageTask);
+            taskSummaryPage.add(new TaskSummary(pageTask.getId(), pageTask.getTitle(), pageTask.getStatus(),
+                    pageTask.getPriority(), pageTask.getDueDate(), project.getId(), user.getId(), pageTask.getCreatedAt()));
+        }
+        task = taskPage.get(0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] user() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(user);
+    }
+
+    @Benchmark
+    public byte[] task() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(task);
+    }
+
+    @Benchmark
+    public byte[] taskPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(taskPage);
+    }
+
+    @Benchmark
+    public byte[] taskSummaryPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(taskSummaryPage);
+    }
+
+}
@@ -0,0 +1,93 @@
+package com.taskflow.api.benchmark;
+
+import com.taskflow.api.model.Task;
+import com.taskflow.api.pagination.Cursor;
+import com.taskflow.api.pagination.CursorPage;
+import com.taskflow.api.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of fetching page N of a project's tasks: keyset vs OFFSET.
+ *
+ * Keyset cost should stay flat as pageNumber grows. On MySQL, OFFSET grows
+ * linearly because InnoDB still walks every skipped row; H2's counted B-trees
+ * can skip rows cheaply, so the offset numbers here understate that cost.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class KeysetPaginationBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+    private static final int TASK_COUNT = 60_000;
+
+    @Param({"1", "100", "1000"})
+    public int pageNumber;
+
+    private ConfigurableApplicationContext context;
+    private TaskRepository taskRepository;
+    private EntityManagerFactory entityManagerFactory;
+    private long projectId;
+    private Cursor cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        taskRepository = context.getBean(TaskRepository.class);
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        long ownerId = BenchmarkContext.insertUser(jdbc, "pager");
+        projectId = BenchmarkContext.insertProject(jdbc, ownerId, "Pagination");
+        BenchmarkContext.insertTasks(jdbc, projectId, null, TASK_COUNT, LocalDateTime.of(2024, 1, 1, 0, 0));
+
+        // Walk to the start of the requested page once, outside the measurement
+        cursor = Cursor.START;
+        for (int page = 1; page < pageNumber; page++) {
+            List<Task> rows = taskRepository.findPageByProjectId(projectId, cursor.createdAt(), cursor.id(), CursorPage.limitFor(PAGE_SIZE));
+            cursor = Cursor.decode(CursorPage.of(rows, PAGE_SIZE, t -> new Cursor(t.getCreatedAt(), t.getId())).nextCursor());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Task> keysetPage() {
+        return taskRepository.findPageByProjectId(projectId, cursor.createdAt(), cursor.id(), CursorPage.limitFor(PAGE_SIZE));
+    }
+
+    @Benchmark
+    public List<Task> offsetPage() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            return entityManager.createQuery("SELECT t FROM Task t WHERE t.project.id = :projectId ORDER BY t.createdAt, t.id", Task.class)
+                    .setParameter("projectId", projectId)
+                    .setFirstResult((pageNumber - 1) * PAGE_SIZE)
+                    .setMaxResults(PAGE_SIZE + 1)
+                    .getResultList();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.taskflow.api.benchmark;
+
+import org.apache.logging.log4j.LogManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of the service-layer log lines with a synchronous vs the async Log4j2 setup.
+ *
+ * A "request" burns workTokens of CPU (0 = logging alone) and logs what TaskService.createTask
+ * logs: two INFO lines with parameters and one disabled DEBUG line. Both modes write the same
+ * pattern to a file; each mode runs in its own fork because Log4j2 is configured once per JVM.
+ * Run with -Pjmh.prof=gc to compare allocation per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LoggingBenchmark {
+
+    private static final Long PROJECT_ID = 42L;
+    private static final Long USER_ID = 7L;
+
+    @Param({"sync", "async"})
+    public String mode;
+
+    @Param({"0", "10000"})
+    public long workTokens;
+
+    private Logger log;
+    private String title;
+    private long nextTaskId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        System.setProperty("log4j2.configurationFile", "log4j2-bench-" + mode + ".xml");
+        log = LoggerFactory.getLogger("com.taskflow.api.service.TaskService");
+        title = "Rotate certificates";
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        LogManager.shutdown();
+    }
+
+    @Benchmark
+    public long createTaskRequest() {
+        Blackhole.consumeCPU(workTokens);
+
+        long taskId = ++nextTaskId;
+        log.info("Creating new task '{}' in project ID: {} by user ID: {}", title, PROJECT_ID, USER_ID);
+        log.debug("Validating assignee for task '{}'", title);
+        log.info("Successfully created task '{}' with ID: {} in project '{}'", title, taskId, PROJECT_ID);
+        return taskId;
+    }
+
+}
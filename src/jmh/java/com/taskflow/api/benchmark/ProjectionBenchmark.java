@@ -0,0 +1,80 @@
+package com.taskflow.api.benchmark;
+
+import com.taskflow.api.model.Task;
+import com.taskflow.api.projection.TaskSummary;
+import com.taskflow.api.repository.TaskRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loading 10k assigned tasks as managed entities vs TaskSummary records.
+ *
+ * Run with -Pjmh.prof=gc: gc.alloc.rate.norm is the heap allocated per 10k rows.
+ * A read-write transaction also keeps a loaded-state snapshot per entity for
+ * dirty checking; readOnly skips that but still registers every entity.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ProjectionBenchmark {
+
+    private static final int TASK_COUNT = 10_000;
+
+    private ConfigurableApplicationContext context;
+    private TaskRepository taskRepository;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+    private long assigneeId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        taskRepository = context.getBean(TaskRepository.class);
+
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        assigneeId = BenchmarkContext.insertUser(jdbc, "assignee");
+        long projectId = BenchmarkContext.insertProject(jdbc, assigneeId, "Projection");
+        BenchmarkContext.insertTasks(jdbc, projectId, assigneeId, TASK_COUNT, LocalDateTime.of(2024, 1, 1, 0, 0));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Task> entitiesReadWrite() {
+        return readWrite.execute(status -> taskRepository.findByAssigneeId(assigneeId));
+    }
+
+    @Benchmark
+    public List<Task> entitiesReadOnly() {
+        return readOnly.execute(status -> taskRepository.findByAssigneeId(assigneeId));
+    }
+
+    @Benchmark
+    public List<TaskSummary> summaries() {
+        return readOnly.execute(status -> taskRepository.findSummariesByAssigneeId(assigneeId));
+    }
+
+}
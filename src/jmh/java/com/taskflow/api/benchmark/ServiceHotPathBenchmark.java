@@ -0,0 +1,107 @@
+package com.taskflow.api.benchmark;
+
+import com.taskflow.api.model.Project;
+import com.taskflow.api.model.Task;
+import com.taskflow.api.model.User;
+import com.taskflow.api.model.enums.Priority;
+import com.taskflow.api.service.ProjectService;
+import com.taskflow.api.service.TaskService;
+import com.taskflow.api.service.UserService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end cost of the service entry points behind the most frequent API calls,
+ * each in its own transaction including the after-commit index updates.
+ *
+ * registerUser is dominated by BCrypt; compare it with -Pjmh.prof=gc or a profiler
+ * before reading anything into small changes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ServiceHotPathBenchmark {
+
+    private static final int PROJECT_COUNT = 64;
+    private static final int TASKS_PER_PROJECT = 200;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private ProjectService projectService;
+    private UserService userService;
+
+    private long ownerId;
+    private final long[] projectIds = new long[PROJECT_COUNT];
+    private int nextProject;
+    private long nextUser;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        taskService = context.getBean(TaskService.class);
+        projectService = context.getBean(ProjectService.class);
+        userService = context.getBean(UserService.class);
+
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        ownerId = BenchmarkContext.insertUser(jdbc, "owner");
+        LocalDateTime baseTime = LocalDateTime.of(2024, 1, 1, 0, 0);
+        for (int i = 0; i < PROJECT_COUNT; i++) {
+            projectIds[i] = BenchmarkContext.insertProject(jdbc, ownerId, "Project " + i);
+            BenchmarkContext.insertTasks(jdbc, projectIds[i], ownerId, TASKS_PER_PROJECT, baseTime);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Task createTask() {
+        Task task = Task.builder()
+                .title("Benchmark task")
+                .description("Created through TaskService")
+                .priority(Priority.HIGH)
+                .dueDate(LocalDateTime.now().plusDays(7))
+                .build();
+        return taskService.createTask(task, nextProjectId(), ownerId);
+    }
+
+    @Benchmark
+    public Project findProjectByIdWithAccess() {
+        return projectService.findByIdWithAccess(nextProjectId(), ownerId);
+    }
+
+    @Benchmark
+    public User registerUser() {
+        long n = nextUser++;
+        User user = User.builder()
+                .username("bench" + n)
+                .email("bench" + n + "@bench.local")
+                .password("benchmark-password")
+                .firstName("Bench")
+                .lastName("User")
+                .build();
+        return userService.registerUser(user);
+    }
+
+    // Rotate projects so neither H2's result reuse nor a single hot cache entry flatters the numbers
+    private long nextProjectId() {
+        long projectId = projectIds[nextProject];
+        nextProject = (nextProject + 1) % PROJECT_COUNT;
+        return projectId;
+    }
+
+}
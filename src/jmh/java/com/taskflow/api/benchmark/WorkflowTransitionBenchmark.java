@@ -0,0 +1,133 @@
+package com.taskflow.api.benchmark;
+
+import com.taskflow.api.model.enums.TaskStatus;
+import com.taskflow.api.service.WorkflowService;
+import com.taskflow.api.workflow.TaskWorkflow;
+import com.taskflow.api.workflow.WorkflowRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of validating every (from, to) status pair. Run with -Pjmh.prof=gc:
+ * gc.alloc.rate.norm should be ~0 B/op for the compiled paths.
+ *
+ * registryLookup goes through WorkflowRegistry.forProject first, as status changes
+ * do, cycling over projects of which half have a custom workflow.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class WorkflowTransitionBenchmark {
+
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    private final TaskWorkflow custom = TaskWorkflow.compile(Map.of(
+            TaskStatus.TODO, EnumSet.of(TaskStatus.IN_PROGRESS),
+            TaskStatus.IN_PROGRESS, EnumSet.of(TaskStatus.DONE, TaskStatus.TODO)));
+
+    @Benchmark
+    public void switchBaseline(Blackhole blackhole) {
+        for (TaskStatus from : STATUSES) {
+            for (TaskStatus to : STATUSES) {
+                blackhole.consume(legacyCanTransitionTo(from, to));
+            }
+        }
+    }
+
+    @Benchmark
+    public void taskStatusCanTransitionTo(Blackhole blackhole) {
+        for (TaskStatus from : STATUSES) {
+            for (TaskStatus to : STATUSES) {
+                blackhole.consume(from.canTransitionTo(to));
+            }
+        }
+    }
+
+    @Benchmark
+    public void compiledProjectWorkflow(Blackhole blackhole) {
+        for (TaskStatus from : STATUSES) {
+            for (TaskStatus to : STATUSES) {
+                blackhole.consume(custom.canTransition(from, to));
+            }
+        }
+    }
+
+    @Benchmark
+    public void registryLookup(RegistryState state, Blackhole blackhole) {
+        long projectId = state.nextProjectId();
+        for (TaskStatus from : STATUSES) {
+            for (TaskStatus to : STATUSES) {
+                blackhole.consume(state.registry.forProject(projectId).canTransition(from, to));
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class RegistryState {
+
+        private static final int PROJECT_COUNT = 64;
+
+        private ConfigurableApplicationContext context;
+        private WorkflowRegistry registry;
+        private final long[] projectIds = new long[PROJECT_COUNT];
+        private int next;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            context = BenchmarkContext.start();
+            registry = context.getBean(WorkflowRegistry.class);
+            WorkflowService workflowService = context.getBean(WorkflowService.class);
+
+            JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+            long ownerId = BenchmarkContext.insertUser(jdbc, "owner");
+            for (int i = 0; i < PROJECT_COUNT; i++) {
+                projectIds[i] = BenchmarkContext.insertProject(jdbc, ownerId, "Project " + i);
+            }
+            // After all inserts: the first call caches the owner's project access
+            for (int i = 0; i < PROJECT_COUNT; i++) {
+                if (i % 2 == 0) {
+                    workflowService.updateProjectWorkflow(projectIds[i], Map.of(
+                            TaskStatus.TODO, EnumSet.of(TaskStatus.IN_PROGRESS),
+                            TaskStatus.IN_PROGRESS, EnumSet.of(TaskStatus.DONE, TaskStatus.TODO)), ownerId);
+                }
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            context.close();
+        }
+
+        long nextProjectId() {
+            next = (next + 1) % PROJECT_COUNT;
+            return projectIds[next];
+        }
+
+    }
+
+    // The switch TaskStatus.canTransitionTo used before workflows were compiled
+    private static boolean legacyCanTransitionTo(TaskStatus from, TaskStatus newStatus) {
+        return switch (from) {
+            case TODO -> newStatus == TaskStatus.IN_PROGRESS || newStatus == TaskStatus.CANCELLED;
+            case IN_PROGRESS -> newStatus == TaskStatus.IN_REVIEW || newStatus == TaskStatus.TODO || newStatus == TaskStatus.CANCELLED;
+            case IN_REVIEW -> newStatus == TaskStatus.TESTING || newStatus == TaskStatus.IN_PROGRESS || newStatus == TaskStatus.CANCELLED;
+            case TESTING -> newStatus == TaskStatus.DONE || newStatus == TaskStatus.IN_PROGRESS || newStatus == TaskStatus.CANCELLED;
+            case DONE, CANCELLED -> false;
+        };
+    }
+
+}
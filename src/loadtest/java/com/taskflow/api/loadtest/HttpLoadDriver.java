@@ -0,0 +1,113 @@
+package com.taskflow.api.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Closed-loop HTTP load driver: each of load.concurrency workers sends a request,
+ * waits for the response and immediately sends the next one.
+ *
+ * Used to compare the platform-thread and virtual-threads profiles of the same
+ * build: run the application once per mode and drive both with identical
+ * settings. The default target, /actuator/health, borrows a pooled connection
+ * to validate the datasource on every call, so it exercises the Tomcat -> Hikari
+ * -> MySQL path without depending on test data.
+ *
+ * System properties (pass as -Pload.* to the loadTest task):
+ * load.url, load.concurrency, load.warmup-seconds, load.duration-seconds,
+ * load.username, load.password (HTTP basic, optional)
+ *
+ * Every endpoint is authenticated and passwords go through the BCrypt encoder,
+ * so give the target's spring.security.user.password a low-cost hash
+ * ($2a$04$...) or hashing dominates the measured latency.
+ */
+public final class HttpLoadDriver {
+
+    private HttpLoadDriver() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+
+        URI target = URI.create(System.getProperty("load.url", "http://localhost:8080/api/actuator/health"));
+        int concurrency = Integer.getInteger("load.concurrency", 500);
+        Duration warmup = Duration.ofSeconds(Integer.getInteger("load.warmup-seconds", 10));
+        Duration duration = Duration.ofSeconds(Integer.getInteger("load.duration-seconds", 30));
+
+        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(target).timeout(Duration.ofSeconds(30)).GET();
+        String username = System.getProperty("load.username");
+        if (username != null) {
+            String credentials = username + ":" + System.getProperty("load.password", "");
+            requestBuilder.header("Authorization", "Basic " +
+                    Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8)));
+        }
+        HttpRequest request = requestBuilder.build();
+
+        // Workers block in send(); the client keeps its own executor for connection handling
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        System.out.printf("Driving %s with %d concurrent clients (warmup %ds, measure %ds)%n",
+                target, concurrency, warmup.toSeconds(), duration.toSeconds());
+
+        run(client, request, concurrency, warmup, workers);
+        LatencyRecorder.Summary summary = run(client, request, concurrency, duration, workers);
+
+        System.out.println(summary);
+        workers.shutdownNow();
+
+    }
+
+    private static LatencyRecorder.Summary run(HttpClient client, HttpRequest request, int concurrency,
+                                               Duration duration, ExecutorService workers) throws InterruptedException {
+
+        List<LatencyRecorder> recorders = new ArrayList<>(concurrency);
+        CountDownLatch done = new CountDownLatch(concurrency);
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+
+        for (int i = 0; i < concurrency; i++) {
+            LatencyRecorder recorder = new LatencyRecorder();
+            recorders.add(recorder);
+            workers.execute(() -> {
+                try {
+                    while (System.nanoTime() < deadline) {
+                        long sent = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 400) {
+                                recorder.recordError();
+                            } else {
+                                recorder.record(System.nanoTime() - sent);
+                            }
+                        } catch (IOException e) {
+                            recorder.recordError();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        done.await();
+        return LatencyRecorder.summarize(recorders, System.nanoTime() - start);
+
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.taskflow.api.loadtest;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Per-worker latency samples in nanoseconds. Not thread-safe: each worker
+ * records into its own instance and the instances are merged at the end.
+ */
+public final class LatencyRecorder {
+
+    private long[] samples = new long[4_096];
+    private int size;
+    private long errors;
+
+    public void record(long nanos) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = nanos;
+    }
+
+    public void recordError() {
+        errors++;
+    }
+
+    public static Summary summarize(Collection<LatencyRecorder> recorders, long elapsedNanos) {
+
+        long[] merged = new long[recorders.stream().mapToInt(r -> r.size).sum()];
+        long errors = 0;
+        int offset = 0;
+        for (LatencyRecorder recorder : recorders) {
+            System.arraycopy(recorder.samples, 0, merged, offset, recorder.size);
+            offset += recorder.size;
+            errors += recorder.errors;
+        }
+        Arrays.sort(merged);
+
+        return new Summary(merged.length, errors, merged.length * 1e9 / elapsedNanos,
+                percentile(merged, 50), percentile(merged, 90), percentile(merged, 99), percentile(merged, 99.9),
+                merged.length == 0 ? 0 : merged[merged.length - 1]);
+
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    public record Summary(long requests, long errors, double throughputPerSecond,
+                          long p50Nanos, long p90Nanos, long p99Nanos, long p999Nanos, long maxNanos) {
+
+        @Override
+        public String toString() {
+            return String.format("requests=%d errors=%d throughput=%.1f/s p50=%.2fms p90=%.2fms p99=%.2fms p99.9=%.2fms max=%.2fms",
+                    requests, errors, throughputPerSecond,
+                    p50Nanos / 1e6, p90Nanos / 1e6, p99Nanos / 1e6, p999Nanos / 1e6, maxNanos / 1e6);
+        }
+
+    }
+
+}
@@ -0,0 +1,241 @@
+package com.taskflow.api.loadtest;
+
+import com.taskflow.api.TaskFlowApiApplication;
+import com.taskflow.api.model.Task;
+import com.taskflow.api.model.enums.Priority;
+import com.taskflow.api.model.enums.TaskStatus;
+import com.taskflow.api.service.ProjectService;
+import com.taskflow.api.service.TaskService;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Closed-loop load against the service layer of an in-process instance running the
+ * loadtest profile, seeded by SyntheticDataGenerator. Each of load.concurrency workers
+ * picks an operation from the mix, runs it to completion and immediately picks the next.
+ *
+ * The application has no REST API for tasks and projects yet, so the mix calls the
+ * services directly: every operation still runs in its own transaction with the
+ * after-commit index updates, but without HTTP, security or JSON.
+ *
+ * System properties (pass as -Pload.* to the serviceLoadTest task):
+ * load.concurrency, load.warmup-seconds, load.duration-seconds, load.seed,
+ * load.mix (weights, default taskRead=40,taskPage=20,projectStats=10,create=15,transition=15),
+ * load.data.users, load.data.projects, load.data.tasks, load.data.comments-per-task
+ */
+public final class ServiceLoadDriver {
+
+    enum Operation {
+        TASK_READ("taskRead", 40),
+        TASK_PAGE("taskPage", 20),
+        PROJECT_STATS("projectStats", 10),
+        CREATE("create", 15),
+        TRANSITION("transition", 15);
+
+        private final String key;
+        private final int defaultWeight;
+
+        Operation(String key, int defaultWeight) {
+            this.key = key;
+            this.defaultWeight = defaultWeight;
+        }
+    }
+
+    private static final int PAGE_SIZE = 20;
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    private final TaskService taskService;
+    private final ProjectService projectService;
+    private final SyntheticDataset dataset;
+
+    private ServiceLoadDriver(ConfigurableApplicationContext context) {
+        this.taskService = context.getBean(TaskService.class);
+        this.projectService = context.getBean(ProjectService.class);
+        this.dataset = context.getBean(SyntheticDataGenerator.class).dataset();
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+
+        int concurrency = Integer.getInteger("load.concurrency", 16);
+        Duration warmup = Duration.ofSeconds(Integer.getInteger("load.warmup-seconds", 10));
+        Duration duration = Duration.ofSeconds(Integer.getInteger("load.duration-seconds", 30));
+        long seed = Long.getLong("load.seed", 7);
+        Operation[] schedule = schedule(parseMix(System.getProperty("load.mix", "")));
+
+        // Replaces the default dev profile rather than adding to it
+        List<String> applicationArgs = new ArrayList<>(List.of("--spring.profiles.active=loadtest"));
+        applicationArgs.addAll(List.of(args));
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(TaskFlowApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(applicationArgs.toArray(String[]::new));
+
+        ServiceLoadDriver driver = new ServiceLoadDriver(context);
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+
+        System.out.printf("Driving the service layer with %d concurrent clients over %d tasks (warmup %ds, measure %ds)%n",
+                concurrency, driver.dataset.taskCount(), warmup.toSeconds(), duration.toSeconds());
+
+        driver.run(schedule, concurrency, warmup, seed, workers);
+        Map<String, LatencyRecorder.Summary> summaries = driver.run(schedule, concurrency, duration, seed + 1, workers);
+
+        summaries.forEach((name, summary) -> System.out.printf("%-12s %s%n", name, summary));
+        workers.shutdownNow();
+        context.close();
+
+    }
+
+    /**
+     * Returns one summary per operation, then one for the mix as a whole under "total".
+     */
+    private Map<String, LatencyRecorder.Summary> run(Operation[] schedule, int concurrency, Duration duration,
+                                                     long seed, ExecutorService workers) throws InterruptedException {
+
+        List<Map<Operation, LatencyRecorder>> recorders = new ArrayList<>(concurrency);
+        CountDownLatch done = new CountDownLatch(concurrency);
+        SplittableRandom seeds = new SplittableRandom(seed);
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+
+        for (int i = 0; i < concurrency; i++) {
+            Map<Operation, LatencyRecorder> workerRecorders = new EnumMap<>(Operation.class);
+            for (Operation operation : Operation.values()) {
+                workerRecorders.put(operation, new LatencyRecorder());
+            }
+            recorders.add(workerRecorders);
+            SplittableRandom random = seeds.split();
+
+            workers.execute(() -> {
+                try {
+                    while (System.nanoTime() < deadline) {
+                        Operation operation = schedule[random.nextInt(schedule.length)];
+                        LatencyRecorder recorder = workerRecorders.get(operation);
+                        long sent = System.nanoTime();
+                        try {
+                            execute(operation, random);
+                            recorder.record(System.nanoTime() - sent);
+                        } catch (RuntimeException e) {
+                            recorder.recordError();
+                        }
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        done.await();
+        long elapsed = System.nanoTime() - start;
+
+        Map<String, LatencyRecorder.Summary> summaries = new LinkedHashMap<>();
+        for (Operation operation : Operation.values()) {
+            summaries.put(operation.key, LatencyRecorder.summarize(recorders.stream().map(r -> r.get(operation)).toList(), elapsed));
+        }
+        summaries.put("total", LatencyRecorder.summarize(recorders.stream().flatMap(r -> r.values().stream()).toList(), elapsed));
+        return summaries;
+
+    }
+
+    private void execute(Operation operation, SplittableRandom random) {
+        switch (operation) {
+            case TASK_READ -> {
+                int task = dataset.randomTask(random);
+                taskService.findByIdWithAccess(dataset.taskId(task), dataset.taskOwner(task));
+            }
+            case TASK_PAGE -> {
+                int project = dataset.randomProject(random);
+                taskService.findProjectTaskSummaries(dataset.projectIds()[project], dataset.projectOwners()[project], null, PAGE_SIZE);
+            }
+            case PROJECT_STATS -> {
+                int project = dataset.randomProject(random);
+                projectService.getProjectWithStats(dataset.projectIds()[project], dataset.projectOwners()[project]);
+            }
+            case CREATE -> {
+                int project = dataset.randomProject(random);
+                Task task = Task.builder()
+                        .title("Load task")
+                        .description("Created by the service load driver")
+                        .priority(Priority.values()[random.nextInt(Priority.values().length)])
+                        .dueDate(LocalDateTime.now().plusDays(random.nextInt(1, 30)))
+                        .build();
+                taskService.createTask(task, dataset.projectIds()[project], dataset.projectOwners()[project]);
+            }
+            case TRANSITION -> transition(random);
+        }
+    }
+
+    // Reads the task and moves it to a random allowed status; terminal tasks are skipped over
+    private void transition(SplittableRandom random) {
+        for (int attempt = 0; attempt < 8; attempt++) {
+            int task = dataset.randomTask(random);
+            long taskId = dataset.taskId(task);
+            long userId = dataset.taskOwner(task);
+
+            TaskStatus current = taskService.findByIdWithAccess(taskId, userId).getStatus();
+            TaskStatus[] targets = new TaskStatus[STATUSES.length];
+            int count = 0;
+            for (TaskStatus status : STATUSES) {
+                if (current.canTransitionTo(status)) {
+                    targets[count++] = status;
+                }
+            }
+            if (count > 0) {
+                taskService.changeTaskStatus(taskId, targets[random.nextInt(count)], userId);
+                return;
+            }
+        }
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            weights.put(operation, operation.defaultWeight);
+        }
+        if (mix.isBlank()) {
+            return weights;
+        }
+
+        weights.replaceAll((operation, weight) -> 0);
+        for (String entry : mix.split(",")) {
+            String[] keyValue = entry.split("=", 2);
+            Operation operation = null;
+            for (Operation candidate : Operation.values()) {
+                if (candidate.key.equals(keyValue[0].trim())) {
+                    operation = candidate;
+                }
+            }
+            if (operation == null || keyValue.length != 2) {
+                throw new IllegalArgumentException("Invalid load.mix entry: " + entry);
+            }
+            weights.put(operation, Integer.parseInt(keyValue[1].trim()));
+        }
+        return weights;
+    }
+
+    // Operations repeated by weight, so picking a random slot follows the mix
+    private static Operation[] schedule(Map<Operation, Integer> weights) {
+        List<Operation> schedule = new ArrayList<>();
+        weights.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                schedule.add(operation);
+            }
+        });
+        if (schedule.isEmpty()) {
+            throw new IllegalArgumentException("load.mix has no positive weights");
+        }
+        return schedule.toArray(Operation[]::new);
+    }
+
+}
@@ -0,0 +1,203 @@
+package com.taskflow.api.loadtest;
+
+import com.taskflow.api.model.Project;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Seeds the loadtest database with users, projects, tasks and comments in plain JDBC batches.
+ *
+ * Runs as an ApplicationRunner, i.e. before ApplicationReadyEvent, so the search, facet
+ * and overdue indexes pick the data up through their normal rebuild-on-startup path.
+ * Scale is set with the load.data.* properties; the same load.data.seed gives the same data.
+ */
+@Component
+@Profile("loadtest")
+public class SyntheticDataGenerator implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final String[] STATUSES = {"TODO", "IN_PROGRESS", "IN_REVIEW", "TESTING", "DONE", "CANCELLED"};
+    private static final String[] PRIORITIES = {"LOW", "MEDIUM", "HIGH", "URGENT"};
+    private static final String[] WORDS = {"api", "login", "report", "export", "cache", "search", "billing",
+            "dashboard", "migration", "timeout", "mobile", "invoice", "upload", "notification", "permissions"};
+
+    private final JdbcTemplate jdbc;
+
+    @Value("${load.data.users:1000}")
+    private int userCount;
+
+    @Value("${load.data.projects:2000}")
+    private int projectCount;
+
+    @Value("${load.data.tasks:100000}")
+    private int taskCount;
+
+    @Value("${load.data.comments-per-task:2}")
+    private int commentsPerTask;
+
+    @Value("${load.data.seed:42}")
+    private long seed;
+
+    private volatile SyntheticDataset dataset;
+
+    public SyntheticDataGenerator(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    public SyntheticDataset dataset() {
+        if (dataset == null) {
+            throw new IllegalStateException("Synthetic data has not been generated yet");
+        }
+        return dataset;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+
+        log.info("Generating {} users, {} projects, {} tasks and {} comments",
+                userCount, projectCount, taskCount, (long) taskCount * commentsPerTask);
+        long start = System.nanoTime();
+
+        SplittableRandom random = new SplittableRandom(seed);
+        LocalDateTime now = LocalDateTime.now();
+
+        long[] userIds = insertUsers(now);
+        long[] projectIds = new long[projectCount];
+        long[] projectOwners = new long[projectCount];
+        insertProjects(random, userIds, projectIds, projectOwners, now);
+        long firstTaskId = insertTasks(random, userIds, projectIds, now);
+        insertComments(random, userIds, firstTaskId, now);
+
+        dataset = new SyntheticDataset(userIds, projectIds, projectOwners, firstTaskId, taskCount);
+
+        log.info("Generated synthetic data in {} ms", (System.nanoTime() - start) / 1_000_000);
+
+    }
+
+    private long[] insertUsers(LocalDateTime now) {
+
+        // One cheap hash for everyone; nothing in the load mix authenticates
+        String password = new BCryptPasswordEncoder(4).encode("password");
+        Timestamp createdAt = Timestamp.valueOf(now.minusYears(1));
+
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < userCount; i++) {
+            batch.add(new Object[]{"user" + i, "user" + i + "@load.local", password, i % 50 == 0 ? "ADMIN" : "DEVELOPER",
+                    createdAt, createdAt});
+            if (batch.size() == BATCH_SIZE || i == userCount - 1) {
+                jdbc.batchUpdate("INSERT INTO users (username, email, password, first_name, last_name, role, is_active, " +
+                        "created_at, updated_at) VALUES (?, ?, ?, 'Load', 'User', ?, TRUE, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+
+        return jdbc.queryForList("SELECT id FROM users ORDER BY id", Long.class).stream().mapToLong(Long::longValue).toArray();
+
+    }
+
+    private void insertProjects(SplittableRandom random, long[] userIds, long[] projectIds, long[] projectOwners,
+                                LocalDateTime now) {
+
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < projectCount; i++) {
+            projectOwners[i] = userIds[random.nextInt(userIds.length)];
+            Timestamp createdAt = Timestamp.valueOf(now.minusDays(random.nextInt(1, 365)));
+            String name = "Project " + i;
+            batch.add(new Object[]{name, Project.nameKey(name), "Synthetic project " + i, projectOwners[i], createdAt, createdAt});
+            if (batch.size() == BATCH_SIZE || i == projectCount - 1) {
+                jdbc.batchUpdate("INSERT INTO projects (name, active_name_key, description, owner_id, is_active, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, ?, TRUE, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+
+        List<Long> ids = jdbc.queryForList("SELECT id FROM projects ORDER BY id", Long.class);
+        for (int i = 0; i < projectCount; i++) {
+            projectIds[i] = ids.get(i);
+        }
+
+    }
+
+    /**
+     * Task i belongs to project i % projectCount and gets ID firstTaskId + i.
+     */
+    private long insertTasks(SplittableRandom random, long[] userIds, long[] projectIds, LocalDateTime now) {
+
+        long firstId = jdbc.queryForObject("SELECT NEXT VALUE FOR task_seq", Long.class);
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < taskCount; i++) {
+            Timestamp createdAt = Timestamp.valueOf(now.minusMinutes(taskCount - i));
+            // Due dates fall from a month ago to two months ahead, so some open tasks start out overdue
+            Timestamp dueDate = random.nextInt(5) == 0 ? null : Timestamp.valueOf(now.plusHours(random.nextInt(-720, 1440)));
+            Long assigneeId = random.nextInt(10) == 0 ? null : userIds[random.nextInt(userIds.length)];
+            batch.add(new Object[]{
+                    firstId + i, "Fix " + phrase(random, 3), "Investigate " + phrase(random, 12),
+                    STATUSES[random.nextInt(STATUSES.length)], PRIORITIES[random.nextInt(PRIORITIES.length)],
+                    projectIds[i % projectIds.length], assigneeId, dueDate, random.nextInt(1, 17),
+                    createdAt, createdAt});
+
+            if (batch.size() == BATCH_SIZE || i == taskCount - 1) {
+                jdbc.batchUpdate("INSERT INTO tasks (id, title, description, status, priority, project_id, assignee_id, " +
+                        "due_date, estimated_hours, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+
+        // Move the sequence past the explicit IDs, plus a whole allocationSize block
+        jdbc.execute("ALTER SEQUENCE task_seq RESTART WITH " + (firstId + taskCount + 100));
+        return firstId;
+
+    }
+
+    private void insertComments(SplittableRandom random, long[] userIds, long firstTaskId, LocalDateTime now) {
+
+        long commentCount = (long) taskCount * commentsPerTask;
+        if (commentCount == 0) {
+            return;
+        }
+
+        long firstId = jdbc.queryForObject("SELECT NEXT VALUE FOR comment_seq", Long.class);
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (long i = 0; i < commentCount; i++) {
+            Timestamp createdAt = Timestamp.valueOf(now.minusMinutes(commentCount - i));
+            batch.add(new Object[]{firstId + i, "Looked at the " + phrase(random, 8), firstTaskId + i / commentsPerTask,
+                    userIds[random.nextInt(userIds.length)], createdAt, createdAt});
+
+            if (batch.size() == BATCH_SIZE || i == commentCount - 1) {
+                jdbc.batchUpdate("INSERT INTO comments (id, content, task_id, author_id, is_edited, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, ?, FALSE, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+
+        jdbc.execute("ALTER SEQUENCE comment_seq RESTART WITH " + (firstId + commentCount + 100));
+
+    }
+
+    private static String phrase(SplittableRandom random, int words) {
+        StringBuilder phrase = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                phrase.append(' ');
+            }
+            phrase.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return phrase.toString();
+    }
+
+}
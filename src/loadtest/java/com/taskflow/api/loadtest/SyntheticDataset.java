@@ -0,0 +1,27 @@
+package com.taskflow.api.loadtest;
+
+import java.util.SplittableRandom;
+
+/**
+ * IDs of the generated data: task i has ID firstTaskId + i and belongs to
+ * projectIds[i % projectIds.length], which is owned by projectOwners[i % projectIds.length].
+ */
+public record SyntheticDataset(long[] userIds, long[] projectIds, long[] projectOwners, long firstTaskId, int taskCount) {
+
+    public int randomProject(SplittableRandom random) {
+        return random.nextInt(projectIds.length);
+    }
+
+    public int randomTask(SplittableRandom random) {
+        return random.nextInt(taskCount);
+    }
+
+    public long taskId(int task) {
+        return firstTaskId + task;
+    }
+
+    public long taskOwner(int task) {
+        return projectOwners[task % projectIds.length];
+    }
+
+}
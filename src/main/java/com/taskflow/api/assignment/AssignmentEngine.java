@@ -0,0 +1,349 @@
+package com.taskflow.api.assignment;
+
+import com.taskflow.api.event.TaskChangedEvent;
+import com.taskflow.api.event.TaskSnapshot;
+import com.taskflow.api.event.UserChangedEvent;
+import com.taskflow.api.exception.ResourceNotFoundException;
+import com.taskflow.api.model.User;
+import com.taskflow.api.model.UserWorkload;
+import com.taskflow.api.model.enums.Role;
+import com.taskflow.api.model.enums.TaskStatus;
+import com.taskflow.api.pagination.CursorPage;
+import com.taskflow.api.repository.UserWorkloadRepository;
+import com.taskflow.api.service.UserService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Least-loaded assignment over the active developers and testers.
+ *
+ * One LoadHeap per eligible role, keyed by the open estimated hours from
+ * user_workloads. Committed task changes move the loads; a pick made inside a
+ * transaction is reserved on the chosen user until that transaction completes,
+ * so a bulk assignment (or concurrent creates) spreads instead of piling onto
+ * one user before any of it is committed. The heaps are rebuilt from the
+ * database periodically, which also picks up writes made by other instances.
+ *
+ * Users whose load changes while a rebuild is reading are read again before
+ * the rebuilt heaps are swapped in. Re-reading, unlike replaying the deltas,
+ * cannot count a change twice when the rebuild's read already included it.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AssignmentEngine {
+
+    private static final int REBUILD_PAGE_SIZE = CursorPage.MAX_SIZE;
+    private static final int MAX_REBUILD_CATCH_UP_ROUNDS = 10;
+
+    private final UserService userService;
+    private final UserWorkloadRepository workloadRepository;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    // Scheduled and on-demand rebuilds run one after the other
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private Map<Role, LoadHeap> pools = newPools();
+    private Set<Long> changedDuringRebuild;
+
+    @Value("${app.assignment.rebuild-on-startup:true}")
+    private boolean rebuildOnStartup;
+
+    /**
+     * Role that works on tasks in the given status: testers take TESTING, developers everything else.
+     */
+    public static Role roleFor(TaskStatus status) {
+        return status == TaskStatus.TESTING ? Role.TESTER : Role.DEVELOPER;
+    }
+
+    /**
+     * Picks the least-loaded user for a task and reserves its hours on them
+     * until the current transaction ends. Returns null if nobody is eligible.
+     */
+    public Long assign(TaskStatus status, Integer estimatedHours) {
+
+        long hours = hours(estimatedHours);
+
+        lock.lock();
+        try {
+            LoadHeap pool = pools.get(roleFor(status));
+            Long userId = pool.peek();
+            if (userId != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+                pool.adjust(userId, hours, 1);
+                reservations().add(new Reservation(pool, userId, hours));
+            }
+            return userId;
+        } finally {
+            lock.unlock();
+        }
+
+    }
+
+    public long loadOf(Long userId) {
+
+        lock.lock();
+        try {
+            for (LoadHeap pool : pools.values()) {
+                if (pool.contains(userId)) {
+                    return pool.hoursOf(userId);
+                }
+            }
+            return 0;
+        } finally {
+            lock.unlock();
+        }
+
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+
+        lock.lock();
+        try {
+            if (counts(event.previous())) {
+                adjust(event.previous().assigneeId(), -hours(event.previous().estimatedHours()), -1);
+            }
+            if (counts(event.current())) {
+                adjust(event.current().assigneeId(), hours(event.current().estimatedHours()), 1);
+            }
+            if (changedDuringRebuild != null) {
+                if (counts(event.previous())) {
+                    changedDuringRebuild.add(event.previous().assigneeId());
+                }
+                if (counts(event.current())) {
+                    changedDuringRebuild.add(event.current().assigneeId());
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+    }
+
+    /**
+     * Registration, role changes and (de)activation move the user between pools.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+
+        User user = findUser(event.userId());
+        UserWorkload workload = user != null ? workloadRepository.findById(user.getId()).orElse(null) : null;
+
+        lock.lock();
+        try {
+            replace(pools, event.userId(), user, workload);
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.add(event.userId());
+            }
+        } finally {
+            lock.unlock();
+        }
+
+    }
+
+    /**
+     * Reloads active users and their loads page by page, reads again the users
+     * whose load changed meanwhile, then swaps the heaps in.
+     */
+    @Scheduled(fixedDelayString = "${app.assignment.refresh-interval-ms:300000}",
+            initialDelayString = "${app.assignment.refresh-interval-ms:300000}")
+    public void rebuild() {
+
+        log.debug("Rebuilding assignment heaps");
+
+        rebuildLock.lock();
+        try {
+            lock.lock();
+            try {
+                changedDuringRebuild = new HashSet<>();
+            } finally {
+                lock.unlock();
+            }
+
+            Map<Role, LoadHeap> rebuilt = load();
+            for (int round = 0; round < MAX_REBUILD_CATCH_UP_ROUNDS; round++) {
+                Set<Long> changed = takeChangedOrSwapIn(rebuilt);
+                if (changed.isEmpty()) {
+                    log.info("Assignment heaps rebuilt: {} developers, {} testers",
+                            rebuilt.get(Role.DEVELOPER).size(), rebuilt.get(Role.TESTER).size());
+                    return;
+                }
+                reload(rebuilt, changed);
+            }
+            log.warn("Assignment heaps rebuild abandoned: loads kept changing, keeping the current heaps");
+        } finally {
+            lock.lock();
+            try {
+                changedDuringRebuild = null;
+            } finally {
+                lock.unlock();
+            }
+            rebuildLock.unlock();
+        }
+
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (rebuildOnStartup) {
+            rebuild();
+        }
+    }
+
+    private Map<Role, LoadHeap> load() {
+
+        Map<Role, LoadHeap> rebuilt = newPools();
+        String cursor = null;
+        do {
+            CursorPage<User> page = userService.findAllActiveUsers(cursor, REBUILD_PAGE_SIZE);
+            List<User> users = page.items().stream().filter(AssignmentEngine::eligible).toList();
+            Map<Long, UserWorkload> workloads = workloadRepository.findAllById(users.stream().map(User::getId).toList())
+                    .stream().collect(Collectors.toMap(UserWorkload::getUserId, Function.identity()));
+            for (User user : users) {
+                put(rebuilt, user.getId(), user.getRole(), workloads.get(user.getId()));
+            }
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        return rebuilt;
+
+    }
+
+    /**
+     * Swaps the rebuilt heaps in if no load changed since the last call; otherwise returns the users that changed.
+     */
+    private Set<Long> takeChangedOrSwapIn(Map<Role, LoadHeap> rebuilt) {
+        lock.lock();
+        try {
+            Set<Long> changed = changedDuringRebuild;
+            if (changed.isEmpty()) {
+                pools = rebuilt;
+            } else {
+                changedDuringRebuild = new HashSet<>();
+            }
+            return changed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Read after the changes committed (their events are delivered after commit), so the rows include them
+    private void reload(Map<Role, LoadHeap> rebuilt, Set<Long> userIds) {
+
+        log.debug("Reloading assignment loads changed during the rebuild for user IDs: {}", userIds);
+
+        Map<Long, UserWorkload> workloads = workloadRepository.findAllById(userIds)
+                .stream().collect(Collectors.toMap(UserWorkload::getUserId, Function.identity()));
+        for (Long userId : userIds) {
+            replace(rebuilt, userId, findUser(userId), workloads.get(userId));
+        }
+
+    }
+
+    private User findUser(Long userId) {
+        try {
+            return userService.findById(userId);
+        } catch (ResourceNotFoundException e) {
+            return null;
+        }
+    }
+
+    private static void replace(Map<Role, LoadHeap> pools, Long userId, User user, UserWorkload workload) {
+        pools.values().forEach(pool -> pool.remove(userId));
+        if (user != null && eligible(user)) {
+            put(pools, userId, user.getRole(), workload);
+        }
+    }
+
+    private void adjust(Long userId, long hours, int openTasks) {
+        for (LoadHeap pool : pools.values()) {
+            if (pool.adjust(userId, hours, openTasks)) {
+                return;
+            }
+        }
+    }
+
+    private static void put(Map<Role, LoadHeap> pools, Long userId, Role role, UserWorkload workload) {
+        pools.get(role).put(userId,
+                workload != null ? workload.getEstimatedHoursRemaining() : 0,
+                workload != null ? workload.getOpenCount() : 0);
+    }
+
+    private static Map<Role, LoadHeap> newPools() {
+        Map<Role, LoadHeap> pools = new EnumMap<>(Role.class);
+        pools.put(Role.DEVELOPER, new LoadHeap());
+        pools.put(Role.TESTER, new LoadHeap());
+        return pools;
+    }
+
+    private static boolean eligible(User user) {
+        return Boolean.TRUE.equals(user.getIsActive()) && (user.getRole() == Role.DEVELOPER || user.getRole() == Role.TESTER);
+    }
+
+    private static boolean counts(TaskSnapshot task) {
+        return task != null && task.assigneeId() != null && task.status().isOpen();
+    }
+
+    private static long hours(Integer estimatedHours) {
+        return estimatedHours != null ? estimatedHours : 0;
+    }
+
+    private List<Reservation> reservations() {
+        PendingReservations pending = (PendingReservations) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingReservations();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        return pending.reservations;
+    }
+
+    // Held against the heap it was made on, so a rebuild in between cannot make the release skew the new one
+    private record Reservation(LoadHeap pool, Long userId, long hours) {
+    }
+
+    private final class PendingReservations implements TransactionSynchronization {
+
+        private final List<Reservation> reservations = new ArrayList<>();
+
+        /**
+         * Committed assignments have already been added by onTaskChanged (AFTER_COMMIT runs first),
+         * rolled back ones never will be; either way the reservation goes.
+         */
+        @Override
+        public void afterCompletion(int status) {
+
+            TransactionSynchronizationManager.unbindResourceIfPossible(AssignmentEngine.this);
+
+            lock.lock();
+            try {
+                for (Reservation reservation : reservations) {
+                    reservation.pool().adjust(reservation.userId(), -reservation.hours(), -1);
+                }
+            } finally {
+                lock.unlock();
+            }
+
+        }
+
+    }
+
+}
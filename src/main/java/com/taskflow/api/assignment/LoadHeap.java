@@ -0,0 +1,168 @@
+package com.taskflow.api.assignment;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Indexed binary min-heap of users keyed by open estimated hours, then open
+ * task count (so unestimated tasks still spread), then user ID.
+ *
+ * Every entry knows its slot, so changing one user's load or removing them is
+ * a sift from that slot: O(log n) instead of the O(n) remove of PriorityQueue.
+ * Not thread-safe; callers synchronize (see AssignmentEngine).
+ */
+final class LoadHeap {
+
+    private static final class Entry {
+
+        private final long userId;
+        private long hours;
+        private int openTasks;
+        private int slot;
+
+        private Entry(long userId, long hours, int openTasks) {
+            this.userId = userId;
+            this.hours = hours;
+            this.openTasks = openTasks;
+        }
+
+    }
+
+    private final List<Entry> heap = new ArrayList<>();
+    private final Map<Long, Entry> entries = new HashMap<>();
+
+    /**
+     * Adds the user, or replaces the load of one already present.
+     */
+    void put(long userId, long hours, int openTasks) {
+
+        Entry entry = entries.get(userId);
+        if (entry != null) {
+            entry.hours = hours;
+            entry.openTasks = openTasks;
+            resift(entry);
+            return;
+        }
+
+        entry = new Entry(userId, hours, openTasks);
+        entry.slot = heap.size();
+        heap.add(entry);
+        entries.put(userId, entry);
+        siftUp(entry.slot);
+
+    }
+
+    /**
+     * Adds to the user's load; returns false if the user is not in this heap.
+     */
+    boolean adjust(long userId, long hours, int openTasks) {
+
+        Entry entry = entries.get(userId);
+        if (entry == null) {
+            return false;
+        }
+
+        entry.hours += hours;
+        entry.openTasks += openTasks;
+        resift(entry);
+        return true;
+
+    }
+
+    boolean remove(long userId) {
+
+        Entry entry = entries.remove(userId);
+        if (entry == null) {
+            return false;
+        }
+
+        Entry last = heap.remove(heap.size() - 1);
+        if (last != entry) {
+            last.slot = entry.slot;
+            heap.set(last.slot, last);
+            resift(last);
+        }
+        return true;
+
+    }
+
+    /**
+     * The least-loaded user, or null when the heap is empty.
+     */
+    Long peek() {
+        return heap.isEmpty() ? null : heap.get(0).userId;
+    }
+
+    boolean contains(long userId) {
+        return entries.containsKey(userId);
+    }
+
+    long hoursOf(long userId) {
+        Entry entry = entries.get(userId);
+        return entry != null ? entry.hours : 0;
+    }
+
+    int size() {
+        return heap.size();
+    }
+
+    private void resift(Entry entry) {
+        int slot = entry.slot;
+        siftUp(slot);
+        if (entry.slot == slot) {
+            siftDown(slot);
+        }
+    }
+
+    private void siftUp(int slot) {
+        Entry entry = heap.get(slot);
+        while (slot > 0) {
+            int parentSlot = (slot - 1) >>> 1;
+            Entry parent = heap.get(parentSlot);
+            if (!less(entry, parent)) {
+                break;
+            }
+            place(parent, slot);
+            slot = parentSlot;
+        }
+        place(entry, slot);
+    }
+
+    private void siftDown(int slot) {
+        Entry entry = heap.get(slot);
+        int half = heap.size() >>> 1;
+        while (slot < half) {
+            int childSlot = 2 * slot + 1;
+            Entry child = heap.get(childSlot);
+            int rightSlot = childSlot + 1;
+            if (rightSlot < heap.size() && less(heap.get(rightSlot), child)) {
+                childSlot = rightSlot;
+                child = heap.get(rightSlot);
+            }
+            if (!less(child, entry)) {
+                break;
+            }
+            place(child, slot);
+            slot = childSlot;
+        }
+        place(entry, slot);
+    }
+
+    private void place(Entry entry, int slot) {
+        heap.set(slot, entry);
+        entry.slot = slot;
+    }
+
+    private static boolean less(Entry a, Entry b) {
+        if (a.hours != b.hours) {
+            return a.hours < b.hours;
+        }
+        if (a.openTasks != b.openTasks) {
+            return a.openTasks < b.openTasks;
+        }
+        return a.userId < b.userId;
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.taskflow.api.cache;
+
+import com.taskflow.api.datasource.PrimaryReads;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * Runs cache loaders in their own short READ COMMITTED transaction
+ *
+ * A loader joining the caller's transaction would read through that transaction's
+ * snapshot, which may predate a change whose invalidation has already run, and
+ * see its uncommitted writes; either would then be cached for the whole TTL.
+ * Here every statement sees exactly what has committed when it runs. Eviction
+ * and patching wait for an in-flight load of the same key (Caffeine computes
+ * under the entry's lock), so a change committing mid-load is applied on top.
+ *
+ * Loads read the primary even when replicas are configured (see PrimaryReads):
+ * a lagging replica read would otherwise be cached for the whole TTL. Their
+ * connections come from a small pool of their own (see PrimaryReadsDataSource),
+ * since the caller's transaction usually holds one from the main pool meanwhile;
+ * a load started from inside another load joins its transaction instead.
+ */
+@Component
+public class CacheLoadTransaction {
+
+    private final TransactionTemplate transactionTemplate;
+
+    public CacheLoadTransaction(PlatformTransactionManager transactionManager) {
+
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        transactionTemplate.setReadOnly(true);
+    }
+
+    public <T> T load(Supplier<T> loader) {
+
+        // Already in a load: a second loader connection could wait on loads that wait on this one
+        if (PrimaryReads.isActive()) {
+            return loader.get();
+        }
+
+        return PrimaryReads.call(() -> transactionTemplate.execute(status -> loader.get()));
+
+    }
+
+}
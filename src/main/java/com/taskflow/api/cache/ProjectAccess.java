@@ -0,0 +1,20 @@
+package com.taskflow.api.cache;
+
+import java.util.Set;
+
+/**
+ * Precomputed answer to "which projects may this user see".
+ *
+ * Admins may access every project; everyone else only the projects they own.
+ */
+public record ProjectAccess(boolean admin, Set<Long> ownedProjectIds) {
+
+    public ProjectAccess {
+        ownedProjectIds = Set.copyOf(ownedProjectIds);
+    }
+
+    public boolean canAccess(Long projectId) {
+        return admin || ownedProjectIds.contains(projectId);
+    }
+
+}
@@ -0,0 +1,103 @@
+package com.taskflow.api.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskflow.api.event.ProjectOwnershipChangedEvent;
+import com.taskflow.api.event.UserChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Access-control index: user ID -> admin flag + owned project IDs
+ *
+ * Entries are loaded once per user and then patched in place as ownership
+ * changes commit, so access checks are a single in-memory lookup.
+ * Role/activation changes drop the entry; it is rebuilt on next use.
+ */
+@Component
+@Slf4j
+public class ProjectAccessIndex {
+
+    private final Cache<Long, ProjectAccess> cache;
+
+    public ProjectAccessIndex(@Value("${app.cache.project-access.maximum-size:10000}") long maximumSize,
+                              @Value("${app.cache.project-access.expire-after-write:30m}") Duration expireAfterWrite,
+                              MeterRegistry meterRegistry) {
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "project-access");
+    }
+
+    public ProjectAccess get(Long userId, Function<Long, ProjectAccess> loader) {
+        return cache.get(userId, loader);
+    }
+
+    public void evict(Long userId) {
+        cache.invalidate(userId);
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOwnershipChanged(ProjectOwnershipChangedEvent event) {
+
+        log.debug("Updating access index for project ID: {} ({} -> {})",
+                event.projectId(), event.previousOwnerId(), event.newOwnerId());
+
+        if (event.previousOwnerId() != null) {
+            patch(event.previousOwnerId(), access -> without(access, event.projectId()));
+        }
+
+        if (event.newOwnerId() != null) {
+            patch(event.newOwnerId(), access -> with(access, event.projectId()));
+        }
+
+    }
+
+    /**
+     * Runs after UserCache has evicted the same user, so a reload sees the new role.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        evict(event.userId());
+    }
+
+    /**
+     * compute, unlike computeIfPresent, waits for an in-flight load of the entry and
+     * patches its result; patches are idempotent, so a load that saw the change is fine too.
+     */
+    private void patch(Long userId, UnaryOperator<ProjectAccess> change) {
+        cache.asMap().compute(userId, (id, access) -> access != null ? change.apply(access) : null);
+    }
+
+    private static ProjectAccess with(ProjectAccess access, Long projectId) {
+        Set<Long> projectIds = new HashSet<>(access.ownedProjectIds());
+        projectIds.add(projectId);
+        return new ProjectAccess(access.admin(), projectIds);
+    }
+
+    private static ProjectAccess without(ProjectAccess access, Long projectId) {
+        Set<Long> projectIds = new HashSet<>(access.ownedProjectIds());
+        projectIds.remove(projectId);
+        return new ProjectAccess(access.admin(), projectIds);
+    }
+
+}
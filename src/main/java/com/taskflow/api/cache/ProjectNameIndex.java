@@ -0,0 +1,91 @@
+package com.taskflow.api.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskflow.api.event.ProjectNameChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Name-uniqueness index: owner ID -> name keys of the owner's active projects
+ *
+ * Loaded once per owner (name keys only, no entities) and patched in place as
+ * name changes commit, so the duplicate-name check is a single set probe. The
+ * unique (owner_id, active_name_key) constraint stays the source of truth: a
+ * create racing past the probe is still rejected by the database.
+ *
+ * Patches use compute, which waits for a load of the same owner still in flight
+ * and is applied on top of it; adding or removing a key is idempotent, so a load
+ * that already saw the change is unaffected.
+ */
+@Component
+@Slf4j
+public class ProjectNameIndex {
+
+    private final Cache<Long, Set<String>> cache;
+
+    public ProjectNameIndex(@Value("${app.cache.project-names.maximum-size:10000}") long maximumSize,
+                            @Value("${app.cache.project-names.expire-after-write:30m}") Duration expireAfterWrite,
+                            MeterRegistry meterRegistry) {
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "project-names");
+    }
+
+    public boolean contains(Long ownerId, String nameKey, Function<Long, Collection<String>> loader) {
+        return cache.get(ownerId, id -> newKeySet(loader.apply(id))).contains(nameKey);
+    }
+
+    public void evict(Long ownerId) {
+        cache.invalidate(ownerId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onNameChanged(ProjectNameChangedEvent event) {
+
+        log.debug("Updating name index for project ID: {} ({}:{} -> {}:{})", event.projectId(),
+                event.previousOwnerId(), event.previousNameKey(), event.ownerId(), event.nameKey());
+
+        if (event.previousOwnerId() != null && event.previousNameKey() != null) {
+            cache.asMap().compute(event.previousOwnerId(), (ownerId, keys) -> {
+                if (keys != null) {
+                    keys.remove(event.previousNameKey());
+                }
+                return keys;
+            });
+        }
+
+        if (event.ownerId() != null && event.nameKey() != null) {
+            cache.asMap().compute(event.ownerId(), (ownerId, keys) -> {
+                if (keys != null) {
+                    keys.add(event.nameKey());
+                }
+                return keys;
+            });
+        }
+
+    }
+
+    private static Set<String> newKeySet(Collection<String> keys) {
+        Set<String> set = ConcurrentHashMap.newKeySet(Math.max(16, keys.size() * 2));
+        set.addAll(keys);
+        return set;
+    }
+
+}
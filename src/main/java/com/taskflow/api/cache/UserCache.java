@@ -0,0 +1,84 @@
+package com.taskflow.api.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.taskflow.api.event.UserChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Bounded read-through cache of user snapshots keyed by user ID
+ *
+ * Entries expire after a fixed TTL and are evicted once the transaction that
+ * changed the user commits, so a rolled back change never drops a valid entry.
+ * Hit/miss counters are published as "cache.*" meters with cache=users.
+ */
+@Component
+@Slf4j
+public class UserCache {
+
+    private final Cache<Long, UserSnapshot> cache;
+
+    public UserCache(@Value("${app.cache.users.maximum-size:10000}") long maximumSize,
+                     @Value("${app.cache.users.expire-after-write:10m}") Duration expireAfterWrite,
+                     MeterRegistry meterRegistry) {
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "users");
+    }
+
+    /**
+     * Returns the cached snapshot, invoking the loader on a miss.
+     * Exceptions thrown by the loader propagate and nothing is cached.
+     */
+    public UserSnapshot get(Long userId, Function<Long, UserSnapshot> loader) {
+        return cache.get(userId, loader);
+    }
+
+    public void evict(Long userId) {
+        log.debug("Evicting cached user ID: {}", userId);
+        cache.invalidate(userId);
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long hitCount() {
+        return cache.stats().hitCount();
+    }
+
+    public long missCount() {
+        return cache.stats().missCount();
+    }
+
+    /**
+     * Ordered first so indexes derived from user snapshots reload fresh data.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        evict(event.userId());
+    }
+
+}
@@ -0,0 +1,21 @@
+package com.taskflow.api.cache;
+
+import com.taskflow.api.model.User;
+import com.taskflow.api.model.enums.Role;
+
+/**
+ * Immutable, detached view of the user fields needed by access checks.
+ *
+ * Safe to share across threads and transactions, unlike the managed User entity.
+ */
+public record UserSnapshot(Long id, String username, Role role, boolean active) {
+
+    public static UserSnapshot of(User user) {
+        return new UserSnapshot(user.getId(), user.getUsername(), user.getRole(), Boolean.TRUE.equals(user.getIsActive()));
+    }
+
+    public boolean isAdmin() {
+        return role == Role.ADMIN;
+    }
+
+}
@@ -0,0 +1,104 @@
+package com.taskflow.api.config;
+
+import com.taskflow.api.datasource.ReadWriteRoutingDataSource;
+import com.taskflow.api.datasource.ReadYourWritesTracker;
+import com.taskflow.api.datasource.ReplicaPool;
+import com.taskflow.api.datasource.ReplicaReadJpaDialect;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read/write splitting, active only when app.datasource.replica.urls is set.
+ *
+ * The primary pool is built from spring.datasource.* exactly as Boot would build it;
+ * the application-wide DataSource becomes a lazy proxy over the routing data source,
+ * so @Transactional(readOnly = true) work goes to the replicas. Hibernate's shared
+ * caches are only filled from the primary (see ReplicaReadJpaDialect).
+ */
+@Configuration
+@ConditionalOnProperty("app.datasource.replica.urls")
+@Slf4j
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaPool replicaPool(HikariDataSource primaryDataSource,
+                                   @Value("${app.datasource.replica.urls}") List<String> urls,
+                                   @Value("${app.datasource.replica.username:${spring.datasource.username:}}") String username,
+                                   @Value("${app.datasource.replica.password:${spring.datasource.password:}}") String password,
+                                   MeterRegistry meterRegistry) {
+
+        List<HikariDataSource> replicas = new ArrayList<>(urls.size());
+        for (String url : urls) {
+            HikariDataSource replica = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(url.trim())
+                    .username(username)
+                    .password(password)
+                    .build();
+            replica.setPoolName("replica-" + (replicas.size() + 1));
+            if (primaryDataSource.getMaximumPoolSize() > 0) {
+                replica.setMaximumPoolSize(primaryDataSource.getMaximumPoolSize());
+            }
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+
+        log.info("Routing read-only transactions to {} replica(s)", replicas.size());
+        return new ReplicaPool(replicas, meterRegistry);
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            @Value("${app.datasource.replica.read-your-writes-window:5s}") Duration window,
+            @Value("${app.datasource.replica.read-your-writes-maximum-size:100000}") long maximumSize) {
+        return new ReadYourWritesTracker(window, maximumSize);
+    }
+
+    @Bean
+    public static BeanPostProcessor replicaReadJpaDialectPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                // An explicit dialect takes precedence over the vendor adapter's
+                if (bean instanceof AbstractEntityManagerFactoryBean factoryBean) {
+                    factoryBean.setJpaDialect(new ReplicaReadJpaDialect());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaPool replicaPool,
+                                 ReadYourWritesTracker readYourWritesTracker) {
+
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primaryDataSource, replicaPool, readYourWritesTracker);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.taskflow.api.config;
+
+import com.taskflow.api.exception.DomainException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Applies app.exceptions.capture-stack-traces to DomainException, which is
+ * created outside the container and so reads the setting from a static flag.
+ */
+@Configuration
+@Slf4j
+public class ExceptionConfig {
+
+    public ExceptionConfig(@Value("${app.exceptions.capture-stack-traces:false}") boolean captureStackTraces) {
+
+        DomainException.setCaptureStackTraces(captureStackTraces);
+        if (captureStackTraces) {
+            log.info("Capturing stack traces for domain exceptions");
+        }
+
+    }
+
+}
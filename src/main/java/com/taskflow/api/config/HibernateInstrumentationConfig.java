@@ -0,0 +1,26 @@
+package com.taskflow.api.config;
+
+import com.taskflow.api.instrumentation.CountingStatementInspector;
+import com.taskflow.api.instrumentation.JdbcTimingSessionListener;
+import com.taskflow.api.instrumentation.RowCountingStatistics;
+import org.hibernate.stat.spi.StatisticsFactory;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class HibernateInstrumentationConfig {
+
+    /**
+     * Installs the hooks feeding SqlMetricsAspect: statement count, JDBC time and fetched rows
+     */
+    @Bean
+    public HibernatePropertiesCustomizer sqlMetricsHibernateCustomizer() {
+        return properties -> {
+            properties.put("hibernate.session_factory.statement_inspector", new CountingStatementInspector());
+            properties.put("hibernate.session.events.auto", JdbcTimingSessionListener.class.getName());
+            properties.put("hibernate.stats.factory", (StatisticsFactory) RowCountingStatistics::new);
+        };
+    }
+
+}
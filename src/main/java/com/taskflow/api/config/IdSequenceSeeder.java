@@ -0,0 +1,66 @@
+package com.taskflow.api.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Moves the task and comment ID sequences past the IDs already in use.
+ *
+ * Task and Comment take pooled IDs (allocationSize 50): a sequence value v hands out
+ * v - 49 .. v. Rows saved before the sequences existed, or inserted with explicit IDs,
+ * can leave a sequence below MAX(id), and inserts would then collide. Runs once every
+ * bean is created, before the web server takes requests, and never moves a sequence back.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdSequenceSeeder implements SmartInitializingSingleton {
+
+    private static final int ALLOCATION_SIZE = 50;
+    private static final Map<String, String> SEQUENCES = Map.of("tasks", "task_seq", "comments", "comment_seq");
+
+    private final JdbcTemplate jdbc;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        seed();
+    }
+
+    public void seed() {
+
+        // MySQL has no sequences: Hibernate keeps each one's next value in a one-row table
+        boolean tableSequences = "MySQL".equals(jdbc.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()));
+
+        SEQUENCES.forEach((table, sequence) -> seed(table, sequence, tableSequences));
+
+    }
+
+    private void seed(String table, String sequence, boolean tableSequence) {
+
+        long maxId = jdbc.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        long required = maxId + ALLOCATION_SIZE + 1;
+
+        boolean moved;
+        if (tableSequence) {
+            moved = jdbc.update("UPDATE " + sequence + " SET next_val = ? WHERE next_val < ?", required, required) > 0;
+        } else {
+            moved = jdbc.queryForObject("SELECT NEXT VALUE FOR " + sequence, Long.class) < required;
+            if (moved) {
+                jdbc.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + required);
+            }
+        }
+
+        if (moved) {
+            log.info("Moved {} past the highest ID in {} ({}) to {}", sequence, table, maxId, required);
+        }
+
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.taskflow.api.config;
+
+import com.taskflow.api.datasource.PrimaryReadsDataSource;
+import com.taskflow.api.datasource.PrimaryReadsPool;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Gives cache loads (PrimaryReads transactions) their own small pool on the primary.
+ *
+ * The pool is built from spring.datasource.* like the main one; the application-wide
+ * "dataSource" bean (Boot's pool, or the routing proxy of DataSourceRoutingConfig) is
+ * wrapped so that connections asked for inside PrimaryReads come from it. A request
+ * that misses a cache thus holds at most one connection of each pool.
+ */
+@Configuration
+public class PrimaryReadsPoolConfig {
+
+    @Bean
+    public PrimaryReadsPool primaryReadsPool(DataSourceProperties properties,
+                                             @Value("${app.datasource.primary-reads.maximum-pool-size:8}") int maximumPoolSize,
+                                             MeterRegistry meterRegistry) {
+
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary-reads");
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return new PrimaryReadsPool(dataSource);
+    }
+
+    @Bean
+    public static BeanPostProcessor primaryReadsDataSourcePostProcessor(ObjectProvider<PrimaryReadsPool> primaryReadsPool) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource) {
+                    return new PrimaryReadsDataSource(dataSource, primaryReadsPool.getObject().dataSource());
+                }
+                return bean;
+            }
+        };
+    }
+
+}
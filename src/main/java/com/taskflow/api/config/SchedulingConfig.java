@@ -0,0 +1,12 @@
+package com.taskflow.api.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled background jobs (see overdue.OverdueTaskEngine).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,27 @@
+package com.taskflow.api.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Spring Boot only switches to virtual threads on JDK 21+; on older runtimes the
+ * virtual-threads profile would otherwise be ignored without a trace.
+ */
+@Configuration
+@Profile("virtual-threads")
+@Slf4j
+public class VirtualThreadsConfig {
+
+    public VirtualThreadsConfig() {
+
+        int javaVersion = Runtime.version().feature();
+        if (javaVersion < 21) {
+            log.warn("virtual-threads profile is active but the JVM is Java {}; requests run on platform threads", javaVersion);
+        } else {
+            log.info("Serving requests and async work on virtual threads");
+        }
+
+    }
+
+}
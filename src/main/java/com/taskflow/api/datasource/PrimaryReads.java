@@ -0,0 +1,39 @@
+package com.taskflow.api.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Pins the read-only transactions started inside {@link #call} to the primary.
+ *
+ * For reads whose result outlives the transaction, such as cache loads: a row read
+ * from a lagging replica would be served from the cache long after the replica has
+ * caught up. These reads are not writes, so they open no read-your-writes window.
+ */
+public final class PrimaryReads {
+
+    private static final ThreadLocal<Boolean> ACTIVE = new ThreadLocal<>();
+
+    private PrimaryReads() {
+    }
+
+    public static <T> T call(Supplier<T> work) {
+
+        Boolean previous = ACTIVE.get();
+        ACTIVE.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                ACTIVE.remove();
+            } else {
+                ACTIVE.set(previous);
+            }
+        }
+
+    }
+
+    public static boolean isActive() {
+        return ACTIVE.get() != null;
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.taskflow.api.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Takes the connections of PrimaryReads transactions from a small pool of their own.
+ *
+ * Those transactions (cache loads) start while the caller's transaction still holds
+ * a connection. From a shared pool of N, N concurrent loads would each hold one
+ * connection and wait for a second until connection-timeout. From a separate pool,
+ * callers only queue for a loader connection, and a loader waits for nothing else
+ * while it holds one. Every other connection comes from the wrapped data source.
+ */
+public class PrimaryReadsDataSource extends DelegatingDataSource {
+
+    private final DataSource primaryReads;
+
+    public PrimaryReadsDataSource(DataSource target, DataSource primaryReads) {
+        super(target);
+        this.primaryReads = primaryReads;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return PrimaryReads.isActive() ? primaryReads.getConnection() : super.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return PrimaryReads.isActive() ? primaryReads.getConnection(username, password) : super.getConnection(username, password);
+    }
+
+}
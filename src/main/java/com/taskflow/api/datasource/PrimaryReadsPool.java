@@ -0,0 +1,18 @@
+package com.taskflow.api.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * The connection pool that PrimaryReadsDataSource hands PrimaryReads transactions.
+ *
+ * Held in its own bean type rather than as a DataSource bean, which would stop Boot
+ * from auto-configuring the application's own pool.
+ */
+public record PrimaryReadsPool(HikariDataSource dataSource) implements AutoCloseable {
+
+    @Override
+    public void close() {
+        dataSource.close();
+    }
+
+}
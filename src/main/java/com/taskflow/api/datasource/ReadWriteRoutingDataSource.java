@@ -0,0 +1,108 @@
+package com.taskflow.api.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Sends read-only transactions to a healthy replica and everything else to the primary.
+ *
+ * The routing decision reads the transaction's readOnly flag, which Spring only sets
+ * after the transaction manager has asked for a connection, so this must sit behind a
+ * LazyConnectionDataSourceProxy that defers the real getConnection to the first statement.
+ * Reads fall back to the primary when the caller is inside its read-your-writes window,
+ * when they run inside PrimaryReads, when no replica is healthy, or when the chosen
+ * replica refuses a connection.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private final ReplicaPool replicaPool;
+    private final ReadYourWritesTracker readYourWrites;
+    private final Map<Object, ReplicaPool.Replica> replicasByName = new HashMap<>();
+
+    public ReadWriteRoutingDataSource(DataSource primary, ReplicaPool replicaPool, ReadYourWritesTracker readYourWrites) {
+
+        this.replicaPool = replicaPool;
+        this.readYourWrites = readYourWrites;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (ReplicaPool.Replica replica : replicaPool.replicas()) {
+            targets.put(replica.name(), replica.dataSource());
+            replicasByName.put(replica.name(), replica);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connect(null, null);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connect(username, password);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+
+        // Outside a transaction (auto-commit JDBC, schema setup) there is no readOnly hint to trust
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return PRIMARY;
+        }
+
+        String caller = ReadYourWritesTracker.currentKey();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        readYourWrites.recordWrite(caller);
+                    }
+                });
+            }
+            return PRIMARY;
+        }
+
+        if (PrimaryReads.isActive() || readYourWrites.requiresPrimary(caller)) {
+            return PRIMARY;
+        }
+
+        ReplicaPool.Replica replica = replicaPool.next();
+        return replica != null ? replica.name() : PRIMARY;
+
+    }
+
+    private Connection connect(String username, String password) throws SQLException {
+
+        Object key = determineCurrentLookupKey();
+        ReplicaPool.Replica replica = replicasByName.get(key);
+        if (replica == null) {
+            return open(getResolvedDefaultDataSource(), username, password);
+        }
+
+        try {
+            return open(replica.dataSource(), username, password);
+        } catch (SQLException e) {
+            replicaPool.markDown(replica, e);
+            return open(getResolvedDefaultDataSource(), username, password);
+        }
+
+    }
+
+    private static Connection open(DataSource dataSource, String username, String password) throws SQLException {
+        return username == null ? dataSource.getConnection() : dataSource.getConnection(username, password);
+    }
+
+}
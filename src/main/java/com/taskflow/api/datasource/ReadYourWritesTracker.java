@@ -0,0 +1,56 @@
+package com.taskflow.api.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+
+import java.time.Duration;
+
+/**
+ * Remembers who committed a write recently. For the window after their own commit,
+ * a caller's read-only transactions stay on the primary so replica lag cannot hide
+ * the change from them.
+ *
+ * Callers are keyed by the authenticated principal's name, anonymous requests by
+ * their remote address, and work running outside any request (scheduled jobs,
+ * event listeners, startup) by its thread. Each kind has its own prefix, so no
+ * two kinds of caller share a window.
+ */
+public class ReadYourWritesTracker {
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(Duration window, long maximumSize) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    public void recordWrite(String key) {
+        recentWriters.put(key, Boolean.TRUE);
+    }
+
+    public boolean requiresPrimary(String key) {
+        return recentWriters.getIfPresent(key) != null;
+    }
+
+    public static String currentKey() {
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "user:" + authentication.getName();
+        }
+        if (authentication != null && authentication.getDetails() instanceof WebAuthenticationDetails details
+                && details.getRemoteAddress() != null) {
+            return "anonymous:" + details.getRemoteAddress();
+        }
+        return "thread:" + Thread.currentThread().getId();
+
+    }
+
+}
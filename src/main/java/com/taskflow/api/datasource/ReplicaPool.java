@@ -0,0 +1,118 @@
+package com.taskflow.api.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Read replicas with a health flag each. Reads are spread round-robin over the
+ * healthy ones; a replica that fails a connection attempt or a periodic check is
+ * taken out of rotation until a later check succeeds.
+ */
+@Slf4j
+public class ReplicaPool implements AutoCloseable {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final List<Replica> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaPool(List<HikariDataSource> dataSources, MeterRegistry meterRegistry) {
+
+        this.replicas = dataSources.stream().map(Replica::new).toList();
+
+        Gauge.builder("datasource.replicas.healthy", this, ReplicaPool::healthyCount)
+                .description("Read replicas currently in rotation")
+                .register(meterRegistry);
+    }
+
+    public List<Replica> replicas() {
+        return replicas;
+    }
+
+    /**
+     * Next healthy replica in round-robin order, or null when none is healthy.
+     */
+    public Replica next() {
+
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                return replica;
+            }
+        }
+        return null;
+
+    }
+
+    public int healthyCount() {
+        return (int) replicas.stream().filter(Replica::isHealthy).count();
+    }
+
+    void markDown(Replica replica, SQLException cause) {
+
+        if (replica.healthy) {
+            replica.healthy = false;
+            log.warn("Replica {} taken out of rotation: {}", replica.name(), cause.getMessage());
+        }
+
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.health-check-interval-ms:5000}")
+    public void checkHealth() {
+
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    throw new SQLException("Connection validation failed");
+                }
+                if (!replica.healthy) {
+                    replica.healthy = true;
+                    log.info("Replica {} back in rotation", replica.name());
+                }
+            } catch (SQLException e) {
+                markDown(replica, e);
+            }
+        }
+
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(replica -> replica.dataSource.close());
+    }
+
+    public static final class Replica {
+
+        private final HikariDataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private Replica(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        public String name() {
+            return dataSource.getPoolName();
+        }
+
+        public DataSource dataSource() {
+            return dataSource;
+        }
+
+        public boolean isHealthy() {
+            return healthy;
+        }
+
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.taskflow.api.datasource;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.CacheMode;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.sql.SQLException;
+
+/**
+ * Keeps replica reads out of Hibernate's second-level and query caches.
+ *
+ * A read-only transaction may be served by a lagging replica, and whatever it put
+ * into the shared caches would outlive the lag. Its session uses CacheMode.GET:
+ * cached entries are still read, but none are added. Read-write transactions and
+ * cache loads pinned to the primary (see PrimaryReads) fill the caches as before.
+ */
+public class ReplicaReadJpaDialect extends HibernateJpaDialect {
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition) throws SQLException {
+
+        Object transactionData = super.beginTransaction(entityManager, definition);
+        if (!definition.isReadOnly() || PrimaryReads.isActive()) {
+            return transactionData;
+        }
+
+        SessionImplementor session = getSession(entityManager);
+        CacheMode previousCacheMode = session.getCacheMode();
+        session.setCacheMode(CacheMode.GET);
+
+        return new ReplicaReadData(transactionData, session, previousCacheMode);
+
+    }
+
+    @Override
+    public void cleanupTransaction(Object transactionData) {
+
+        if (transactionData instanceof ReplicaReadData data) {
+            data.session().setCacheMode(data.previousCacheMode());
+            super.cleanupTransaction(data.delegate());
+            return;
+        }
+
+        super.cleanupTransaction(transactionData);
+
+    }
+
+    private record ReplicaReadData(Object delegate, SessionImplementor session, CacheMode previousCacheMode) {
+    }
+
+}
@@ -0,0 +1,14 @@
+package com.taskflow.api.dependency;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Longest chain of open work in a project, first task first.
+ *
+ * totalHours is the sum of the chain's estimated hours and projectedFinish is
+ * now plus those hours; lateTaskIds are the open tasks (on any chain) that cannot
+ * finish by their due date at that pace.
+ */
+public record CriticalPath(List<Long> taskIds, long totalHours, LocalDateTime projectedFinish, List<Long> lateTaskIds) {
+}
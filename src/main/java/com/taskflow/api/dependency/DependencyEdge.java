@@ -0,0 +1,7 @@
+package com.taskflow.api.dependency;
+
+/**
+ * One blocker -> blocked link, as loaded for building a DependencyGraph.
+ */
+public record DependencyEdge(Long blockerTaskId, Long blockedTaskId) {
+}
@@ -0,0 +1,347 @@
+package com.taskflow.api.dependency;
+
+import com.taskflow.api.event.TaskSnapshot;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.LongStream;
+
+/**
+ * Dependency graph of one project in compressed sparse row form
+ *
+ * Tasks are nodes 0..n-1 in task ID order (an ID resolves to its node by binary
+ * search); each node's blocked tasks and blockers are a slice of one int array,
+ * so a 100k-task graph is a handful of primitive arrays rather than 100k objects
+ * with edge lists. Every query below is a single O(V + E) pass.
+ *
+ * The edges are immutable: adding or removing one builds a new graph. Task
+ * attributes (open, estimated hours, due date) are patched in place under the
+ * write lock as task changes commit.
+ */
+final class DependencyGraph {
+
+    private final long[] taskIds;
+    private final int[] successorStart;
+    private final int[] successors;
+    private final int[] predecessorStart;
+    private final int[] predecessors;
+
+    private final boolean[] open;
+    private final int[] hours;
+    private final LocalDateTime[] dueDates;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private DependencyGraph(long[] taskIds, boolean[] open, int[] hours, LocalDateTime[] dueDates,
+                            int[] blockers, int[] blocked, int edgeCount) {
+
+        this.taskIds = taskIds;
+        this.open = open;
+        this.hours = hours;
+        this.dueDates = dueDates;
+
+        int n = taskIds.length;
+        this.successorStart = new int[n + 1];
+        this.predecessorStart = new int[n + 1];
+        this.successors = new int[edgeCount];
+        this.predecessors = new int[edgeCount];
+
+        // Counting sort of the edges into both CSR directions
+        for (int e = 0; e < edgeCount; e++) {
+            successorStart[blockers[e] + 1]++;
+            predecessorStart[blocked[e] + 1]++;
+        }
+        for (int v = 0; v < n; v++) {
+            successorStart[v + 1] += successorStart[v];
+            predecessorStart[v + 1] += predecessorStart[v];
+        }
+        int[] successorFill = Arrays.copyOf(successorStart, n);
+        int[] predecessorFill = Arrays.copyOf(predecessorStart, n);
+        for (int e = 0; e < edgeCount; e++) {
+            successors[successorFill[blockers[e]]++] = blocked[e];
+            predecessors[predecessorFill[blocked[e]]++] = blockers[e];
+        }
+
+    }
+
+    /**
+     * Builds the graph from a project's tasks (in ascending ID order) and links;
+     * links to tasks that are not in the list are ignored.
+     */
+    static DependencyGraph build(List<TaskSnapshot> tasks, List<DependencyEdge> edges) {
+
+        int n = tasks.size();
+        long[] taskIds = new long[n];
+        boolean[] open = new boolean[n];
+        int[] hours = new int[n];
+        LocalDateTime[] dueDates = new LocalDateTime[n];
+        for (int v = 0; v < n; v++) {
+            TaskSnapshot task = tasks.get(v);
+            taskIds[v] = task.id();
+            open[v] = task.status().isOpen();
+            hours[v] = task.estimatedHours() != null ? task.estimatedHours() : 0;
+            dueDates[v] = task.dueDate();
+        }
+
+        return withLinks(taskIds, open, hours, dueDates, edges);
+
+    }
+
+    /**
+     * Graph of the links alone, for reachability: its nodes are the linked tasks,
+     * without attributes.
+     */
+    static DependencyGraph ofLinks(List<DependencyEdge> edges) {
+
+        long[] taskIds = edges.stream()
+                .flatMapToLong(edge -> LongStream.of(edge.blockerTaskId(), edge.blockedTaskId()))
+                .distinct()
+                .sorted()
+                .toArray();
+        int n = taskIds.length;
+
+        return withLinks(taskIds, new boolean[n], new int[n], new LocalDateTime[n], edges);
+
+    }
+
+    private static DependencyGraph withLinks(long[] taskIds, boolean[] open, int[] hours, LocalDateTime[] dueDates,
+                                             List<DependencyEdge> edges) {
+
+        int[] blockers = new int[edges.size()];
+        int[] blocked = new int[edges.size()];
+        int edgeCount = 0;
+        for (DependencyEdge edge : edges) {
+            int from = Arrays.binarySearch(taskIds, edge.blockerTaskId());
+            int to = Arrays.binarySearch(taskIds, edge.blockedTaskId());
+            if (from >= 0 && to >= 0) {
+                blockers[edgeCount] = from;
+                blocked[edgeCount] = to;
+                edgeCount++;
+            }
+        }
+
+        return new DependencyGraph(taskIds, open, hours, dueDates, blockers, blocked, edgeCount);
+
+    }
+
+    int taskCount() {
+        return taskIds.length;
+    }
+
+    int edgeCount() {
+        return successors.length;
+    }
+
+    /**
+     * Patches a task's attributes; returns false if the task is not a node of this graph.
+     */
+    boolean update(TaskSnapshot task) {
+
+        int v = Arrays.binarySearch(taskIds, task.id());
+        if (v < 0) {
+            return false;
+        }
+
+        lock.writeLock().lock();
+        try {
+            open[v] = task.status().isOpen();
+            hours[v] = task.estimatedHours() != null ? task.estimatedHours() : 0;
+            dueDates[v] = task.dueDate();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return true;
+
+    }
+
+    /**
+     * Copy with one more link, or null if either task is not a node of this graph.
+     */
+    DependencyGraph withEdge(Long blockerTaskId, Long blockedTaskId) {
+        return rebuilt(blockerTaskId, blockedTaskId, true);
+    }
+
+    /**
+     * Copy without the link, or null if either task is not a node of this graph.
+     */
+    DependencyGraph withoutEdge(Long blockerTaskId, Long blockedTaskId) {
+        return rebuilt(blockerTaskId, blockedTaskId, false);
+    }
+
+    /**
+     * Whether toTaskId can be reached from fromTaskId by following blocker -> blocked links.
+     * Adding the link to -> from closes a cycle exactly when this holds.
+     */
+    boolean reaches(Long fromTaskId, Long toTaskId) {
+
+        if (fromTaskId.equals(toTaskId)) {
+            return true;
+        }
+        int from = Arrays.binarySearch(taskIds, fromTaskId);
+        int to = Arrays.binarySearch(taskIds, toTaskId);
+        if (from < 0 || to < 0) {
+            return false;
+        }
+
+        BitSet visited = new BitSet(taskIds.length);
+        int[] stack = new int[taskIds.length];
+        int top = 0;
+        stack[top++] = from;
+        visited.set(from);
+        while (top > 0) {
+            int v = stack[--top];
+            for (int i = successorStart[v]; i < successorStart[v + 1]; i++) {
+                int next = successors[i];
+                if (next == to) {
+                    return true;
+                }
+                if (!visited.get(next)) {
+                    visited.set(next);
+                    stack[top++] = next;
+                }
+            }
+        }
+        return false;
+
+    }
+
+    /**
+     * Open tasks whose blockers are all finished (or that have none), in ID order.
+     */
+    List<Long> unblockedTaskIds() {
+
+        lock.readLock().lock();
+        try {
+            List<Long> unblocked = new ArrayList<>();
+            for (int v = 0; v < taskIds.length; v++) {
+                if (open[v] && !hasOpenBlocker(v)) {
+                    unblocked.add(taskIds[v]);
+                }
+            }
+            return unblocked;
+        } finally {
+            lock.readLock().unlock();
+        }
+
+    }
+
+    /**
+     * Longest chain of remaining work, weighting open tasks by their estimated
+     * hours (finished ones by zero), in one topological pass. A task is late when
+     * its earliest finish, counting hours back to back from now, is after its due date.
+     */
+    CriticalPath criticalPath(LocalDateTime now) {
+
+        lock.readLock().lock();
+        try {
+            int n = taskIds.length;
+            int[] pending = new int[n];
+            int[] queue = new int[n];
+            int head = 0;
+            int tail = 0;
+            for (int v = 0; v < n; v++) {
+                pending[v] = predecessorStart[v + 1] - predecessorStart[v];
+                if (pending[v] == 0) {
+                    queue[tail++] = v;
+                }
+            }
+
+            long[] finish = new long[n];
+            int[] via = new int[n];
+            Arrays.fill(via, -1);
+            int last = -1;
+            List<Long> late = new ArrayList<>();
+
+            // finish[v] holds v's earliest start until v is dequeued
+            while (head < tail) {
+                int v = queue[head++];
+                finish[v] += open[v] ? hours[v] : 0;
+                if (open[v] && dueDates[v] != null && now.plusHours(finish[v]).isAfter(dueDates[v])) {
+                    late.add(taskIds[v]);
+                }
+                if (last < 0 || finish[v] > finish[last]) {
+                    last = v;
+                }
+                for (int i = successorStart[v]; i < successorStart[v + 1]; i++) {
+                    int next = successors[i];
+                    if (finish[v] > finish[next]) {
+                        finish[next] = finish[v];
+                        via[next] = v;
+                    }
+                    if (--pending[next] == 0) {
+                        queue[tail++] = next;
+                    }
+                }
+            }
+            // Tasks on a cycle never reach zero pending blockers; inserts reject cycles, so there should be none
+
+            List<Long> path = new ArrayList<>();
+            for (int v = last; v >= 0; v = via[v]) {
+                if (open[v]) {
+                    path.add(taskIds[v]);
+                }
+            }
+            Collections.reverse(path);
+            late.sort(null);
+
+            long totalHours = last >= 0 ? finish[last] : 0;
+            return new CriticalPath(path, totalHours, now.plusHours(totalHours), late);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+    }
+
+    private boolean hasOpenBlocker(int v) {
+        for (int i = predecessorStart[v]; i < predecessorStart[v + 1]; i++) {
+            if (open[predecessors[i]]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private DependencyGraph rebuilt(Long blockerTaskId, Long blockedTaskId, boolean add) {
+
+        int from = Arrays.binarySearch(taskIds, blockerTaskId);
+        int to = Arrays.binarySearch(taskIds, blockedTaskId);
+        if (from < 0 || to < 0) {
+            return null;
+        }
+
+        int capacity = successors.length + (add ? 1 : 0);
+        int[] blockers = new int[capacity];
+        int[] blocked = new int[capacity];
+        int edgeCount = 0;
+        for (int v = 0; v < taskIds.length; v++) {
+            for (int i = successorStart[v]; i < successorStart[v + 1]; i++) {
+                if (v == from && successors[i] == to) {
+                    continue;
+                }
+                blockers[edgeCount] = v;
+                blocked[edgeCount] = successors[i];
+                edgeCount++;
+            }
+        }
+        if (add) {
+            blockers[edgeCount] = from;
+            blocked[edgeCount] = to;
+            edgeCount++;
+        }
+
+        lock.readLock().lock();
+        try {
+            return new DependencyGraph(taskIds, open.clone(), hours.clone(), dueDates.clone(), blockers, blocked, edgeCount);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+    }
+
+}
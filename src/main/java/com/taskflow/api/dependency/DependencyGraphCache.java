@@ -0,0 +1,124 @@
+package com.taskflow.api.dependency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskflow.api.cache.CacheLoadTransaction;
+import com.taskflow.api.event.ProjectOwnershipChangedEvent;
+import com.taskflow.api.event.TaskChangedEvent;
+import com.taskflow.api.event.TaskDependencyChangedEvent;
+import com.taskflow.api.repository.TaskDependencyRepository;
+import com.taskflow.api.repository.TaskRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Project ID -> DependencyGraph
+ *
+ * A graph is loaded with two indexed queries (the project's tasks and its links)
+ * on first use. Committed status/estimate/due date changes are patched into it and
+ * link changes swap in a rebuilt copy; creates, deletes and moves between projects
+ * change the node set, so those drop the graph to be reloaded on the next read.
+ *
+ * Loads run in a separate committed-read transaction on the primary, and patches
+ * use compute so they wait for a load of the same project still in flight. The
+ * graph serves reads only; link writers check for cycles against the database
+ * (see TaskDependencyService.addDependency).
+ */
+@Component
+@Slf4j
+public class DependencyGraphCache {
+
+    private final TaskRepository taskRepository;
+    private final TaskDependencyRepository dependencyRepository;
+    private final CacheLoadTransaction cacheLoadTransaction;
+    private final Cache<Long, DependencyGraph> graphs;
+
+    public DependencyGraphCache(TaskRepository taskRepository,
+                                TaskDependencyRepository dependencyRepository,
+                                CacheLoadTransaction cacheLoadTransaction,
+                                @Value("${app.cache.dependency-graphs.maximum-size:500}") long maximumSize,
+                                @Value("${app.cache.dependency-graphs.expire-after-write:10m}") Duration expireAfterWrite,
+                                MeterRegistry meterRegistry) {
+
+        this.taskRepository = taskRepository;
+        this.dependencyRepository = dependencyRepository;
+        this.cacheLoadTransaction = cacheLoadTransaction;
+        this.graphs = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, graphs, "dependency-graphs");
+    }
+
+    DependencyGraph get(Long projectId) {
+        return graphs.get(projectId, this::load);
+    }
+
+    public void evict(Long projectId) {
+        graphs.invalidate(projectId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+
+        if (event.previous() == null || event.current() == null
+                || !Objects.equals(event.previous().projectId(), event.current().projectId())) {
+            if (event.previous() != null) {
+                graphs.invalidate(event.previous().projectId());
+            }
+            if (event.current() != null) {
+                graphs.invalidate(event.current().projectId());
+            }
+            return;
+        }
+
+        graphs.asMap().compute(event.current().projectId(),
+                (projectId, graph) -> graph != null && graph.update(event.current()) ? graph : null);
+
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDependencyChanged(TaskDependencyChangedEvent event) {
+
+        log.debug("Updating dependency graph of project ID: {} ({} -> {}, added: {})",
+                event.projectId(), event.blockerTaskId(), event.blockedTaskId(), event.added());
+
+        graphs.asMap().compute(event.projectId(), (projectId, graph) -> {
+            if (graph == null) {
+                return null;
+            }
+            return event.added()
+                    ? graph.withEdge(event.blockerTaskId(), event.blockedTaskId())
+                    : graph.withoutEdge(event.blockerTaskId(), event.blockedTaskId());
+        });
+
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProjectOwnershipChanged(ProjectOwnershipChangedEvent event) {
+        if (event.isDeletion()) {
+            graphs.invalidate(event.projectId());
+        }
+    }
+
+    private DependencyGraph load(Long projectId) {
+
+        DependencyGraph graph = cacheLoadTransaction.load(() -> DependencyGraph.build(
+                taskRepository.findSnapshotsByProjectId(projectId), dependencyRepository.findEdgesByProjectId(projectId)));
+        log.debug("Loaded dependency graph of project ID: {} ({} tasks, {} links)", projectId, graph.taskCount(), graph.edgeCount());
+
+        return graph;
+
+    }
+
+}
@@ -0,0 +1,138 @@
+package com.taskflow.api.dependency;
+
+import com.taskflow.api.cache.CacheLoadTransaction;
+import com.taskflow.api.event.ProjectOwnershipChangedEvent;
+import com.taskflow.api.event.TaskDependencyChangedEvent;
+import com.taskflow.api.exception.BadRequestException;
+import com.taskflow.api.exception.ResourceNotFoundException;
+import com.taskflow.api.model.Task;
+import com.taskflow.api.model.TaskDependency;
+import com.taskflow.api.repository.ProjectRepository;
+import com.taskflow.api.repository.TaskDependencyRepository;
+import com.taskflow.api.service.ProjectService;
+import com.taskflow.api.service.TaskService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Blocker/blocked links between tasks of a project, and the queries answered
+ * from the project's cached DependencyGraph instead of recursive SQL.
+ *
+ * Link writers lock the project row, so two links that would only form a cycle
+ * together cannot both pass the reachability check. The check walks the links as
+ * committed when the lock is held, not the cached graph: that is only patched
+ * after a writer's commit, once the lock has already been released.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class TaskDependencyService {
+
+    private final TaskDependencyRepository dependencyRepository;
+    private final ProjectRepository projectRepository;
+    private final TaskService taskService;
+    private final ProjectService projectService;
+    private final DependencyGraphCache graphCache;
+    private final CacheLoadTransaction cacheLoadTransaction;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public TaskDependency addDependency(Long blockerTaskId, Long blockedTaskId, Long userId) {
+        log.info("Adding dependency: task ID: {} blocks task ID: {} by user ID: {}", blockerTaskId, blockedTaskId, userId);
+
+        if (blockerTaskId.equals(blockedTaskId)) {
+            log.warn("Dependency rejected: Task {} cannot block itself", blockerTaskId);
+            throw new BadRequestException("A task cannot block itself");
+        }
+
+        Long projectId = requireSameProject(blockerTaskId, blockedTaskId, userId);
+        projectRepository.lockById(projectId);
+
+        if (dependencyRepository.existsByBlockerTaskIdAndBlockedTaskId(blockerTaskId, blockedTaskId)) {
+            log.warn("Dependency rejected: Task {} already blocks task {}", blockerTaskId, blockedTaskId);
+            throw new BadRequestException("Dependency already exists");
+        }
+
+        // Committed read: this transaction's own snapshot may predate the lock (REPEATABLE READ)
+        List<DependencyEdge> links = cacheLoadTransaction.load(() -> dependencyRepository.findEdgesByProjectId(projectId));
+        if (DependencyGraph.ofLinks(links).reaches(blockedTaskId, blockerTaskId)) {
+            log.warn("Dependency rejected: Task {} blocking task {} would create a cycle", blockerTaskId, blockedTaskId);
+            throw new BadRequestException("Dependency would create a cycle");
+        }
+
+        TaskDependency savedDependency = dependencyRepository.save(TaskDependency.builder()
+                .projectId(projectId).blockerTaskId(blockerTaskId).blockedTaskId(blockedTaskId).build());
+        log.info("Successfully added dependency ID: {} in project ID: {}", savedDependency.getId(), projectId);
+        eventPublisher.publishEvent(new TaskDependencyChangedEvent(projectId, blockerTaskId, blockedTaskId, true));
+
+        return savedDependency;
+    }
+
+    public void removeDependency(Long blockerTaskId, Long blockedTaskId, Long userId) {
+        log.info("Removing dependency: task ID: {} blocks task ID: {} by user ID: {}", blockerTaskId, blockedTaskId, userId);
+
+        Long projectId = requireSameProject(blockerTaskId, blockedTaskId, userId);
+        projectRepository.lockById(projectId);
+
+        TaskDependency dependency = dependencyRepository.findByBlockerTaskIdAndBlockedTaskId(blockerTaskId, blockedTaskId)
+                .orElseThrow(() -> {
+                    log.warn("Dependency not found: task {} -> task {}", blockerTaskId, blockedTaskId);
+                    return new ResourceNotFoundException("Dependency not found: task " + blockerTaskId + " -> task " + blockedTaskId);
+                });
+
+        dependencyRepository.delete(dependency);
+        log.info("Successfully removed dependency ID: {} in project ID: {}", dependency.getId(), projectId);
+        eventPublisher.publishEvent(new TaskDependencyChangedEvent(projectId, blockerTaskId, blockedTaskId, false));
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findUnblockedTaskIds(Long projectId, Long userId) {
+
+        log.debug("Finding unblocked tasks of project ID: {} for user ID: {}", projectId, userId);
+
+        projectService.requireProjectAccess(projectId, userId);
+        return graphCache.get(projectId).unblockedTaskIds();
+
+    }
+
+    @Transactional(readOnly = true)
+    public CriticalPath getCriticalPath(Long projectId, Long userId) {
+
+        log.debug("Computing critical path of project ID: {} for user ID: {}", projectId, userId);
+
+        projectService.requireProjectAccess(projectId, userId);
+        return graphCache.get(projectId).criticalPath(LocalDateTime.now());
+
+    }
+
+    // Same transaction as the delete: the links go with the project's tasks
+    @EventListener
+    public void onProjectOwnershipChanged(ProjectOwnershipChangedEvent event) {
+        if (event.isDeletion()) {
+            dependencyRepository.deleteByProjectId(event.projectId());
+        }
+    }
+
+    private Long requireSameProject(Long blockerTaskId, Long blockedTaskId, Long userId) {
+
+        Task blocker = taskService.findByIdWithAccess(blockerTaskId, userId);
+        Task blocked = taskService.findByIdWithAccess(blockedTaskId, userId);
+
+        Long projectId = blocker.getProject().getId();
+        if (!projectId.equals(blocked.getProject().getId())) {
+            log.warn("Dependency rejected: Tasks {} and {} belong to different projects", blockerTaskId, blockedTaskId);
+            throw new BadRequestException("Dependent tasks must belong to the same project");
+        }
+
+        return projectId;
+
+    }
+
+}
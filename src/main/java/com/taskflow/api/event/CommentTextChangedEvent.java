@@ -0,0 +1,8 @@
+package com.taskflow.api.event;
+
+/**
+ * Published when a comment's content is written. Also the row shape streamed
+ * from the database when the search index is rebuilt.
+ */
+public record CommentTextChangedEvent(Long commentId, Long taskId, Long projectId, String content) {
+}
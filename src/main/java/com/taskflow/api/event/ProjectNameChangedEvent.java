@@ -0,0 +1,12 @@
+package com.taskflow.api.event;
+
+/**
+ * Published when the (owner, active name key) pair that a project occupies changes:
+ * on create, rename, deactivation, reactivation, ownership transfer and delete.
+ *
+ * A null owner or key on either side means the project held no name before, or holds none after.
+ */
+public record ProjectNameChangedEvent(Long projectId,
+                                      Long previousOwnerId, String previousNameKey,
+                                      Long ownerId, String nameKey) {
+}
@@ -0,0 +1,23 @@
+package com.taskflow.api.event;
+
+/**
+ * Published when a project gains, changes or loses its owner.
+ *
+ * previousOwnerId is null for newly created projects and newOwnerId is null
+ * for deleted ones.
+ */
+public record ProjectOwnershipChangedEvent(Long projectId, Long previousOwnerId, Long newOwnerId) {
+
+    public static ProjectOwnershipChangedEvent created(Long projectId, Long ownerId) {
+        return new ProjectOwnershipChangedEvent(projectId, null, ownerId);
+    }
+
+    public static ProjectOwnershipChangedEvent deleted(Long projectId, Long ownerId) {
+        return new ProjectOwnershipChangedEvent(projectId, ownerId, null);
+    }
+
+    public boolean isDeletion() {
+        return newOwnerId == null;
+    }
+
+}
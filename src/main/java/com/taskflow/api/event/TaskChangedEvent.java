@@ -0,0 +1,23 @@
+package com.taskflow.api.event;
+
+/**
+ * Published for every task write with the state before and after it.
+ *
+ * previous is null for created tasks and current is null for deleted ones.
+ * Listeners apply the difference to their own counters/indexes.
+ */
+public record TaskChangedEvent(TaskSnapshot previous, TaskSnapshot current) {
+
+    public static TaskChangedEvent created(TaskSnapshot task) {
+        return new TaskChangedEvent(null, task);
+    }
+
+    public static TaskChangedEvent deleted(TaskSnapshot task) {
+        return new TaskChangedEvent(task, null);
+    }
+
+    public Long taskId() {
+        return current != null ? current.id() : previous.id();
+    }
+
+}
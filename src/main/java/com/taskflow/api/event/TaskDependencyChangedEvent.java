@@ -0,0 +1,7 @@
+package com.taskflow.api.event;
+
+/**
+ * Published when a blocker -> blocked link between two tasks of a project is added or removed.
+ */
+public record TaskDependencyChangedEvent(Long projectId, Long blockerTaskId, Long blockedTaskId, boolean added) {
+}
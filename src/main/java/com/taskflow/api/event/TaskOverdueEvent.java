@@ -0,0 +1,11 @@
+package com.taskflow.api.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published once when an open task passes its due date, as seen by the overdue engine.
+ *
+ * Tasks that were already overdue when the engine loaded them do not produce one.
+ */
+public record TaskOverdueEvent(TaskSnapshot task, LocalDateTime detectedAt) {
+}
@@ -0,0 +1,43 @@
+package com.taskflow.api.event;
+
+import com.taskflow.api.model.Task;
+import com.taskflow.api.model.enums.Priority;
+import com.taskflow.api.model.enums.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Detached copy of the task fields that derived views (counters, indexes) depend on.
+ *
+ * Text fields are deliberately left out; they are carried by their own events.
+ */
+public record TaskSnapshot(Long id,
+                           Long projectId,
+                           Long assigneeId,
+                           TaskStatus status,
+                           Priority priority,
+                           LocalDateTime dueDate,
+                           Integer estimatedHours,
+                           Integer actualHours) {
+
+    public static TaskSnapshot of(Task task) {
+        return new TaskSnapshot(
+                task.getId(),
+                task.getProject() != null ? task.getProject().getId() : null,
+                task.getAssignee() != null ? task.getAssignee().getId() : null,
+                task.getStatus(),
+                task.getPriority(),
+                task.getDueDate(),
+                task.getEstimatedHours(),
+                task.getActualHours());
+    }
+
+    public TaskSnapshot withStatus(TaskStatus newStatus) {
+        return new TaskSnapshot(id, projectId, assigneeId, newStatus, priority, dueDate, estimatedHours, actualHours);
+    }
+
+    public TaskSnapshot withAssignee(Long newAssigneeId) {
+        return new TaskSnapshot(id, projectId, newAssigneeId, status, priority, dueDate, estimatedHours, actualHours);
+    }
+
+}
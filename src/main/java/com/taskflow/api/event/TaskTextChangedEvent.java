@@ -0,0 +1,8 @@
+package com.taskflow.api.event;
+
+/**
+ * Published when a task's searchable text is written. Also the row shape
+ * streamed from the database when the search index is rebuilt.
+ */
+public record TaskTextChangedEvent(Long taskId, Long projectId, String title, String description) {
+}
@@ -0,0 +1,8 @@
+package com.taskflow.api.event;
+
+/**
+ * Published whenever a user's identity, role or activation status changes.
+ * Listeners use it to drop derived state (e.g. cached user snapshots).
+ */
+public record UserChangedEvent(Long userId) {
+}
@@ -0,0 +1,7 @@
+package com.taskflow.api.event;
+
+/**
+ * Published when a project's workflow is replaced or reset.
+ */
+public record WorkflowChangedEvent(Long projectId) {
+}
@@ -0,0 +1,30 @@
+package com.taskflow.api.exception;
+
+/**
+ * Base class for exceptions that are part of normal request handling
+ * (unknown IDs, invalid input, access denied) and map straight to a 4xx response.
+ *
+ * The throw site already logs why, so by default no stack trace is captured;
+ * set app.exceptions.capture-stack-traces=true to get them back while debugging.
+ */
+public abstract class DomainException extends RuntimeException {
+
+    private static volatile boolean captureStackTraces;
+
+    protected DomainException(String message) {
+        this(message, null);
+    }
+
+    protected DomainException(String message, Throwable cause) {
+        super(message, cause, true, captureStackTraces);
+    }
+
+    public static boolean isCapturingStackTraces() {
+        return captureStackTraces;
+    }
+
+    public static void setCaptureStackTraces(boolean capture) {
+        captureStackTraces = capture;
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.taskflow.api.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -17,6 +18,8 @@ import java.util.Map;
  *
  * @RestControllerAdvice catches exceptions across all controllers
  * This provides consistent error response format throughout the API
+ *
+ * Domain exceptions (4xx) are only logged at debug here: the throw site already logs them.
  */
 @RestControllerAdvice
 @Slf4j
@@ -28,16 +31,9 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleResourceNotFound(ResourceNotFoundException ex) {
-        log.error("Resource not found: {}", ex.getMessage());
+        log.debug("Resource not found: {}", ex.getMessage());
 
-        ErrorResponse errorResponse = ErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.NOT_FOUND.value())
-                .error("Resource Not Found")
-                .message(ex.getMessage())
-                .build();
-
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+        return respond(HttpStatus.NOT_FOUND, "Resource Not Found", ex.getMessage());
     }
 
     /**
@@ -46,16 +42,9 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(BadRequestException.class)
     public ResponseEntity<ErrorResponse> handleBadRequest(BadRequestException ex) {
-        log.error("Bad request: {}", ex.getMessage());
-
-        ErrorResponse errorResponse = ErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.BAD_REQUEST.value())
-                .error("Bad Request")
-                .message(ex.getMessage())
-                .build();
+        log.debug("Bad request: {}", ex.getMessage());
 
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        return respond(HttpStatus.BAD_REQUEST, "Bad Request", ex.getMessage());
     }
 
     /**
@@ -64,16 +53,9 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(UnauthorizedException.class)
     public ResponseEntity<ErrorResponse> handleUnauthorized(UnauthorizedException ex) {
-        log.error("Unauthorized access: {}", ex.getMessage());
+        log.debug("Unauthorized access: {}", ex.getMessage());
 
-        ErrorResponse errorResponse = ErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.UNAUTHORIZED.value())
-                .error("Unauthorized")
-                .message(ex.getMessage())
-                .build();
-
-        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(errorResponse);
+        return respond(HttpStatus.UNAUTHORIZED, "Unauthorized", ex.getMessage());
     }
 
     /**
@@ -110,14 +92,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handleRuntimeException(RuntimeException ex) {
         log.error("Runtime exception: {}", ex.getMessage(), ex);
 
-        ErrorResponse errorResponse = ErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.INTERNAL_SERVER_ERROR.value())
-                .error("Internal Server Error")
-                .message("An unexpected error occurred")
-                .build();
-
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+        return respond(HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error", "An unexpected error occurred");
     }
 
     /**
@@ -128,14 +103,15 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handleGeneralException(Exception ex) {
         log.error("General exception: {}", ex.getMessage(), ex);
 
-        ErrorResponse errorResponse = ErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.INTERNAL_SERVER_ERROR.value())
-                .error("Internal Server Error")
-                .message("An unexpected error occurred")
-                .build();
+        return respond(HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error", "An unexpected error occurred");
+    }
 
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+    /**
+     * Built directly rather than through ResponseEntity.status(): that builder allocates
+     * a fresh HttpHeaders per response, while HttpHeaders.EMPTY is shared and read-only.
+     */
+    private static ResponseEntity<ErrorResponse> respond(HttpStatus status, String error, String message) {
+        return new ResponseEntity<>(ErrorResponse.of(status, error, message), HttpHeaders.EMPTY, status);
     }
 
     /**
@@ -148,6 +124,15 @@ public class GlobalExceptionHandler {
         private String message;
         private Map<String, String> fieldErrors;
 
+        public static ErrorResponse of(HttpStatus status, String error, String message) {
+            ErrorResponse errorResponse = new ErrorResponse();
+            errorResponse.timestamp = LocalDateTime.now();
+            errorResponse.status = status.value();
+            errorResponse.error = error;
+            errorResponse.message = message;
+            return errorResponse;
+        }
+
         // Builder pattern implementation
         public static ErrorResponseBuilder builder() {
             return new ErrorResponseBuilder();
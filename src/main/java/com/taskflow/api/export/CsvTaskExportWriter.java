@@ -0,0 +1,81 @@
+package com.taskflow.api.export;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * RFC 4180 CSV with one row per comment; tasks without comments get a single
+ * row with empty comment columns.
+ */
+class CsvTaskExportWriter implements TaskExportWriter {
+
+    private static final String HEADER = "task_id,title,description,status,priority,assignee,due_date,estimated_hours," +
+            "actual_hours,created_at,comment_id,comment_author,comment_content,comment_created_at";
+
+    private final Writer writer;
+
+    CsvTaskExportWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    public void writeHeader() throws IOException {
+        writer.write(HEADER);
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void write(TaskExportRecord task) throws IOException {
+
+        if (task.comments().isEmpty()) {
+            writeRow(task, null);
+            return;
+        }
+
+        for (TaskExportRecord.CommentExportRecord comment : task.comments()) {
+            writeRow(task, comment);
+        }
+
+    }
+
+    private void writeRow(TaskExportRecord task, TaskExportRecord.CommentExportRecord comment) throws IOException {
+        writeField(task.id(), false);
+        writeField(task.title(), true);
+        writeField(task.description(), true);
+        writeField(task.status(), true);
+        writeField(task.priority(), true);
+        writeField(task.assignee(), true);
+        writeField(task.dueDate(), true);
+        writeField(task.estimatedHours(), true);
+        writeField(task.actualHours(), true);
+        writeField(task.createdAt(), true);
+        writeField(comment != null ? comment.id() : null, true);
+        writeField(comment != null ? comment.author() : null, true);
+        writeField(comment != null ? comment.content() : null, true);
+        writeField(comment != null ? comment.createdAt() : null, true);
+        writer.write("\r\n");
+    }
+
+    private void writeField(Object value, boolean separator) throws IOException {
+
+        if (separator) {
+            writer.write(',');
+        }
+
+        if (value == null) {
+            return;
+        }
+
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            writer.write(text);
+            return;
+        }
+
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.taskflow.api.export;
+
+public enum ExportFormat {
+
+    NDJSON("application/x-ndjson"),
+    CSV("text/csv");
+
+    private final String contentType;
+
+    ExportFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.taskflow.api.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * One JSON object per line: the task with its comments nested
+ */
+class NdjsonTaskExportWriter implements TaskExportWriter {
+
+    private final Writer writer;
+    private final ObjectWriter objectWriter;
+
+    NdjsonTaskExportWriter(Writer writer, ObjectMapper objectMapper) {
+        this.writer = writer;
+        this.objectWriter = objectMapper.writerFor(TaskExportRecord.class);
+    }
+
+    @Override
+    public void writeHeader() {
+        // NDJSON has no header
+    }
+
+    @Override
+    public void write(TaskExportRecord task) throws IOException {
+        writer.write(objectWriter.writeValueAsString(task));
+        writer.write('\n');
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.taskflow.api.export;
+
+import com.taskflow.api.model.Comment;
+import com.taskflow.api.model.Task;
+import com.taskflow.api.model.enums.Priority;
+import com.taskflow.api.model.enums.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Flat, serialization-friendly view of a task and its comments used by exports.
+ * Built from managed entities right before they are detached.
+ */
+record TaskExportRecord(Long id,
+                        String title,
+                        String description,
+                        TaskStatus status,
+                        Priority priority,
+                        String assignee,
+                        LocalDateTime dueDate,
+                        Integer estimatedHours,
+                        Integer actualHours,
+                        LocalDateTime createdAt,
+                        LocalDateTime updatedAt,
+                        List<CommentExportRecord> comments) {
+
+    static TaskExportRecord of(Task task, List<CommentExportRecord> comments) {
+        return new TaskExportRecord(
+                task.getId(),
+                task.getTitle(),
+                task.getDescription(),
+                task.getStatus(),
+                task.getPriority(),
+                task.getAssignee() != null ? task.getAssignee().getUsername() : null,
+                task.getDueDate(),
+                task.getEstimatedHours(),
+                task.getActualHours(),
+                task.getCreatedAt(),
+                task.getUpdatedAt(),
+                comments);
+    }
+
+    record CommentExportRecord(Long id, String author, String content, Boolean edited, LocalDateTime createdAt) {
+
+        static CommentExportRecord of(Comment comment) {
+            return new CommentExportRecord(
+                    comment.getId(),
+                    comment.getAuthor().getUsername(),
+                    comment.getContent(),
+                    comment.getIsEdited(),
+                    comment.getCreatedAt());
+        }
+
+    }
+
+}
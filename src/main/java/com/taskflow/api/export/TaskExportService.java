@@ -0,0 +1,142 @@
+package com.taskflow.api.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.api.model.Comment;
+import com.taskflow.api.model.Task;
+import com.taskflow.api.repository.CommentRepository;
+import com.taskflow.api.repository.TaskRepository;
+import com.taskflow.api.service.ProjectService;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Streams every task of a project, with its comments, to a writer
+ *
+ * Tasks and comments are read through two forward-only cursors ordered by task
+ * ID and merge-joined, so the export issues exactly two queries regardless of
+ * project size. The persistence context is cleared after every chunk, which
+ * keeps memory constant.
+ */
+@Service
+@Slf4j
+public class TaskExportService {
+
+    private final TaskRepository taskRepository;
+    private final CommentRepository commentRepository;
+    private final ProjectService projectService;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+
+    public TaskExportService(TaskRepository taskRepository,
+                             CommentRepository commentRepository,
+                             ProjectService projectService,
+                             EntityManager entityManager,
+                             ObjectMapper objectMapper,
+                             @Value("${app.export.chunk-size:500}") int chunkSize) {
+        this.taskRepository = taskRepository;
+        this.commentRepository = commentRepository;
+        this.projectService = projectService;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Writes the export and returns the number of tasks written.
+     * The writer is flushed after every chunk but not closed.
+     */
+    @Transactional(readOnly = true)
+    public long exportProject(Long projectId, Long userId, ExportFormat format, Writer writer) {
+
+        log.info("Exporting tasks of project ID: {} as {} for user ID: {}", projectId, format, userId);
+
+        projectService.requireProjectAccess(projectId, userId);
+
+        TaskExportWriter exportWriter = TaskExportWriter.create(format, writer, objectMapper);
+        long exported = 0;
+
+        try (Stream<Task> tasks = taskRepository.streamByProjectId(projectId);
+             Stream<Comment> comments = commentRepository.streamByProjectId(projectId)) {
+
+            exportWriter.writeHeader();
+
+            CommentCursor commentCursor = new CommentCursor(comments.iterator());
+            Iterator<Task> taskIterator = tasks.iterator();
+
+            while (taskIterator.hasNext()) {
+                Task task = taskIterator.next();
+                exportWriter.write(TaskExportRecord.of(task, commentCursor.takeFor(task.getId())));
+                exported++;
+
+                if (exported % chunkSize == 0) {
+                    writer.flush();
+                    entityManager.clear();
+                }
+            }
+
+            writer.flush();
+
+        } catch (IOException e) {
+            throw new UncheckedIOException("Export of project " + projectId + " failed", e);
+        }
+
+        log.info("Successfully exported {} tasks of project ID: {}", exported, projectId);
+
+        return exported;
+
+    }
+
+    /**
+     * Look-ahead over the comment stream: hands out the run of comments that
+     * belongs to the current task and keeps the first comment of the next one.
+     */
+    private static final class CommentCursor {
+
+        private final Iterator<Comment> comments;
+        private Comment next;
+
+        private CommentCursor(Iterator<Comment> comments) {
+            this.comments = comments;
+            this.next = comments.hasNext() ? comments.next() : null;
+        }
+
+        private List<TaskExportRecord.CommentExportRecord> takeFor(Long taskId) {
+
+            // Both streams are ordered by task ID, so anything smaller belongs to no exported task
+            while (next != null && next.getTask().getId() < taskId) {
+                advance();
+            }
+
+            if (next == null || !next.getTask().getId().equals(taskId)) {
+                return List.of();
+            }
+
+            List<TaskExportRecord.CommentExportRecord> taskComments = new ArrayList<>();
+            while (next != null && next.getTask().getId().equals(taskId)) {
+                taskComments.add(TaskExportRecord.CommentExportRecord.of(next));
+                advance();
+            }
+
+            return taskComments;
+
+        }
+
+        private void advance() {
+            next = comments.hasNext() ? comments.next() : null;
+        }
+
+    }
+
+}
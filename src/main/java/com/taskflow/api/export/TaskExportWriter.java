@@ -0,0 +1,24 @@
+package com.taskflow.api.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Serializes export records one at a time to the target writer.
+ */
+interface TaskExportWriter {
+
+    void writeHeader() throws IOException;
+
+    void write(TaskExportRecord task) throws IOException;
+
+    static TaskExportWriter create(ExportFormat format, Writer writer, ObjectMapper objectMapper) {
+        return switch (format) {
+            case NDJSON -> new NdjsonTaskExportWriter(writer, objectMapper);
+            case CSV -> new CsvTaskExportWriter(writer);
+        };
+    }
+
+}
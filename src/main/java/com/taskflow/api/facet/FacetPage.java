@@ -0,0 +1,17 @@
+package com.taskflow.api.facet;
+
+import java.util.List;
+
+/**
+ * One page of a facet-filtered result, ordered by task id
+ *
+ * nextAfterId is null on the last page; otherwise pass it back to fetch the next one.
+ * totalMatches counts every accessible match, not just this page.
+ */
+public record FacetPage<T>(List<T> items, Long nextAfterId, long totalMatches) {
+
+    public boolean hasNext() {
+        return nextAfterId != null;
+    }
+
+}
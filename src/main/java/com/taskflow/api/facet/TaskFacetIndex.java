@@ -0,0 +1,61 @@
+package com.taskflow.api.facet;
+
+import com.taskflow.api.cache.ProjectAccess;
+import com.taskflow.api.event.ProjectOwnershipChangedEvent;
+import com.taskflow.api.event.TaskChangedEvent;
+import com.taskflow.api.index.RebuildableIndex;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.function.Consumer;
+
+/**
+ * In-memory bitmap index of task IDs by status, priority, assignee and project.
+ *
+ * Committed task changes move the task between bitmaps; rebuilds fill fresh
+ * bitmaps off to the side while the live ones keep serving (see RebuildableIndex).
+ */
+@Component
+public class TaskFacetIndex {
+
+    private final RebuildableIndex<TaskFacets> index = new RebuildableIndex<>("Facet index", TaskFacets::new,
+            rebuilt -> rebuilt.size() + " tasks");
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        index.apply(facets -> facets.apply(event.previous(), event.current()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOwnershipChanged(ProjectOwnershipChangedEvent event) {
+        if (event.isDeletion()) {
+            index.apply(facets -> facets.removeProject(event.projectId()));
+        }
+    }
+
+    /**
+     * IDs of tasks matching the filter within the caller's accessible projects.
+     */
+    public Roaring64Bitmap match(TaskFilter filter, ProjectAccess access) {
+        return index.read(facets -> {
+            Roaring64Bitmap matches = facets.evaluate(filter);
+            facets.restrictTo(matches, access);
+            return matches;
+        });
+    }
+
+    public long size() {
+        return index.read(TaskFacets::size);
+    }
+
+    /**
+     * Rebuilds from the tasks the loader adds to the empty facets it is given.
+     * Removing a task the loader never saw and re-adding one it did are both no-ops.
+     */
+    void rebuild(Consumer<TaskFacets> loader) {
+        index.rebuild(loader);
+    }
+
+}
@@ -0,0 +1,89 @@
+package com.taskflow.api.facet;
+
+import com.taskflow.api.event.TaskSnapshot;
+import com.taskflow.api.model.Task;
+import com.taskflow.api.pagination.CursorPage;
+import com.taskflow.api.repository.TaskRepository;
+import com.taskflow.api.service.ProjectService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.longlong.PeekableLongIterator;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Multi-facet task filtering: the filter is resolved to task IDs against
+ * TaskFacetIndex, and only the requested page of IDs is loaded from the database.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskFacetService {
+
+    private final TaskFacetIndex index;
+    private final TaskRepository taskRepository;
+    private final ProjectService projectService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.facets.rebuild-on-startup:true}")
+    private boolean rebuildOnStartup;
+
+    /**
+     * Tasks matching the filter in ascending id order; pass the previous page's nextAfterId (or null) to page.
+     */
+    @Transactional(readOnly = true)
+    public FacetPage<Task> filterTasks(TaskFilter filter, Long userId, Long afterId, int size) {
+
+        log.debug("Filtering tasks by {} for user ID: {}", filter, userId);
+
+        Roaring64Bitmap matches = index.match(filter, projectService.projectAccess(userId));
+        int pageSize = CursorPage.normalizeSize(size);
+
+        List<Long> pageIds = new ArrayList<>(pageSize);
+        PeekableLongIterator ids = matches.getLongIteratorFrom(afterId != null ? afterId + 1 : 0);
+        while (ids.hasNext() && pageIds.size() < pageSize) {
+            pageIds.add(ids.next());
+        }
+
+        List<Task> tasks = pageIds.isEmpty() ? List.of() : taskRepository.findWithAssigneeByIdIn(pageIds);
+        Long nextAfterId = ids.hasNext() ? pageIds.get(pageIds.size() - 1) : null;
+        return new FacetPage<>(tasks, nextAfterId, matches.getLongCardinality());
+
+    }
+
+    public long countTasks(TaskFilter filter, Long userId) {
+        return index.match(filter, projectService.projectAccess(userId)).getLongCardinality();
+    }
+
+    /**
+     * Rebuilds the facet index from the database; filters keep using the old index until it finishes.
+     */
+    public void rebuild() {
+
+        log.info("Rebuilding facet index");
+
+        index.rebuild(rebuilt -> transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<TaskSnapshot> tasks = taskRepository.streamAllSnapshots()) {
+                tasks.forEach(task -> rebuilt.apply(null, task));
+            }
+        }));
+
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (rebuildOnStartup) {
+            rebuild();
+        }
+    }
+
+}
@@ -0,0 +1,184 @@
+package com.taskflow.api.facet;
+
+import com.taskflow.api.cache.ProjectAccess;
+import com.taskflow.api.event.TaskSnapshot;
+import com.taskflow.api.model.enums.Priority;
+import com.taskflow.api.model.enums.TaskStatus;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compressed bitmaps of task IDs per status, priority, assignee and project.
+ * Not thread-safe; callers synchronize (see TaskFacetIndex).
+ */
+final class TaskFacets {
+
+    private final Roaring64Bitmap all = new Roaring64Bitmap();
+    private final Map<TaskStatus, Roaring64Bitmap> byStatus = new EnumMap<>(TaskStatus.class);
+    private final Map<Priority, Roaring64Bitmap> byPriority = new EnumMap<>(Priority.class);
+    private final Map<Long, Roaring64Bitmap> byAssignee = new HashMap<>();
+    private final Roaring64Bitmap unassigned = new Roaring64Bitmap();
+    private final Map<Long, Roaring64Bitmap> byProject = new HashMap<>();
+
+    void apply(TaskSnapshot previous, TaskSnapshot current) {
+        if (previous != null) {
+            remove(previous);
+        }
+        if (current != null) {
+            add(current);
+        }
+    }
+
+    /**
+     * Drops every task of a deleted project (its tasks go with it in a cascade, without task events).
+     */
+    void removeProject(Long projectId) {
+
+        Roaring64Bitmap tasks = byProject.remove(projectId);
+        if (tasks == null) {
+            return;
+        }
+
+        all.andNot(tasks);
+        unassigned.andNot(tasks);
+        byStatus.values().forEach(bitmap -> bitmap.andNot(tasks));
+        byPriority.values().forEach(bitmap -> bitmap.andNot(tasks));
+        byAssignee.values().forEach(bitmap -> bitmap.andNot(tasks));
+        byAssignee.values().removeIf(Roaring64Bitmap::isEmpty);
+
+    }
+
+    long size() {
+        return all.getLongCardinality();
+    }
+
+    /**
+     * Task IDs matching the filter, as a new bitmap the caller may modify.
+     */
+    Roaring64Bitmap evaluate(TaskFilter filter) {
+
+        if (filter instanceof TaskFilter.StatusIn statusIn) {
+            return union(statusIn.statuses().stream().map(byStatus::get).toList());
+        }
+        if (filter instanceof TaskFilter.PriorityIn priorityIn) {
+            return union(priorityIn.priorities().stream().map(byPriority::get).toList());
+        }
+        if (filter instanceof TaskFilter.AssigneeIn assigneeIn) {
+            return union(assigneeIn.assigneeIds().stream().map(byAssignee::get).toList());
+        }
+        if (filter instanceof TaskFilter.Unassigned) {
+            return unassigned.clone();
+        }
+        if (filter instanceof TaskFilter.ProjectIn projectIn) {
+            return union(projectIn.projectIds().stream().map(byProject::get).toList());
+        }
+        if (filter instanceof TaskFilter.And and) {
+            return intersect(and.filters());
+        }
+        if (filter instanceof TaskFilter.Or or) {
+            Roaring64Bitmap result = new Roaring64Bitmap();
+            or.filters().forEach(operand -> result.or(evaluate(operand)));
+            return result;
+        }
+        if (filter instanceof TaskFilter.Not not) {
+            Roaring64Bitmap result = all.clone();
+            result.andNot(evaluate(not.filter()));
+            return result;
+        }
+        throw new IllegalArgumentException("Unsupported filter: " + filter);
+
+    }
+
+    /**
+     * Restricts matches to the projects the caller may access (admins see everything).
+     */
+    void restrictTo(Roaring64Bitmap matches, ProjectAccess access) {
+        if (!access.admin()) {
+            matches.and(union(access.ownedProjectIds().stream().map(byProject::get).toList()));
+        }
+    }
+
+    private void add(TaskSnapshot task) {
+        long id = task.id();
+        all.addLong(id);
+        byStatus.computeIfAbsent(task.status(), status -> new Roaring64Bitmap()).addLong(id);
+        byPriority.computeIfAbsent(task.priority(), priority -> new Roaring64Bitmap()).addLong(id);
+        if (task.assigneeId() != null) {
+            byAssignee.computeIfAbsent(task.assigneeId(), assigneeId -> new Roaring64Bitmap()).addLong(id);
+        } else {
+            unassigned.addLong(id);
+        }
+        byProject.computeIfAbsent(task.projectId(), projectId -> new Roaring64Bitmap()).addLong(id);
+    }
+
+    private void remove(TaskSnapshot task) {
+        long id = task.id();
+        all.removeLong(id);
+        removeFrom(byStatus, task.status(), id);
+        removeFrom(byPriority, task.priority(), id);
+        if (task.assigneeId() != null) {
+            removeFrom(byAssignee, task.assigneeId(), id);
+        } else {
+            unassigned.removeLong(id);
+        }
+        removeFrom(byProject, task.projectId(), id);
+    }
+
+    private static <K> void removeFrom(Map<K, Roaring64Bitmap> facet, K key, long id) {
+        Roaring64Bitmap bitmap = facet.get(key);
+        if (bitmap != null) {
+            bitmap.removeLong(id);
+            if (bitmap.isEmpty()) {
+                facet.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Intersects positive operands first and subtracts negated ones, so And(x, Not(y))
+     * never materializes the complement of y.
+     */
+    private Roaring64Bitmap intersect(List<TaskFilter> operands) {
+
+        Roaring64Bitmap result = null;
+        List<TaskFilter> negated = new ArrayList<>();
+        for (TaskFilter operand : operands) {
+            if (operand instanceof TaskFilter.Not not) {
+                negated.add(not.filter());
+            } else if (result == null) {
+                result = evaluate(operand);
+            } else {
+                result.and(evaluate(operand));
+            }
+            if (result != null && result.isEmpty()) {
+                return result;
+            }
+        }
+
+        if (result == null) {
+            result = all.clone();
+        }
+        for (TaskFilter operand : negated) {
+            result.andNot(evaluate(operand));
+        }
+        return result;
+
+    }
+
+    private static Roaring64Bitmap union(Collection<Roaring64Bitmap> bitmaps) {
+        Roaring64Bitmap result = new Roaring64Bitmap();
+        for (Roaring64Bitmap bitmap : bitmaps) {
+            if (bitmap != null) {
+                result.or(bitmap);
+            }
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,99 @@
+package com.taskflow.api.facet;
+
+import com.taskflow.api.model.enums.Priority;
+import com.taskflow.api.model.enums.TaskStatus;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Boolean filter over task facets, resolved against TaskFacetIndex bitmaps.
+ *
+ * Leaves match one facet (any of the given values); And/Or/Not combine them
+ * arbitrarily, e.g. and(inProgress(), priority(HIGH, URGENT), not(unassigned())).
+ */
+public sealed interface TaskFilter {
+
+    record StatusIn(Set<TaskStatus> statuses) implements TaskFilter {
+        public StatusIn {
+            statuses = Set.copyOf(statuses);
+        }
+    }
+
+    record PriorityIn(Set<Priority> priorities) implements TaskFilter {
+        public PriorityIn {
+            priorities = Set.copyOf(priorities);
+        }
+    }
+
+    record AssigneeIn(Set<Long> assigneeIds) implements TaskFilter {
+        public AssigneeIn {
+            assigneeIds = Set.copyOf(assigneeIds);
+        }
+    }
+
+    record Unassigned() implements TaskFilter {
+    }
+
+    record ProjectIn(Set<Long> projectIds) implements TaskFilter {
+        public ProjectIn {
+            projectIds = Set.copyOf(projectIds);
+        }
+    }
+
+    record And(List<TaskFilter> filters) implements TaskFilter {
+        public And {
+            filters = List.copyOf(filters);
+        }
+    }
+
+    record Or(List<TaskFilter> filters) implements TaskFilter {
+        public Or {
+            filters = List.copyOf(filters);
+        }
+    }
+
+    record Not(TaskFilter filter) implements TaskFilter {
+    }
+
+    static TaskFilter status(TaskStatus... statuses) {
+        return new StatusIn(Set.of(statuses));
+    }
+
+    /**
+     * Same statuses as Task.isInProgress()
+     */
+    static TaskFilter inProgress() {
+        return new StatusIn(EnumSet.of(TaskStatus.IN_PROGRESS, TaskStatus.IN_REVIEW, TaskStatus.TESTING));
+    }
+
+    static TaskFilter priority(Priority... priorities) {
+        return new PriorityIn(Set.of(priorities));
+    }
+
+    static TaskFilter assignee(Long... assigneeIds) {
+        return new AssigneeIn(Set.of(assigneeIds));
+    }
+
+    static TaskFilter unassigned() {
+        return new Unassigned();
+    }
+
+    static TaskFilter project(Long... projectIds) {
+        return new ProjectIn(Set.of(projectIds));
+    }
+
+    static TaskFilter and(TaskFilter... filters) {
+        return new And(List.of(filters));
+    }
+
+    static TaskFilter or(TaskFilter... filters) {
+        return new Or(List.of(filters));
+    }
+
+    static TaskFilter not(TaskFilter filter) {
+        return new Not(filter);
+    }
+
+}
@@ -0,0 +1,131 @@
+package com.taskflow.api.index;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * In-memory index that is rebuilt off to the side while the live copy keeps serving.
+ *
+ * Reads and writes go to the live instance under a read/write lock. A rebuild
+ * fills a fresh instance without holding the lock; writes made meanwhile are
+ * applied to the live instance and recorded, then replayed onto the fresh one
+ * before it is swapped in. Writes must therefore be harmless to replay on an
+ * instance that already reflects them (upserts and removals by id).
+ */
+@Slf4j
+public class RebuildableIndex<T> {
+
+    private final String name;
+    private final Supplier<T> factory;
+    private final Function<T, String> summary;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private T live;
+    private List<Consumer<T>> pendingDuringRebuild;
+
+    /**
+     * The name (e.g. "Search index") and summary of the rebuilt instance go into the log.
+     */
+    public RebuildableIndex(String name, Supplier<T> factory, Function<T, String> summary) {
+        this.name = name;
+        this.factory = factory;
+        this.summary = summary;
+        this.live = factory.get();
+    }
+
+    public <R> R read(Function<T, R> query) {
+        lock.readLock().lock();
+        try {
+            return query.apply(live);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void apply(Consumer<T> mutation) {
+        lock.writeLock().lock();
+        try {
+            mutation.accept(live);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(mutation);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Like apply, returning what the mutation returned on the live instance; replays discard it.
+     */
+    public <R> R applyAndGet(Function<T, R> mutation) {
+        lock.writeLock().lock();
+        try {
+            R result = mutation.apply(live);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(mutation::apply);
+            }
+            return result;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Passes a fresh instance to the loader, then replays the writes made since
+     * and swaps it in. If the loader throws, the live instance stays in place.
+     */
+    public void rebuild(Consumer<T> loader) {
+
+        T rebuilt = beginRebuild();
+        try {
+            loader.accept(rebuilt);
+        } catch (RuntimeException e) {
+            abortRebuild();
+            throw e;
+        }
+        finishRebuild(rebuilt);
+
+    }
+
+    private T beginRebuild() {
+        lock.writeLock().lock();
+        try {
+            if (pendingDuringRebuild != null) {
+                throw new IllegalStateException(name + " rebuild already in progress");
+            }
+            pendingDuringRebuild = new ArrayList<>();
+            return factory.get();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void finishRebuild(T rebuilt) {
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild.forEach(mutation -> mutation.accept(rebuilt));
+            log.info("{} rebuilt: {} ({} writes replayed)", name, summary.apply(rebuilt), pendingDuringRebuild.size());
+            live = rebuilt;
+            pendingDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void abortRebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.taskflow.api.instrumentation;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts every SQL statement Hibernate prepares; the SQL itself is passed through unchanged.
+ */
+public class CountingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlMetricsContext.statementPrepared();
+        return sql;
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.taskflow.api.instrumentation;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * Times JDBC statement and batch execution. Hibernate creates one instance
+ * per session (hibernate.session.events.auto), so the start mark is not shared.
+ */
+public class JdbcTimingSessionListener extends BaseSessionEventListener {
+
+    private long executionStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SqlMetricsContext.jdbcTimeElapsed(System.nanoTime() - executionStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        SqlMetricsContext.jdbcTimeElapsed(System.nanoTime() - executionStart);
+    }
+
+}
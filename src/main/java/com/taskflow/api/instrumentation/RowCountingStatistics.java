@@ -0,0 +1,32 @@
+package com.taskflow.api.instrumentation;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.internal.StatisticsImpl;
+
+/**
+ * Hibernate statistics that also report fetched rows to the current SqlMetricsContext:
+ * result rows of every query plus one row per entity fetched by its own select
+ * (find by id, proxy initialization). loadEntity is not counted: it fires for
+ * every entity hydrated from a query result, which queryExecuted already covers.
+ *
+ * Only receives callbacks while hibernate.generate_statistics is enabled.
+ */
+public class RowCountingStatistics extends StatisticsImpl {
+
+    public RowCountingStatistics(SessionFactoryImplementor sessionFactory) {
+        super(sessionFactory);
+    }
+
+    @Override
+    public void queryExecuted(String hql, int rows, long time) {
+        super.queryExecuted(hql, rows, time);
+        SqlMetricsContext.rowsFetched(rows);
+    }
+
+    @Override
+    public void fetchEntity(String entityName) {
+        super.fetchEntity(entityName);
+        SqlMetricsContext.rowsFetched(1);
+    }
+
+}
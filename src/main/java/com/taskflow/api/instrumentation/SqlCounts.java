@@ -0,0 +1,40 @@
+package com.taskflow.api.instrumentation;
+
+/**
+ * SQL work done on one thread while a service method was running.
+ * Nested service calls are included in the counts of their callers.
+ */
+final class SqlCounts {
+
+    private long statements;
+    private long rows;
+    private long jdbcNanos;
+
+    SqlCounts() {
+    }
+
+    void addStatement() {
+        statements++;
+    }
+
+    void addRows(long count) {
+        rows += count;
+    }
+
+    void addJdbcNanos(long nanos) {
+        jdbcNanos += nanos;
+    }
+
+    long statements() {
+        return statements;
+    }
+
+    long rows() {
+        return rows;
+    }
+
+    long jdbcNanos() {
+        return jdbcNanos;
+    }
+
+}
@@ -0,0 +1,116 @@
+package com.taskflow.api.instrumentation;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Records statements, rows fetched and JDBC time for each public method of the
+ * transactional services, and warns when a call exceeds the query budget.
+ *
+ * Every call is recorded, including those served entirely from caches (zero
+ * statements), so the counts show how often a method avoids the database. The
+ * method tag carries the parameter types, keeping overloads apart.
+ *
+ * Ordered outside the transaction advice so statements flushed at commit are
+ * attributed to the method that caused them.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "app.sql-metrics.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class SqlMetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+    private final int queryBudget;
+    private final Map<Method, MethodMeters> meters = new ConcurrentHashMap<>();
+
+    public SqlMetricsAspect(MeterRegistry meterRegistry,
+                            @Value("${app.sql-metrics.query-budget:20}") int queryBudget) {
+        this.meterRegistry = meterRegistry;
+        this.queryBudget = queryBudget;
+    }
+
+    @Around("execution(public * com.taskflow.api.service.UserService.*(..)) || " +
+            "execution(public * com.taskflow.api.service.ProjectService.*(..)) || " +
+            "execution(public * com.taskflow.api.service.TaskService.*(..))")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+
+        SqlCounts counts = SqlMetricsContext.begin();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            SqlMetricsContext.end(counts);
+            report(((MethodSignature) joinPoint.getSignature()).getMethod(), counts);
+        }
+
+    }
+
+    private void report(Method method, SqlCounts counts) {
+
+        MethodMeters methodMeters = meters.computeIfAbsent(method, this::register);
+        methodMeters.statements().record(counts.statements());
+        methodMeters.rows().record(counts.rows());
+        methodMeters.jdbcTime().record(counts.jdbcNanos(), TimeUnit.NANOSECONDS);
+
+        if (counts.statements() > queryBudget) {
+            log.warn("{}.{} executed {} SQL statements (budget {}), fetched {} rows, {} ms in JDBC",
+                    method.getDeclaringClass().getSimpleName(), signature(method), counts.statements(), queryBudget,
+                    counts.rows(), TimeUnit.NANOSECONDS.toMillis(counts.jdbcNanos()));
+        }
+
+    }
+
+    private MethodMeters register(Method method) {
+
+        String className = method.getDeclaringClass().getSimpleName();
+        String methodName = signature(method);
+
+        return new MethodMeters(
+                DistributionSummary.builder("service.sql.statements")
+                        .description("SQL statements prepared per service call")
+                        .tags("class", className, "method", methodName)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry),
+                DistributionSummary.builder("service.sql.rows")
+                        .description("Rows fetched per service call")
+                        .tags("class", className, "method", methodName)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry),
+                Timer.builder("service.sql.jdbc.time")
+                        .description("Time spent executing JDBC statements per service call")
+                        .tags("class", className, "method", methodName)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry));
+
+    }
+
+    // e.g. findProjectsCreatedAfter(LocalDateTime,String,int)
+    private static String signature(Method method) {
+        return Arrays.stream(method.getParameterTypes())
+                .map(Class::getSimpleName)
+                .collect(Collectors.joining(",", method.getName() + "(", ")"));
+    }
+
+    private record MethodMeters(DistributionSummary statements, DistributionSummary rows, Timer jdbcTime) {
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.taskflow.api.instrumentation;
+
+import java.util.ArrayDeque;
+
+/**
+ * Thread-local stack of SqlCounts, one frame per instrumented service call in progress.
+ *
+ * The Hibernate hooks report into every open frame; outside an instrumented
+ * call the stack is empty and reporting is a no-op.
+ */
+final class SqlMetricsContext {
+
+    private static final ThreadLocal<ArrayDeque<SqlCounts>> FRAMES = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private SqlMetricsContext() {
+    }
+
+    static SqlCounts begin() {
+        SqlCounts counts = new SqlCounts();
+        FRAMES.get().push(counts);
+        return counts;
+    }
+
+    static void end(SqlCounts counts) {
+        ArrayDeque<SqlCounts> frames = FRAMES.get();
+        frames.remove(counts);
+        if (frames.isEmpty()) {
+            FRAMES.remove();
+        }
+    }
+
+    static void statementPrepared() {
+        for (SqlCounts counts : FRAMES.get()) {
+            counts.addStatement();
+        }
+    }
+
+    static void rowsFetched(long rows) {
+        for (SqlCounts counts : FRAMES.get()) {
+            counts.addRows(rows);
+        }
+    }
+
+    static void jdbcTimeElapsed(long nanos) {
+        for (SqlCounts counts : FRAMES.get()) {
+            counts.addJdbcNanos(nanos);
+        }
+    }
+
+}
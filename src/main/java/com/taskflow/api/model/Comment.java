@@ -14,7 +14,12 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "comments")
+@NamedEntityGraph(name = Comment.GRAPH_AUTHOR, attributeNodes = @NamedAttributeNode("author"))
+@Table(name = "comments", indexes = {
+        @Index(name = "idx_comments_created", columnList = "created_at, id"),
+        @Index(name = "idx_comments_task_created", columnList = "task_id, created_at, id"),
+        @Index(name = "idx_comments_author_created", columnList = "author_id, created_at, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -22,9 +27,14 @@ import java.time.LocalDateTime;
 @EntityListeners(AuditingEntityListener.class)
 public class Comment {
 
+    public static final String GRAPH_AUTHOR = "Comment.author";
 
+    /**
+     * Pooled sequence (a table on MySQL) instead of IDENTITY so inserts can be JDBC-batched.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comment_seq")
+    @SequenceGenerator(name = "comment_seq", sequenceName = "comment_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Comment content cannot be blank")
@@ -6,7 +6,12 @@ import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -14,15 +19,31 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 
 @Entity
-@Table(name = "projects")
+@NamedEntityGraph(name = Project.GRAPH_TASKS_WITH_ASSIGNEES,
+        attributeNodes = @NamedAttributeNode(value = "tasks", subgraph = "tasks"),
+        subgraphs = @NamedSubgraph(name = "tasks", attributeNodes = @NamedAttributeNode("assignee")))
+@Table(name = "projects", uniqueConstraints = {
+        @UniqueConstraint(name = Project.UK_OWNER_ACTIVE_NAME, columnNames = {"owner_id", "active_name_key"})
+}, indexes = {
+        @Index(name = "idx_projects_created", columnList = "created_at, id"),
+        @Index(name = "idx_projects_owner_created", columnList = "owner_id, created_at, id"),
+        @Index(name = "idx_projects_active_created", columnList = "is_active, created_at, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 @EntityListeners(AuditingEntityListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "projects")
 public class Project {
+
+    public static final String GRAPH_TASKS_WITH_ASSIGNEES = "Project.tasksWithAssignees";
+    public static final String UK_OWNER_ACTIVE_NAME = "uk_projects_owner_active_name";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -32,6 +53,22 @@ public class Project {
     @Column(name = "name", nullable = false, length = 100)
     private String name;
 
+    /**
+     * nameKey(name) while the project is active, null otherwise. NULLs never collide,
+     * so the unique (owner_id, active_name_key) constraint only covers active projects.
+     */
+    @Column(name = "active_name_key", length = 100)
+    private String activeNameKey;
+
+    /**
+     * Name key of an active project loaded without an active_name_key: its name clashed
+     * with another active project when keys were backfilled. Null for everything else.
+     */
+    @Transient
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private String unkeyedNameKey;
+
     @Size(max = 500, message = "Description cannot exceed 500 characters")
     @Column(name = "description", length = 500)
     private String description;
@@ -42,6 +79,7 @@ public class Project {
     private User user;
 
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 50)
     @Builder.Default
     private List<Task> tasks = new ArrayList<>();
 
@@ -57,6 +95,37 @@ public class Project {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    /**
+     * Case-folded, trimmed form of a project name; two names clash when their keys are equal.
+     */
+    public static String nameKey(String name) {
+        return name == null ? null : name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Also runs on every update, so a legacy clashing project stays unkeyed until it is
+     * renamed; claiming its old key would fail the constraint on any unrelated edit.
+     */
+    @PrePersist
+    @PreUpdate
+    public void refreshActiveNameKey() {
+        String key = Boolean.TRUE.equals(isActive) ? nameKey(name) : null;
+        activeNameKey = key != null && key.equals(unkeyedNameKey) ? null : key;
+    }
+
+    /**
+     * Backfill only: keys a project loaded without one, once its name is known to be free.
+     */
+    public void claimActiveNameKey() {
+        unkeyedNameKey = null;
+        refreshActiveNameKey();
+    }
+
+    @PostLoad
+    void rememberMissingNameKey() {
+        unkeyedNameKey = Boolean.TRUE.equals(isActive) && activeNameKey == null ? nameKey(name) : null;
+    }
+
     public void addTask(Task task) {
         tasks.add(task);
         task.setProject(this);
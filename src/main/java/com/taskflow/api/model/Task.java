@@ -10,6 +10,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -19,15 +20,30 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "tasks")
+@NamedEntityGraph(name = Task.GRAPH_ASSIGNEE, attributeNodes = @NamedAttributeNode("assignee"))
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_created", columnList = "created_at, id"),
+        @Index(name = "idx_tasks_project_created", columnList = "project_id, created_at, id"),
+        @Index(name = "idx_tasks_assignee_created", columnList = "assignee_id, created_at, id"),
+        @Index(name = "idx_tasks_status_created", columnList = "status, created_at, id"),
+        @Index(name = "idx_tasks_priority_created", columnList = "priority, created_at, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 @EntityListeners(AuditingEntityListener.class)
 public class Task {
+
+    public static final String GRAPH_ASSIGNEE = "Task.assignee";
+
+    /**
+     * Pooled sequence (a table on MySQL) instead of IDENTITY so inserts can be JDBC-batched.
+     * One sequence round trip reserves allocationSize IDs.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_seq")
+    @SequenceGenerator(name = "task_seq", sequenceName = "task_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Task title cannot be blank")
@@ -60,6 +76,7 @@ public class Task {
     private User assignee;
 
     @OneToMany(mappedBy = "task", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 50)
     @Builder.Default
     private List<Comment> comments = new ArrayList<>();
 
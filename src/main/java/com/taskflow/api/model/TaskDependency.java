@@ -0,0 +1,50 @@
+package com.taskflow.api.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * "blocker must be finished before blocked can start", between two tasks of the same project.
+ *
+ * projectId is denormalized so a project's whole graph loads with one indexed query.
+ * Cycles are rejected on insert (see dependency.TaskDependencyService).
+ */
+@Entity
+@Table(name = "task_dependencies", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_task_dependencies_edge", columnNames = {"blocker_task_id", "blocked_task_id"})
+}, indexes = {
+        @Index(name = "idx_task_dependencies_project", columnList = "project_id"),
+        @Index(name = "idx_task_dependencies_blocked", columnList = "blocked_task_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+public class TaskDependency {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "blocker_task_id", nullable = false)
+    private Long blockerTaskId;
+
+    @Column(name = "blocked_task_id", nullable = false)
+    private Long blockedTaskId;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+}
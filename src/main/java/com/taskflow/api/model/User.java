@@ -9,6 +9,9 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -29,17 +32,25 @@ import java.util.List;
  * - Password encryption (handled in service layer)
  * - Role-based access control
  * - Account activation status
+ *
+ * Cached in the second-level "users" region (READ_WRITE, see hibernate-jcache.conf)
  */
 @Entity
 @Table(name = "users", uniqueConstraints = {
         @UniqueConstraint(columnNames = "email"),
         @UniqueConstraint(columnNames = "username")
+}, indexes = {
+        @Index(name = "idx_users_created", columnList = "created_at, id"),
+        @Index(name = "idx_users_active_created", columnList = "is_active, created_at, id"),
+        @Index(name = "idx_users_role_created", columnList = "role, created_at, id")
 })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 @EntityListeners(AuditingEntityListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
 public class User {
 
     @Id
@@ -92,6 +103,7 @@ public class User {
      * OneToMany: One user can own many projects
      */
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 50)
     @Builder.Default
     private List<Project> ownedProjects = new ArrayList<>();
 
@@ -100,6 +112,7 @@ public class User {
      * OneToMany: One user can be assigned to many tasks
      */
     @OneToMany(mappedBy = "assignee", cascade = CascadeType.ALL)
+    @BatchSize(size = 50)
     @Builder.Default
     private List<Task> assignedTasks = new ArrayList<>();
 
@@ -108,6 +121,7 @@ public class User {
      * OneToMany: One user can author many comments
      */
     @OneToMany(mappedBy = "author", cascade = CascadeType.ALL)
+    @BatchSize(size = 50)
     @Builder.Default
     private List<Comment> comments = new ArrayList<>();
 
@@ -0,0 +1,112 @@
+package com.taskflow.api.model;
+
+import com.taskflow.api.model.enums.Priority;
+import com.taskflow.api.model.enums.TaskStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Denormalized workload of one user: their open (not DONE/CANCELLED) assigned
+ * tasks counted by status and priority, the estimated hours of those tasks and
+ * the earliest due date among them.
+ *
+ * Maintained in the same transaction as the task writes (see workload.WorkloadUpdater),
+ * so the "my work" view is one primary key read.
+ */
+@Entity
+@Table(name = "user_workloads")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserWorkload {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "open_count", nullable = false)
+    private int openCount;
+
+    @Column(name = "todo_count", nullable = false)
+    private int todoCount;
+
+    @Column(name = "in_progress_count", nullable = false)
+    private int inProgressCount;
+
+    @Column(name = "in_review_count", nullable = false)
+    private int inReviewCount;
+
+    @Column(name = "testing_count", nullable = false)
+    private int testingCount;
+
+    @Column(name = "low_count", nullable = false)
+    private int lowCount;
+
+    @Column(name = "medium_count", nullable = false)
+    private int mediumCount;
+
+    @Column(name = "high_count", nullable = false)
+    private int highCount;
+
+    @Column(name = "urgent_count", nullable = false)
+    private int urgentCount;
+
+    @Column(name = "estimated_hours_remaining", nullable = false)
+    private long estimatedHoursRemaining;
+
+    @Column(name = "next_due_date")
+    private LocalDateTime nextDueDate;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public static UserWorkload empty(Long userId) {
+        return UserWorkload.builder().userId(userId).build();
+    }
+
+    public int getCount(TaskStatus status) {
+        return switch (status) {
+            case TODO -> todoCount;
+            case IN_PROGRESS -> inProgressCount;
+            case IN_REVIEW -> inReviewCount;
+            case TESTING -> testingCount;
+            case DONE, CANCELLED -> 0;
+        };
+    }
+
+    public int getCount(Priority priority) {
+        return switch (priority) {
+            case LOW -> lowCount;
+            case MEDIUM -> mediumCount;
+            case HIGH -> highCount;
+            case URGENT -> urgentCount;
+        };
+    }
+
+    public void adjustCount(TaskStatus status, int delta) {
+        switch (status) {
+            case TODO -> todoCount += delta;
+            case IN_PROGRESS -> inProgressCount += delta;
+            case IN_REVIEW -> inReviewCount += delta;
+            case TESTING -> testingCount += delta;
+            case DONE, CANCELLED -> throw new IllegalArgumentException("Closed status is not part of a workload: " + status);
+        }
+        openCount += delta;
+    }
+
+    public void adjustCount(Priority priority, int delta) {
+        switch (priority) {
+            case LOW -> lowCount += delta;
+            case MEDIUM -> mediumCount += delta;
+            case HIGH -> highCount += delta;
+            case URGENT -> urgentCount += delta;
+        }
+    }
+
+}
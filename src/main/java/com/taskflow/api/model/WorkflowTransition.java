@@ -0,0 +1,39 @@
+package com.taskflow.api.model;
+
+import com.taskflow.api.model.enums.TaskStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One allowed status transition of a project-specific workflow.
+ * Projects without rows use the default TaskStatus rules.
+ */
+@Entity
+@Table(name = "project_workflow_transitions", uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"project_id", "from_status", "to_status"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WorkflowTransition {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "from_status", nullable = false)
+    private TaskStatus fromStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "to_status", nullable = false)
+    private TaskStatus toStatus;
+
+}
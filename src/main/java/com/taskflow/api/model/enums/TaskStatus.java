@@ -1,5 +1,7 @@
 package com.taskflow.api.model.enums;
 
+import com.taskflow.api.workflow.TaskWorkflow;
+
 public enum TaskStatus {
 
     TODO("To Do"),
@@ -22,16 +24,20 @@ public enum TaskStatus {
     /**
      * Business Logic: Valid status transitions
      * This is how to implement workflow rules.
+     *
+     * Default rules only, as compiled in TaskWorkflow.DEFAULT; projects may override them
+     * (see workflow.WorkflowRegistry).
      */
 
     public boolean canTransitionTo(TaskStatus newStatus){
-        return switch (this) {
-            case TODO -> newStatus == IN_PROGRESS || newStatus == CANCELLED;
-            case IN_PROGRESS -> newStatus == IN_REVIEW || newStatus == TODO || newStatus == CANCELLED;
-            case IN_REVIEW -> newStatus == TESTING || newStatus == IN_PROGRESS || newStatus == CANCELLED;
-            case TESTING -> newStatus == DONE || newStatus == IN_PROGRESS || newStatus == CANCELLED;
-            case DONE, CANCELLED -> false; // Terminal states
-        };
+        return TaskWorkflow.DEFAULT.canTransition(this, newStatus);
+    }
+
+    /**
+     * Still work to do: anything but DONE and CANCELLED.
+     */
+    public boolean isOpen() {
+        return this != DONE && this != CANCELLED;
     }
 
 }
@@ -0,0 +1,98 @@
+package com.taskflow.api.overdue;
+
+import com.taskflow.api.event.ProjectOwnershipChangedEvent;
+import com.taskflow.api.event.TaskChangedEvent;
+import com.taskflow.api.event.TaskOverdueEvent;
+import com.taskflow.api.event.TaskSnapshot;
+import com.taskflow.api.index.RebuildableIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Background overdue detection without table scans.
+ *
+ * Committed task changes update the deadline heap; a scheduled check pops the
+ * deadlines that have passed and publishes a TaskOverdueEvent for each task.
+ * Rebuilds fill a fresh tracker off to the side (see RebuildableIndex).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OverdueTaskEngine {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final RebuildableIndex<OverdueTracker> index = new RebuildableIndex<>("Overdue engine", OverdueTracker::new,
+            rebuilt -> rebuilt.pendingCount() + " open tasks pending, " + rebuilt.overdueCount() + " overdue");
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        LocalDateTime now = LocalDateTime.now();
+        TaskSnapshot becameOverdue = index.applyAndGet(tracker -> tracker.apply(event.previous(), event.current(), now));
+        if (becameOverdue != null) {
+            eventPublisher.publishEvent(new TaskOverdueEvent(becameOverdue, now));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOwnershipChanged(ProjectOwnershipChangedEvent event) {
+        if (event.isDeletion()) {
+            index.apply(tracker -> tracker.removeProject(event.projectId()));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.overdue.check-interval-ms:60000}")
+    public void checkDeadlines() {
+        advance(LocalDateTime.now());
+    }
+
+    /**
+     * Marks tasks due before now as overdue and publishes their events (after releasing the lock).
+     */
+    List<TaskSnapshot> advance(LocalDateTime now) {
+
+        List<TaskSnapshot> becameOverdue = index.applyAndGet(tracker -> tracker.advance(now));
+
+        if (!becameOverdue.isEmpty()) {
+            log.info("{} tasks became overdue", becameOverdue.size());
+        }
+        becameOverdue.forEach(task -> eventPublisher.publishEvent(new TaskOverdueEvent(task, now)));
+        return becameOverdue;
+
+    }
+
+    public Set<Long> overdueInProject(Long projectId) {
+        return index.read(tracker -> tracker.overdueInProject(projectId));
+    }
+
+    public Set<Long> overdueForAssignee(Long assigneeId) {
+        return index.read(tracker -> tracker.overdueForAssignee(assigneeId));
+    }
+
+    public int overdueCountInProject(Long projectId) {
+        return index.read(tracker -> tracker.overdueCountInProject(projectId));
+    }
+
+    public int overdueCountForAssignee(Long assigneeId) {
+        return index.read(tracker -> tracker.overdueCountForAssignee(assigneeId));
+    }
+
+    /**
+     * Rebuilds from the open tasks the loader adds to the empty tracker it is given.
+     * Replays are applied by task id, so ones already seen by the loader are harmless.
+     */
+    void rebuild(Consumer<OverdueTracker> loader) {
+        index.rebuild(loader);
+    }
+
+}
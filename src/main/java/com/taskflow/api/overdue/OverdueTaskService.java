@@ -0,0 +1,99 @@
+package com.taskflow.api.overdue;
+
+import com.taskflow.api.event.TaskSnapshot;
+import com.taskflow.api.model.Task;
+import com.taskflow.api.repository.TaskRepository;
+import com.taskflow.api.service.ProjectService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Overdue tasks per project and per assignee, answered from OverdueTaskEngine
+ * instead of findByDueDateBeforeAndStatusNot scans.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OverdueTaskService {
+
+    private final OverdueTaskEngine engine;
+    private final TaskRepository taskRepository;
+    private final ProjectService projectService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.overdue.rebuild-on-startup:true}")
+    private boolean rebuildOnStartup;
+
+    public Set<Long> findOverdueProjectTaskIds(Long projectId, Long userId) {
+
+        log.debug("Finding overdue tasks of project ID: {} for user ID: {}", projectId, userId);
+
+        projectService.requireProjectAccess(projectId, userId);
+        return engine.overdueInProject(projectId);
+
+    }
+
+    public int countOverdueProjectTasks(Long projectId, Long userId) {
+        projectService.requireProjectAccess(projectId, userId);
+        return engine.overdueCountInProject(projectId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Task> findOverdueProjectTasks(Long projectId, Long userId) {
+        return loadTasks(findOverdueProjectTaskIds(projectId, userId));
+    }
+
+    public Set<Long> findOverdueAssignedTaskIds(Long assigneeId) {
+        return engine.overdueForAssignee(assigneeId);
+    }
+
+    public int countOverdueAssignedTasks(Long assigneeId) {
+        return engine.overdueCountForAssignee(assigneeId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Task> findOverdueAssignedTasks(Long assigneeId) {
+        return loadTasks(engine.overdueForAssignee(assigneeId));
+    }
+
+    /**
+     * Reloads open tasks with due dates from the database; queries keep using the old state until it finishes.
+     * Tasks already past their due date go straight into the overdue sets without events.
+     */
+    public void rebuild() {
+
+        log.info("Rebuilding overdue engine");
+
+        LocalDateTime now = LocalDateTime.now();
+        engine.rebuild(rebuilt -> transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<TaskSnapshot> tasks = taskRepository.streamOpenSnapshotsWithDueDate()) {
+                tasks.forEach(task -> rebuilt.apply(null, task, now));
+            }
+        }));
+
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (rebuildOnStartup) {
+            rebuild();
+        }
+    }
+
+    private List<Task> loadTasks(Collection<Long> taskIds) {
+        return taskIds.isEmpty() ? List.of() : taskRepository.findWithAssigneeByIdIn(taskIds);
+    }
+
+}
@@ -0,0 +1,157 @@
+package com.taskflow.api.overdue;
+
+import com.taskflow.api.event.TaskSnapshot;
+import com.taskflow.api.model.enums.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Deadlines of open tasks in a min-heap, plus the tasks already past theirs
+ * grouped by project and assignee.
+ *
+ * Overdue means what Task.isOverdue() means: a due date in the past and a status
+ * other than DONE. Changed or removed tasks leave their old heap entry behind;
+ * it is skipped when it surfaces and the heap is compacted once such entries dominate.
+ * Not thread-safe; callers synchronize (see OverdueTaskEngine).
+ */
+final class OverdueTracker {
+
+    private static final int COMPACTION_SLACK = 1024;
+
+    private record Deadline(LocalDateTime dueDate, long taskId) {
+    }
+
+    private final PriorityQueue<Deadline> deadlines = new PriorityQueue<>(Comparator.comparing(Deadline::dueDate));
+    private final Map<Long, TaskSnapshot> pending = new HashMap<>();
+    private final Map<Long, TaskSnapshot> overdue = new HashMap<>();
+    private final Map<Long, Set<Long>> overdueByProject = new HashMap<>();
+    private final Map<Long, Set<Long>> overdueByAssignee = new HashMap<>();
+
+    /**
+     * Applies a committed task change; returns the task if the change itself made it overdue, otherwise null.
+     */
+    TaskSnapshot apply(TaskSnapshot previous, TaskSnapshot current, LocalDateTime now) {
+
+        Long taskId = current != null ? current.id() : previous.id();
+        pending.remove(taskId);
+        boolean wasOverdue = removeOverdue(taskId);
+
+        if (current == null || current.dueDate() == null || current.status() == TaskStatus.DONE) {
+            return null;
+        }
+        if (now.isAfter(current.dueDate())) {
+            addOverdue(current);
+            return wasOverdue ? null : current;
+        }
+
+        pending.put(taskId, current);
+        deadlines.add(new Deadline(current.dueDate(), taskId));
+        compactIfStale();
+        return null;
+
+    }
+
+    /**
+     * Moves every task whose due date is before now into the overdue sets and returns them.
+     */
+    List<TaskSnapshot> advance(LocalDateTime now) {
+
+        List<TaskSnapshot> becameOverdue = new ArrayList<>();
+        while (!deadlines.isEmpty() && now.isAfter(deadlines.peek().dueDate())) {
+            Deadline deadline = deadlines.poll();
+            TaskSnapshot task = pending.get(deadline.taskId());
+            if (task != null && task.dueDate().equals(deadline.dueDate())) {
+                pending.remove(deadline.taskId());
+                addOverdue(task);
+                becameOverdue.add(task);
+            }
+        }
+        return becameOverdue;
+
+    }
+
+    /**
+     * Drops every task of a deleted project. Its tasks have already been removed by their own
+     * deleted events; this only sweeps up any the tracker still holds.
+     */
+    void removeProject(Long projectId) {
+
+        Set<Long> projectOverdue = overdueByProject.get(projectId);
+        if (projectOverdue != null) {
+            List.copyOf(projectOverdue).forEach(this::removeOverdue);
+        }
+        pending.values().removeIf(task -> projectId.equals(task.projectId()));
+        compactIfStale();
+
+    }
+
+    Set<Long> overdueInProject(Long projectId) {
+        return Set.copyOf(overdueByProject.getOrDefault(projectId, Set.of()));
+    }
+
+    Set<Long> overdueForAssignee(Long assigneeId) {
+        return Set.copyOf(overdueByAssignee.getOrDefault(assigneeId, Set.of()));
+    }
+
+    int overdueCountInProject(Long projectId) {
+        return overdueByProject.getOrDefault(projectId, Set.of()).size();
+    }
+
+    int overdueCountForAssignee(Long assigneeId) {
+        return overdueByAssignee.getOrDefault(assigneeId, Set.of()).size();
+    }
+
+    int pendingCount() {
+        return pending.size();
+    }
+
+    int overdueCount() {
+        return overdue.size();
+    }
+
+    private void addOverdue(TaskSnapshot task) {
+        overdue.put(task.id(), task);
+        overdueByProject.computeIfAbsent(task.projectId(), projectId -> new HashSet<>()).add(task.id());
+        if (task.assigneeId() != null) {
+            overdueByAssignee.computeIfAbsent(task.assigneeId(), assigneeId -> new HashSet<>()).add(task.id());
+        }
+    }
+
+    private boolean removeOverdue(Long taskId) {
+        TaskSnapshot task = overdue.remove(taskId);
+        if (task == null) {
+            return false;
+        }
+        removeFrom(overdueByProject, task.projectId(), taskId);
+        if (task.assigneeId() != null) {
+            removeFrom(overdueByAssignee, task.assigneeId(), taskId);
+        }
+        return true;
+    }
+
+    private void compactIfStale() {
+        if (deadlines.size() > 2 * pending.size() + COMPACTION_SLACK) {
+            deadlines.clear();
+            pending.values().forEach(task -> deadlines.add(new Deadline(task.dueDate(), task.id())));
+        }
+    }
+
+    private static void removeFrom(Map<Long, Set<Long>> groups, Long key, Long taskId) {
+        Set<Long> group = groups.get(key);
+        if (group != null) {
+            group.remove(taskId);
+            if (group.isEmpty()) {
+                groups.remove(key);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.taskflow.api.pagination;
+
+import com.taskflow.api.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset position on (createdAt, id)
+ *
+ * Every keyset query orders by createdAt, then id, and returns rows strictly
+ * after the cursor, so page N costs one index range scan just like page 1.
+ * Clients only ever see the opaque token form.
+ */
+public record Cursor(LocalDateTime createdAt, Long id) {
+
+    /**
+     * Position before every row; createdAt is always set by JPA auditing.
+     */
+    public static final Cursor START = new Cursor(LocalDateTime.of(1970, 1, 1, 0, 0), 0L);
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a continuation token; null or blank means "first page".
+     */
+    public static Cursor decode(String token) {
+
+        if (token == null || token.isBlank()) {
+            return START;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new Cursor(LocalDateTime.parse(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid page cursor: " + token, e);
+        }
+
+    }
+
+}
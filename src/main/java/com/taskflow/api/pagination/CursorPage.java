@@ -0,0 +1,51 @@
+package com.taskflow.api.pagination;
+
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated result
+ *
+ * nextCursor is null on the last page; otherwise pass it back to fetch the next one.
+ */
+public record CursorPage<T>(List<T> items, String nextCursor) {
+
+    public static final int DEFAULT_SIZE = 50;
+    public static final int MAX_SIZE = 500;
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    /**
+     * Page size clamped to [1, MAX_SIZE]; non-positive values fall back to DEFAULT_SIZE.
+     */
+    public static int normalizeSize(int size) {
+        return size <= 0 ? DEFAULT_SIZE : Math.min(size, MAX_SIZE);
+    }
+
+    /**
+     * Repository limit for a page: one extra row tells us whether another page exists.
+     */
+    public static Limit limitFor(int size) {
+        return Limit.of(normalizeSize(size) + 1);
+    }
+
+    /**
+     * Builds a page from rows fetched with limitFor(size).
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int size, Function<T, Cursor> cursorOf) {
+
+        int pageSize = normalizeSize(size);
+        if (rows.size() <= pageSize) {
+            return new CursorPage<>(rows, null);
+        }
+
+        List<T> items = rows.subList(0, pageSize);
+        return new CursorPage<>(List.copyOf(items), cursorOf.apply(items.get(pageSize - 1)).encode());
+
+    }
+
+}
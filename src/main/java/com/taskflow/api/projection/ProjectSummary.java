@@ -0,0 +1,17 @@
+package com.taskflow.api.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read model for project list views, built by constructor-expression JPQL.
+ *
+ * Not an entity: nothing is registered in the persistence context, so there is
+ * no dirty checking, no lazy collections and no snapshot copy per row.
+ */
+public record ProjectSummary(Long id,
+                             String name,
+                             Long ownerId,
+                             String ownerUsername,
+                             Boolean isActive,
+                             LocalDateTime createdAt) {
+}
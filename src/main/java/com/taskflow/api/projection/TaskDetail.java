@@ -0,0 +1,10 @@
+package com.taskflow.api.projection;
+
+import com.taskflow.api.model.Task;
+
+/**
+ * Task list row with its assignee already fetched and the number of comments,
+ * without loading the comments themselves.
+ */
+public record TaskDetail(Task task, long commentCount) {
+}
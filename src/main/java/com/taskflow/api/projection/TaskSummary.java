@@ -0,0 +1,21 @@
+package com.taskflow.api.projection;
+
+import com.taskflow.api.model.enums.Priority;
+import com.taskflow.api.model.enums.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read model for task list views, built by constructor-expression JPQL.
+ *
+ * Carries foreign keys instead of associations; assignee and project are not loaded.
+ */
+public record TaskSummary(Long id,
+                          String title,
+                          TaskStatus status,
+                          Priority priority,
+                          LocalDateTime dueDate,
+                          Long projectId,
+                          Long assigneeId,
+                          LocalDateTime createdAt) {
+}
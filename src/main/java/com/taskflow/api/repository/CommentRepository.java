@@ -1,15 +1,22 @@
 package com.taskflow.api.repository;
 
+import com.taskflow.api.event.CommentTextChangedEvent;
 import com.taskflow.api.model.Comment;
 import com.taskflow.api.model.Task;
 import com.taskflow.api.model.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
@@ -34,4 +41,31 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     // Custom query to find comments with author info
     @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.task.id = :taskId ORDER BY c.createdAt DESC")
     List<Comment> findCommentsByTaskWithAuthor(@Param("taskId") Long taskId);
+
+    // Streaming export: same task order as TaskRepository.streamByProjectId; must be consumed inside a transaction
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.task.project.id = :projectId ORDER BY c.task.id, c.createdAt, c.id")
+    Stream<Comment> streamByProjectId(@Param("projectId") Long projectId);
+
+    // Content of every comment, for rebuilding the search index; must be consumed inside a transaction
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.taskflow.api.event.CommentTextChangedEvent(c.id, t.id, t.project.id, c.content) FROM Comment c JOIN c.task t")
+    Stream<CommentTextChangedEvent> streamAllText();
+
+    // Keyset pages on (createdAt, id); see pagination.Cursor
+    @EntityGraph(Comment.GRAPH_AUTHOR)
+    @Query("SELECT c FROM Comment c WHERE c.task.id = :taskId AND (c.createdAt, c.id) > (:createdAt, :id) ORDER BY c.createdAt, c.id")
+    List<Comment> findPageByTaskId(@Param("taskId") Long taskId, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+    @Query("SELECT c FROM Comment c WHERE c.author.id = :authorId AND (c.createdAt, c.id) > (:createdAt, :id) ORDER BY c.createdAt, c.id")
+    List<Comment> findPageByAuthorId(@Param("authorId") Long authorId, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+    @Query("SELECT c FROM Comment c WHERE c.createdAt > :date AND (c.createdAt, c.id) > (:createdAt, :id) ORDER BY c.createdAt, c.id")
+    List<Comment> findPageByCreatedAtAfter(@Param("date") LocalDateTime date, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+    @Query("SELECT c FROM Comment c WHERE c.isEdited = true AND (c.createdAt, c.id) > (:createdAt, :id) ORDER BY c.createdAt, c.id")
+    List<Comment> findPageByIsEditedTrue(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
 }
\ No newline at end of file
@@ -2,13 +2,22 @@ package com.taskflow.api.repository;
 
 import com.taskflow.api.model.Project;
 import com.taskflow.api.model.User;
+import com.taskflow.api.projection.ProjectSummary;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
@@ -17,16 +26,63 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     List<Project> findByUser(User user);
     List<Project> findByUserId(Long userId);
 
-    // Find active projects
+    // IDs only, for the access-control index
+    @Query("SELECT p.id FROM Project p WHERE p.user.id = :userId")
+    List<Long> findIdsByUserId(@Param("userId") Long userId);
+
+    // Name keys of the owner's active projects, for the name-uniqueness index
+    @Query("SELECT p.activeNameKey FROM Project p WHERE p.user.id = :userId AND p.activeNameKey IS NOT NULL")
+    List<String> findActiveNameKeysByUserId(@Param("userId") Long userId);
+
+    // Active projects saved before active_name_key existed
+    List<Project> findByIsActiveTrueAndActiveNameKeyIsNull();
+
+    // Find active projects (query cache; invalidated on any projects write)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Project> findByIsActiveTrue();
 
+    // Read models for list views; see projection.ProjectSummary
+    @Query("SELECT new com.taskflow.api.projection.ProjectSummary(p.id, p.name, u.id, u.username, p.isActive, p.createdAt) " +
+            "FROM Project p JOIN p.user u WHERE u.id = :userId ORDER BY p.createdAt, p.id")
+    List<ProjectSummary> findSummariesByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT new com.taskflow.api.projection.ProjectSummary(p.id, p.name, u.id, u.username, p.isActive, p.createdAt) " +
+            "FROM Project p JOIN p.user u WHERE u.id = :userId AND p.isActive = :isActive ORDER BY p.createdAt, p.id")
+    List<ProjectSummary> findSummariesByUserIdAndIsActive(@Param("userId") Long userId, @Param("isActive") Boolean isActive);
+
+    @Query("SELECT new com.taskflow.api.projection.ProjectSummary(p.id, p.name, u.id, u.username, p.isActive, p.createdAt) " +
+            "FROM Project p JOIN p.user u WHERE p.isActive = true ORDER BY p.createdAt, p.id")
+    List<ProjectSummary> findActiveSummaries();
+
     // Find projects by owner and status
     List<Project> findByUserAndIsActive(User user, Boolean isActive);
 
     // Find projects created after a certain date
     List<Project> findByCreatedAtAfter(LocalDateTime date);
 
-    // Custom query to find projects with task count
-    @Query("SELECT p FROM Project p LEFT JOIN p.tasks t WHERE p.user.id = :userId GROUP BY p.id")
+    // Projects with their tasks and assignees in one statement
+    @EntityGraph(Project.GRAPH_TASKS_WITH_ASSIGNEES)
+    @Query("SELECT p FROM Project p WHERE p.user.id = :userId ORDER BY p.createdAt, p.id")
     List<Project> findProjectsByUserWithTasks(@Param("userId") Long userId);
+
+    // Row lock serializing writers of per-project state (e.g. task dependencies) until the transaction ends
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Project p WHERE p.id = :projectId")
+    Optional<Project> lockById(@Param("projectId") Long projectId);
+
+    // Keyset pages on (createdAt, id); see pagination.Cursor
+    @Query("SELECT p FROM Project p WHERE (p.createdAt, p.id) > (:createdAt, :id) ORDER BY p.createdAt, p.id")
+    List<Project> findPage(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+    @Query("SELECT p FROM Project p WHERE p.user.id = :userId AND (p.createdAt, p.id) > (:createdAt, :id) ORDER BY p.createdAt, p.id")
+    List<Project> findPageByUserId(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+    @Query("SELECT p FROM Project p WHERE p.user.id = :userId AND p.isActive = :isActive AND (p.createdAt, p.id) > (:createdAt, :id) ORDER BY p.createdAt, p.id")
+    List<Project> findPageByUserIdAndIsActive(@Param("userId") Long userId, @Param("isActive") Boolean isActive, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+    @Query("SELECT p FROM Project p WHERE p.isActive = true AND (p.createdAt, p.id) > (:createdAt, :id) ORDER BY p.createdAt, p.id")
+    List<Project> findPageByIsActiveTrue(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+    @Query("SELECT p FROM Project p WHERE p.createdAt > :date AND (p.createdAt, p.id) > (:createdAt, :id) ORDER BY p.createdAt, p.id")
+    List<Project> findPageByCreatedAtAfter(@Param("date") LocalDateTime date, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
 }
\ No newline at end of file
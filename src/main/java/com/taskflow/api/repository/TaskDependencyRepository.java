@@ -0,0 +1,30 @@
+package com.taskflow.api.repository;
+
+import com.taskflow.api.dependency.DependencyEdge;
+import com.taskflow.api.model.TaskDependency;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TaskDependencyRepository extends JpaRepository<TaskDependency, Long> {
+
+    boolean existsByBlockerTaskIdAndBlockedTaskId(Long blockerTaskId, Long blockedTaskId);
+
+    Optional<TaskDependency> findByBlockerTaskIdAndBlockedTaskId(Long blockerTaskId, Long blockedTaskId);
+
+    // Every link of a project, for building its dependency graph
+    @Query("SELECT new com.taskflow.api.dependency.DependencyEdge(d.blockerTaskId, d.blockedTaskId) " +
+            "FROM TaskDependency d WHERE d.projectId = :projectId")
+    List<DependencyEdge> findEdgesByProjectId(@Param("projectId") Long projectId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM TaskDependency d WHERE d.projectId = :projectId")
+    int deleteByProjectId(@Param("projectId") Long projectId);
+
+}
@@ -5,13 +5,26 @@ import com.taskflow.api.model.User;
 import com.taskflow.api.model.Project;
 import com.taskflow.api.model.enums.TaskStatus;
 import com.taskflow.api.model.enums.Priority;
+import com.taskflow.api.event.TaskSnapshot;
+import com.taskflow.api.event.TaskTextChangedEvent;
+import com.taskflow.api.projection.TaskSummary;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
@@ -43,4 +56,148 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     // Count tasks by status for a project
     @Query("SELECT COUNT(t) FROM Task t WHERE t.project.id = :projectId AND t.status = :status")
     Long countByProjectIdAndStatus(@Param("projectId") Long projectId, @Param("status") TaskStatus status);
+
+    // Single grouped aggregate backing project statistics
+    @Query("SELECT t.status AS status, t.priority AS priority, t.dueDate AS dueDate, COUNT(t) AS taskCount, " +
+            "COALESCE(SUM(t.estimatedHours), 0) AS estimatedHours, COALESCE(SUM(t.actualHours), 0) AS actualHours " +
+            "FROM Task t WHERE t.project.id = :projectId GROUP BY t.status, t.priority, t.dueDate")
+    List<TaskStatsRow> aggregateStatsByProjectId(@Param("projectId") Long projectId);
+
+    // Streaming export: ordered by id so comments can be merge-joined; must be consumed inside a transaction
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM Task t LEFT JOIN FETCH t.assignee WHERE t.project.id = :projectId ORDER BY t.id")
+    Stream<Task> streamByProjectId(@Param("projectId") Long projectId);
+
+    // Searchable text of every task, for rebuilding the search index; must be consumed inside a transaction
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.taskflow.api.event.TaskTextChangedEvent(t.id, t.project.id, t.title, t.description) FROM Task t")
+    Stream<TaskTextChangedEvent> streamAllText();
+
+    // Facet fields of every task, for rebuilding the facet index; must be consumed inside a transaction
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.taskflow.api.event.TaskSnapshot(t.id, t.project.id, t.assignee.id, t.status, t.priority, " +
+            "t.dueDate, t.estimatedHours, t.actualHours) FROM Task t")
+    Stream<TaskSnapshot> streamAllSnapshots();
+
+    // Tasks that can become overdue, for rebuilding the overdue engine; must be consumed inside a transaction
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.taskflow.api.event.TaskSnapshot(t.id, t.project.id, t.assignee.id, t.status, t.priority, " +
+            "t.dueDate, t.estimatedHours, t.actualHours) FROM Task t " +
+            "WHERE t.dueDate IS NOT NULL AND t.status <> com.taskflow.api.model.enums.TaskStatus.DONE")
+    Stream<TaskSnapshot> streamOpenSnapshotsWithDueDate();
+
+    // Node attributes of a project's tasks in ID order, for building its dependency graph
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.taskflow.api.event.TaskSnapshot(t.id, t.project.id, t.assignee.id, t.status, t.priority, " +
+            "t.dueDate, t.estimatedHours, t.actualHours) FROM Task t WHERE t.project.id = :projectId ORDER BY t.id")
+    List<TaskSnapshot> findSnapshotsByProjectId(@Param("projectId") Long projectId);
+
+    // Earliest due date among an assignee's open tasks, for the workload view
+    @Query("SELECT MIN(t.dueDate) FROM Task t WHERE t.assignee.id = :assigneeId " +
+            "AND t.status NOT IN (com.taskflow.api.model.enums.TaskStatus.DONE, com.taskflow.api.model.enums.TaskStatus.CANCELLED)")
+    LocalDateTime findNextOpenDueDateByAssigneeId(@Param("assigneeId") Long assigneeId);
+
+    // Batch load of an id page resolved by the facet index
+    @EntityGraph(Task.GRAPH_ASSIGNEE)
+    @Query("SELECT t FROM Task t WHERE t.id IN :ids ORDER BY t.id")
+    List<Task> findWithAssigneeByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Keyset pages on (createdAt, id); see pagination.Cursor
+    @Query("SELECT t FROM Task t WHERE t.project.id = :projectId AND (t.createdAt, t.id) > (:createdAt, :id) ORDER BY t.createdAt, t.id")
+    List<Task> findPageByProjectId(@Param("projectId") Long projectId, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+    @EntityGraph(Task.GRAPH_ASSIGNEE)
+    @Query("SELECT t FROM Task t WHERE t.project.id = :projectId AND (t.createdAt, t.id) > (:createdAt, :id) ORDER BY t.createdAt, t.id")
+    List<Task> findPageWithAssigneeByProjectId(@Param("projectId") Long projectId, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+    @Query("SELECT t FROM Task t WHERE t.assignee.id = :assigneeId AND (t.createdAt, t.id) > (:createdAt, :id) ORDER BY t.createdAt, t.id")
+    List<Task> findPageByAssigneeId(@Param("assigneeId") Long assigneeId, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+    @Query("SELECT t FROM Task t WHERE t.status = :status AND (t.createdAt, t.id) > (:createdAt, :id) ORDER BY t.createdAt, t.id")
+    List<Task> findPageByStatus(@Param("status") TaskStatus status, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+    @Query("SELECT t FROM Task t WHERE t.priority = :priority AND (t.createdAt, t.id) > (:createdAt, :id) ORDER BY t.createdAt, t.id")
+    List<Task> findPageByPriority(@Param("priority") Priority priority, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+    @Query("SELECT t FROM Task t WHERE t.dueDate < :date AND t.status <> :status AND (t.createdAt, t.id) > (:createdAt, :id) ORDER BY t.createdAt, t.id")
+    List<Task> findPageByDueDateBeforeAndStatusNot(@Param("date") LocalDateTime date, @Param("status") TaskStatus status, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+    @Query("SELECT t FROM Task t WHERE t.status IN ('IN_PROGRESS', 'IN_REVIEW', 'TESTING') AND (t.createdAt, t.id) > (:createdAt, :id) ORDER BY t.createdAt, t.id")
+    List<Task> findPageInProgress(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+    @Query("SELECT t FROM Task t WHERE t.project.id = :projectId AND t.status = :status AND (t.createdAt, t.id) > (:createdAt, :id) ORDER BY t.createdAt, t.id")
+    List<Task> findPageByProjectIdAndStatus(@Param("projectId") Long projectId, @Param("status") TaskStatus status, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+    // Read models for list views; see projection.TaskSummary
+    @Query("SELECT new com.taskflow.api.projection.TaskSummary(t.id, t.title, t.status, t.priority, t.dueDate, " +
+            "t.project.id, t.assignee.id, t.createdAt) FROM Task t WHERE t.assignee.id = :assigneeId ORDER BY t.createdAt, t.id")
+    List<TaskSummary> findSummariesByAssigneeId(@Param("assigneeId") Long assigneeId);
+
+    @Query("SELECT new com.taskflow.api.projection.TaskSummary(t.id, t.title, t.status, t.priority, t.dueDate, " +
+            "t.project.id, t.assignee.id, t.createdAt) FROM Task t " +
+            "WHERE t.assignee.id = :assigneeId AND (t.createdAt, t.id) > (:createdAt, :id) ORDER BY t.createdAt, t.id")
+    List<TaskSummary> findSummaryPageByAssigneeId(@Param("assigneeId") Long assigneeId, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+    @Query("SELECT new com.taskflow.api.projection.TaskSummary(t.id, t.title, t.status, t.priority, t.dueDate, " +
+            "t.project.id, t.assignee.id, t.createdAt) FROM Task t " +
+            "WHERE t.project.id = :projectId AND (t.createdAt, t.id) > (:createdAt, :id) ORDER BY t.createdAt, t.id")
+    List<TaskSummary> findSummaryPageByProjectId(@Param("projectId") Long projectId, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+    // Locked snapshots for bulk status transitions; rows stay locked until the transaction ends
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new com.taskflow.api.event.TaskSnapshot(t.id, t.project.id, t.assignee.id, t.status, t.priority, " +
+            "t.dueDate, t.estimatedHours, t.actualHours) FROM Task t WHERE t.id IN :taskIds")
+    List<TaskSnapshot> lockSnapshotsByIds(@Param("taskIds") Collection<Long> taskIds);
+
+    // Locked snapshots of a project's unassigned open tasks, for backlog assignment
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new com.taskflow.api.event.TaskSnapshot(t.id, t.project.id, t.assignee.id, t.status, t.priority, " +
+            "t.dueDate, t.estimatedHours, t.actualHours) FROM Task t WHERE t.project.id = :projectId AND t.assignee IS NULL " +
+            "AND t.status NOT IN (com.taskflow.api.model.enums.TaskStatus.DONE, com.taskflow.api.model.enums.TaskStatus.CANCELLED)")
+    List<TaskSnapshot> lockUnassignedOpenSnapshotsByProjectId(@Param("projectId") Long projectId);
+
+    // Set-based assignment; the IS NULL guard keeps it a no-op for tasks assigned by someone else meanwhile
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.assignee = :assignee, t.updatedAt = :now WHERE t.id IN :taskIds AND t.assignee IS NULL")
+    int assignUnassigned(@Param("taskIds") Collection<Long> taskIds, @Param("assignee") User assignee,
+                         @Param("now") LocalDateTime now);
+
+    @Query("SELECT t.id FROM Task t WHERE t.project.id = :projectId AND t.status = :status")
+    List<Long> findIdsByProjectIdAndStatus(@Param("projectId") Long projectId, @Param("status") TaskStatus status);
+
+    // Set-based transition; the status guard keeps it a no-op for rows changed by someone else
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.status = :target, t.updatedAt = :now WHERE t.id IN :taskIds AND t.status = :source")
+    int updateStatus(@Param("taskIds") Collection<Long> taskIds, @Param("source") TaskStatus source,
+                     @Param("target") TaskStatus target, @Param("now") LocalDateTime now);
+
+    // Project of each task, for validating bulk writes that reference tasks by ID
+    @Query("SELECT t.id AS taskId, t.project.id AS projectId FROM Task t WHERE t.id IN :taskIds")
+    List<TaskProjectRow> findProjectIdsByTaskIds(@Param("taskIds") Collection<Long> taskIds);
+
+    // Comment counts for a page of tasks; tasks without comments are absent
+    @Query("SELECT c.task.id AS taskId, COUNT(c) AS commentCount FROM Comment c WHERE c.task.id IN :taskIds GROUP BY c.task.id")
+    List<TaskCommentCountRow> countCommentsByTaskIds(@Param("taskIds") Collection<Long> taskIds);
+
+    interface TaskCommentCountRow {
+        Long getTaskId();
+        long getCommentCount();
+    }
+
+    interface TaskProjectRow {
+        Long getTaskId();
+        Long getProjectId();
+    }
+
+    interface TaskStatsRow {
+        TaskStatus getStatus();
+        Priority getPriority();
+        LocalDateTime getDueDate();
+        long getTaskCount();
+        long getEstimatedHours();
+        long getActualHours();
+    }
 }
\ No newline at end of file
@@ -2,20 +2,41 @@ package com.taskflow.api.repository;
 
 import com.taskflow.api.model.User;
 import com.taskflow.api.model.enums.Role;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    // Query-cache hints: results are invalidated by Hibernate whenever the users table is written
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByUsername(String username);
     Optional<User> findByEmail(String email);
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<User> findByIsActiveTrue();
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<User> findByRole(Role role);
 
+    // Keyset pages on (createdAt, id); see pagination.Cursor
+    @Query("SELECT u FROM User u WHERE (u.createdAt, u.id) > (:createdAt, :id) ORDER BY u.createdAt, u.id")
+    List<User> findPage(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+    @Query("SELECT u FROM User u WHERE u.isActive = true AND (u.createdAt, u.id) > (:createdAt, :id) ORDER BY u.createdAt, u.id")
+    List<User> findPageByIsActiveTrue(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+    @Query("SELECT u FROM User u WHERE u.role = :role AND (u.createdAt, u.id) > (:createdAt, :id) ORDER BY u.createdAt, u.id")
+    List<User> findPageByRole(@Param("role") Role role, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
 }
@@ -0,0 +1,57 @@
+package com.taskflow.api.repository;
+
+import com.taskflow.api.model.UserWorkload;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface UserWorkloadRepository extends JpaRepository<UserWorkload, Long> {
+
+    // One grouped pass over the users' open tasks
+    String AGGREGATE = "INSERT INTO user_workloads (user_id, open_count, todo_count, in_progress_count, " +
+            "in_review_count, testing_count, low_count, medium_count, high_count, urgent_count, " +
+            "estimated_hours_remaining, next_due_date, updated_at) " +
+            "SELECT u.id, COUNT(t.id), " +
+            "SUM(CASE WHEN t.status = 'TODO' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN t.status = 'IN_PROGRESS' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN t.status = 'IN_REVIEW' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN t.status = 'TESTING' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN t.priority = 'LOW' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN t.priority = 'MEDIUM' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN t.priority = 'HIGH' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN t.priority = 'URGENT' THEN 1 ELSE 0 END), " +
+            "COALESCE(SUM(t.estimated_hours), 0), MIN(t.due_date), CURRENT_TIMESTAMP " +
+            "FROM users u LEFT JOIN tasks t ON t.assignee_id = u.id AND t.status NOT IN ('DONE', 'CANCELLED') ";
+
+    // A row another transaction inserted first is recomputed instead of failing on the primary key
+    String RECOMPUTE_EXISTING = " ON DUPLICATE KEY UPDATE open_count = VALUES(open_count), " +
+            "todo_count = VALUES(todo_count), in_progress_count = VALUES(in_progress_count), " +
+            "in_review_count = VALUES(in_review_count), testing_count = VALUES(testing_count), " +
+            "low_count = VALUES(low_count), medium_count = VALUES(medium_count), " +
+            "high_count = VALUES(high_count), urgent_count = VALUES(urgent_count), " +
+            "estimated_hours_remaining = VALUES(estimated_hours_remaining), " +
+            "next_due_date = VALUES(next_due_date), updated_at = VALUES(updated_at)";
+
+    // Row locked until the transaction ends, so concurrent deltas for one user are applied one after another
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT w FROM UserWorkload w WHERE w.userId IN :userIds ORDER BY w.userId")
+    List<UserWorkload> lockByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = AGGREGATE + "WHERE u.id IN (:userIds) GROUP BY u.id" + RECOMPUTE_EXISTING, nativeQuery = true)
+    int upsertAggregated(@Param("userIds") Collection<Long> userIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = AGGREGATE + "WHERE NOT EXISTS (SELECT 1 FROM user_workloads w WHERE w.user_id = u.id) " +
+            "GROUP BY u.id" + RECOMPUTE_EXISTING, nativeQuery = true)
+    int insertAllMissing();
+
+}
@@ -0,0 +1,20 @@
+package com.taskflow.api.repository;
+
+import com.taskflow.api.model.WorkflowTransition;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface WorkflowTransitionRepository extends JpaRepository<WorkflowTransition, Long> {
+
+    List<WorkflowTransition> findByProjectId(Long projectId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM WorkflowTransition w WHERE w.projectId = :projectId")
+    int deleteByProjectId(@Param("projectId") Long projectId);
+}
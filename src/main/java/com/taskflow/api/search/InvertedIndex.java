@@ -0,0 +1,150 @@
+package com.taskflow.api.search;
+
+import com.taskflow.api.cache.ProjectAccess;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Term -> (task id -> weighted term frequency) postings, one document per task
+ * covering its title, description and all of its comments.
+ *
+ * Each document keeps per-field term frequencies so a write to one field can
+ * be applied as a diff of that document's postings. Not thread-safe; callers
+ * synchronize (see TaskSearchIndex).
+ */
+final class InvertedIndex {
+
+    static final double TITLE_WEIGHT = 3.0;
+    static final double DESCRIPTION_WEIGHT = 1.0;
+    static final double COMMENT_WEIGHT = 1.0;
+
+    private final Map<String, Map<Long, Double>> postings = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+
+    void upsertTask(Long taskId, Long projectId, String title, String description) {
+        Document document = document(taskId, projectId);
+        document.title = SearchTokenizer.termFrequencies(title);
+        document.description = SearchTokenizer.termFrequencies(description);
+        reindex(taskId, document);
+    }
+
+    void upsertComment(Long commentId, Long taskId, Long projectId, String content) {
+        Document document = document(taskId, projectId);
+        document.comments.put(commentId, SearchTokenizer.termFrequencies(content));
+        reindex(taskId, document);
+    }
+
+    void removeTask(Long taskId) {
+        Document document = documents.remove(taskId);
+        if (document != null) {
+            document.weights.keySet().forEach(term -> removePosting(term, taskId));
+        }
+    }
+
+    void removeProject(Long projectId) {
+        List<Long> taskIds = documents.entrySet().stream()
+                .filter(entry -> projectId.equals(entry.getValue().projectId))
+                .map(Map.Entry::getKey)
+                .toList();
+        taskIds.forEach(this::removeTask);
+    }
+
+    int documentCount() {
+        return documents.size();
+    }
+
+    int termCount() {
+        return postings.size();
+    }
+
+    /**
+     * TF-IDF ranking over the query terms (a task matching any term is a hit),
+     * skipping tasks in projects the caller cannot access.
+     */
+    List<TaskSearchHit> search(Collection<String> terms, ProjectAccess access, int limit) {
+
+        Map<Long, Double> scores = new HashMap<>();
+        int documentCount = documents.size();
+
+        for (String term : terms) {
+            Map<Long, Double> termPostings = postings.get(term);
+            if (termPostings == null) {
+                continue;
+            }
+
+            double idf = Math.log(1.0 + (double) documentCount / termPostings.size());
+            termPostings.forEach((taskId, weight) -> {
+                Long projectId = documents.get(taskId).projectId;
+                if (projectId != null && access.canAccess(projectId)) {
+                    scores.merge(taskId, (1.0 + Math.log(weight)) * idf, Double::sum);
+                }
+            });
+        }
+
+        // Min-heap of the best `limit` hits; ties broken by task id for stable ordering
+        Comparator<TaskSearchHit> ranking = Comparator.comparingDouble(TaskSearchHit::score)
+                .thenComparing(TaskSearchHit::taskId, Comparator.reverseOrder());
+        PriorityQueue<TaskSearchHit> best = new PriorityQueue<>(limit + 1, ranking);
+        scores.forEach((taskId, score) -> {
+            best.add(new TaskSearchHit(taskId, score));
+            if (best.size() > limit) {
+                best.poll();
+            }
+        });
+
+        List<TaskSearchHit> hits = new ArrayList<>(best);
+        hits.sort(ranking.reversed());
+        return hits;
+
+    }
+
+    private Document document(Long taskId, Long projectId) {
+        Document document = documents.computeIfAbsent(taskId, id -> new Document());
+        if (projectId != null) {
+            document.projectId = projectId;
+        }
+        return document;
+    }
+
+    private void reindex(Long taskId, Document document) {
+
+        Map<String, Double> weights = new HashMap<>();
+        document.title.forEach((term, count) -> weights.merge(term, count * TITLE_WEIGHT, Double::sum));
+        document.description.forEach((term, count) -> weights.merge(term, count * DESCRIPTION_WEIGHT, Double::sum));
+        document.comments.values().forEach(comment ->
+                comment.forEach((term, count) -> weights.merge(term, count * COMMENT_WEIGHT, Double::sum)));
+
+        document.weights.keySet().stream()
+                .filter(term -> !weights.containsKey(term))
+                .forEach(term -> removePosting(term, taskId));
+        weights.forEach((term, weight) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(taskId, weight));
+
+        document.weights = weights;
+
+    }
+
+    private void removePosting(String term, Long taskId) {
+        Map<Long, Double> termPostings = postings.get(term);
+        if (termPostings != null) {
+            termPostings.remove(taskId);
+            if (termPostings.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    private static final class Document {
+        private Long projectId;
+        private Map<String, Integer> title = Map.of();
+        private Map<String, Integer> description = Map.of();
+        private final Map<Long, Map<String, Integer>> comments = new HashMap<>();
+        private Map<String, Double> weights = Map.of();
+    }
+
+}
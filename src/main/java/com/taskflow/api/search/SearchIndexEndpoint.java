@@ -0,0 +1,34 @@
+package com.taskflow.api.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Operations command for the search index: GET /actuator/searchindex shows its
+ * size, POST /actuator/searchindex rebuilds it from the database.
+ */
+@Component
+@Endpoint(id = "searchindex")
+@RequiredArgsConstructor
+public class SearchIndexEndpoint {
+
+    private final TaskSearchIndex index;
+    private final TaskSearchService searchService;
+
+    @ReadOperation
+    public Map<String, Integer> size() {
+        return Map.of("tasks", index.documentCount(), "terms", index.termCount());
+    }
+
+    @WriteOperation
+    public Map<String, Integer> rebuild() {
+        searchService.rebuild();
+        return size();
+    }
+
+}
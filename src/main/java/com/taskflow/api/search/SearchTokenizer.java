@@ -0,0 +1,64 @@
+package com.taskflow.api.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Splits text into lower-case letter/digit terms, dropping one-character
+ * tokens and a short list of English stop words. Used for both documents
+ * and queries so they always agree on terms.
+ */
+final class SearchTokenizer {
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "is", "it",
+            "of", "on", "or", "that", "the", "this", "to", "was", "with");
+
+    private SearchTokenizer() {
+    }
+
+    static List<String> tokenize(String text) {
+
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+
+        int length = text.length();
+        int start = -1;
+        for (int i = 0; i <= length; i++) {
+            boolean termChar = i < length && Character.isLetterOrDigit(text.charAt(i));
+            if (termChar && start < 0) {
+                start = i;
+            } else if (!termChar && start >= 0) {
+                addTerm(terms, text.substring(start, i));
+                start = -1;
+            }
+        }
+        return terms;
+
+    }
+
+    static Map<String, Integer> termFrequencies(String text) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String term : tokenize(text)) {
+            frequencies.merge(term, 1, Integer::sum);
+        }
+        return frequencies;
+    }
+
+    private static void addTerm(List<String> terms, String token) {
+        if (token.length() < 2) {
+            return;
+        }
+        String term = token.toLowerCase(Locale.ROOT);
+        if (!STOP_WORDS.contains(term)) {
+            terms.add(term);
+        }
+    }
+
+}
@@ -0,0 +1,7 @@
+package com.taskflow.api.search;
+
+/**
+ * One ranked search result; higher scores rank first.
+ */
+public record TaskSearchHit(Long taskId, double score) {
+}
@@ -0,0 +1,73 @@
+package com.taskflow.api.search;
+
+import com.taskflow.api.cache.ProjectAccess;
+import com.taskflow.api.event.CommentTextChangedEvent;
+import com.taskflow.api.event.ProjectOwnershipChangedEvent;
+import com.taskflow.api.event.TaskChangedEvent;
+import com.taskflow.api.event.TaskTextChangedEvent;
+import com.taskflow.api.index.RebuildableIndex;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Embedded full-text index over task titles, descriptions and comments.
+ *
+ * Committed writes are applied incrementally; rebuilds fill a fresh index off
+ * to the side while the live one keeps serving (see RebuildableIndex).
+ */
+@Component
+public class TaskSearchIndex {
+
+    private final RebuildableIndex<InvertedIndex> index = new RebuildableIndex<>("Search index", InvertedIndex::new,
+            rebuilt -> rebuilt.documentCount() + " tasks, " + rebuilt.termCount() + " terms");
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTaskTextChanged(TaskTextChangedEvent event) {
+        index.apply(live -> live.upsertTask(event.taskId(), event.projectId(), event.title(), event.description()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCommentTextChanged(CommentTextChangedEvent event) {
+        index.apply(live -> live.upsertComment(event.commentId(), event.taskId(), event.projectId(), event.content()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.current() == null) {
+            index.apply(live -> live.removeTask(event.taskId()));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOwnershipChanged(ProjectOwnershipChangedEvent event) {
+        if (event.isDeletion()) {
+            index.apply(live -> live.removeProject(event.projectId()));
+        }
+    }
+
+    public List<TaskSearchHit> search(Collection<String> terms, ProjectAccess access, int limit) {
+        return index.read(live -> live.search(terms, access, limit));
+    }
+
+    public int documentCount() {
+        return index.read(InvertedIndex::documentCount);
+    }
+
+    public int termCount() {
+        return index.read(InvertedIndex::termCount);
+    }
+
+    /**
+     * Rebuilds from the tasks and comments the loader upserts into the empty index it is given.
+     * Replays are upserts/removals, so ones already seen by the loader are harmless.
+     */
+    void rebuild(Consumer<InvertedIndex> loader) {
+        index.rebuild(loader);
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.taskflow.api.search;
+
+import com.taskflow.api.event.CommentTextChangedEvent;
+import com.taskflow.api.event.TaskTextChangedEvent;
+import com.taskflow.api.exception.BadRequestException;
+import com.taskflow.api.repository.CommentRepository;
+import com.taskflow.api.repository.TaskRepository;
+import com.taskflow.api.service.ProjectService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Ranked full-text search over tasks the caller can access, backed by TaskSearchIndex.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskSearchService {
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    private final TaskSearchIndex index;
+    private final TaskRepository taskRepository;
+    private final CommentRepository commentRepository;
+    private final ProjectService projectService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.search.rebuild-on-startup:true}")
+    private boolean rebuildOnStartup;
+
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<TaskSearchHit> search(String query, Long userId, int limit) {
+
+        log.debug("Searching tasks for '{}' by user ID: {}", query, userId);
+
+        Set<String> terms = new LinkedHashSet<>(SearchTokenizer.tokenize(query));
+        if (terms.isEmpty()) {
+            log.warn("Search rejected: no searchable terms in '{}'", query);
+            throw new BadRequestException("Search query must contain at least one word of two or more characters");
+        }
+
+        int normalizedLimit = limit <= 0 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+        return index.search(terms, projectService.projectAccess(userId), normalizedLimit);
+
+    }
+
+    /**
+     * Rebuilds the index from the database; searches keep using the old index until it finishes.
+     * Uses a programmatic transaction (the streams need one) so the startup hook can call it directly.
+     */
+    public void rebuild() {
+
+        log.info("Rebuilding search index");
+
+        index.rebuild(rebuilt -> transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<TaskTextChangedEvent> tasks = taskRepository.streamAllText()) {
+                tasks.forEach(task -> rebuilt.upsertTask(task.taskId(), task.projectId(), task.title(), task.description()));
+            }
+            try (Stream<CommentTextChangedEvent> comments = commentRepository.streamAllText()) {
+                comments.forEach(comment -> rebuilt.upsertComment(comment.commentId(), comment.taskId(), comment.projectId(), comment.content()));
+            }
+        }));
+
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (rebuildOnStartup) {
+            rebuild();
+        }
+    }
+
+}
@@ -0,0 +1,156 @@
+package com.taskflow.api.service;
+
+import com.taskflow.api.cache.UserSnapshot;
+import com.taskflow.api.event.CommentTextChangedEvent;
+import com.taskflow.api.exception.BadRequestException;
+import com.taskflow.api.exception.ResourceNotFoundException;
+import com.taskflow.api.model.Comment;
+import com.taskflow.api.model.Task;
+import com.taskflow.api.pagination.Cursor;
+import com.taskflow.api.pagination.CursorPage;
+import com.taskflow.api.repository.CommentRepository;
+import com.taskflow.api.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class CommentService {
+
+    private final CommentRepository commentRepository;
+    private final TaskRepository taskRepository;
+    private final UserService userService;
+    private final ProjectService projectService;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    public Comment addComment(Long taskId, Comment comment, Long userId) {
+
+        log.info("Adding comment to task ID: {} by user ID: {}", taskId, userId);
+
+        Task task = taskRepository.findById(taskId).orElseThrow(() -> {
+            log.warn("Task not found with ID: {}", taskId);
+            return new ResourceNotFoundException("Task not found with ID: " + taskId);
+        });
+
+        Long projectId = task.getProject().getId();
+        projectService.requireProjectAccess(projectId, userId);
+        requireActiveAuthor(userId);
+
+        comment.setTask(task);
+        comment.setAuthor(userService.getReference(userId));
+
+        Comment savedComment = commentRepository.save(comment);
+        log.info("Successfully added comment with ID: {} to task ID: {}", savedComment.getId(), taskId);
+        eventPublisher.publishEvent(new CommentTextChangedEvent(savedComment.getId(), taskId, projectId, savedComment.getContent()));
+
+        return savedComment;
+
+    }
+
+    /**
+     * Bulk import of comments authored by one user. Each comment's task is
+     * given by ID; access to every referenced project is checked up front and
+     * inserts are JDBC-batched with a flush/clear after each batch.
+     */
+    public List<Long> createComments(List<Comment> comments, Long userId) {
+
+        log.info("Bulk creating {} comments by user ID: {}", comments.size(), userId);
+
+        requireActiveAuthor(userId);
+
+        for (int i = 0; i < comments.size(); i++) {
+            if (comments.get(i).getTask() == null || comments.get(i).getTask().getId() == null) {
+                log.warn("Bulk comment creation failed: Comment {} has no task", i);
+                throw new BadRequestException("Comment " + i + " must reference a task");
+            }
+        }
+
+        Set<Long> taskIds = comments.stream().map(c -> c.getTask().getId()).collect(Collectors.toSet());
+        Map<Long, Long> projectIdByTaskId = taskRepository.findProjectIdsByTaskIds(taskIds).stream()
+                .collect(Collectors.toMap(TaskRepository.TaskProjectRow::getTaskId, TaskRepository.TaskProjectRow::getProjectId));
+
+        Set<Long> missingTaskIds = new HashSet<>(taskIds);
+        missingTaskIds.removeAll(projectIdByTaskId.keySet());
+        if (!missingTaskIds.isEmpty()) {
+            log.warn("Bulk comment creation failed: Tasks not found {}", missingTaskIds);
+            throw new ResourceNotFoundException("Tasks not found with IDs: " + missingTaskIds);
+        }
+
+        for (Long projectId : new HashSet<>(projectIdByTaskId.values())) {
+            projectService.requireProjectAccess(projectId, userId);
+        }
+
+        List<Long> commentIds = new ArrayList<>(comments.size());
+        for (int i = 0; i < comments.size(); i++) {
+            Comment comment = comments.get(i);
+            Long taskId = comment.getTask().getId();
+            comment.setTask(entityManager.getReference(Task.class, taskId));
+            comment.setAuthor(userService.getReference(userId));
+
+            entityManager.persist(comment);
+            commentIds.add(comment.getId());
+            eventPublisher.publishEvent(new CommentTextChangedEvent(comment.getId(), taskId, projectIdByTaskId.get(taskId), comment.getContent()));
+
+            if ((i + 1) % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+
+        entityManager.flush();
+        log.info("Successfully created {} comments by user ID: {}", commentIds.size(), userId);
+
+        return commentIds;
+
+    }
+
+    /**
+     * Page of a task's comments with authors fetched in the same statement.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<Comment> findTaskComments(Long taskId, Long userId, String cursor, int size) {
+
+        log.debug("Finding page of comments for task ID: {} by user ID: {}, cursor: {}", taskId, userId, cursor);
+
+        List<TaskRepository.TaskProjectRow> owner = taskRepository.findProjectIdsByTaskIds(List.of(taskId));
+        if (owner.isEmpty()) {
+            log.warn("Task not found with ID: {}", taskId);
+            throw new ResourceNotFoundException("Task not found with ID: " + taskId);
+        }
+        projectService.requireProjectAccess(owner.get(0).getProjectId(), userId);
+
+        Cursor position = Cursor.decode(cursor);
+        List<Comment> rows = commentRepository.findPageByTaskId(taskId, position.createdAt(), position.id(), CursorPage.limitFor(size));
+        return CursorPage.of(rows, size, comment -> new Cursor(comment.getCreatedAt(), comment.getId()));
+
+    }
+
+    private void requireActiveAuthor(Long userId) {
+
+        UserSnapshot author = userService.findSnapshotById(userId);
+        if (!author.active()) {
+            log.warn("Comment creation failed: User {} is not active", userId);
+            throw new BadRequestException("Inactive users cannot comment");
+        }
+
+    }
+
+}
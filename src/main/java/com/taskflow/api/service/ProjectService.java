@@ -1,19 +1,45 @@
 package com.taskflow.api.service;
 
+import com.taskflow.api.cache.CacheLoadTransaction;
+import com.taskflow.api.cache.ProjectAccess;
+import com.taskflow.api.cache.ProjectAccessIndex;
+import com.taskflow.api.cache.ProjectNameIndex;
+import com.taskflow.api.cache.UserSnapshot;
+import com.taskflow.api.event.ProjectNameChangedEvent;
+import com.taskflow.api.event.ProjectOwnershipChangedEvent;
+import com.taskflow.api.event.TaskChangedEvent;
+import com.taskflow.api.event.TaskSnapshot;
 import com.taskflow.api.exception.BadRequestException;
 import com.taskflow.api.exception.ResourceNotFoundException;
 import com.taskflow.api.exception.UnauthorizedException;
 import com.taskflow.api.model.Project;
 import com.taskflow.api.model.User;
+import com.taskflow.api.pagination.Cursor;
+import com.taskflow.api.pagination.CursorPage;
+import com.taskflow.api.projection.ProjectSummary;
 import com.taskflow.api.repository.ProjectRepository;
+import com.taskflow.api.stats.ProjectStatsService;
+import com.taskflow.api.stats.ProjectWithStats;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.awt.event.WindowFocusListener;
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -23,35 +49,40 @@ public class ProjectService {
 
     private final ProjectRepository projectRepository;
     private final UserService userService;
+    private final ProjectAccessIndex projectAccessIndex;
+    private final ProjectNameIndex projectNameIndex;
+    private final ProjectStatsService projectStatsService;
+    private final CacheLoadTransaction cacheLoadTransaction;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Project createProject(Project project, Long userId) {
 
         log.info("Creating new project '{}' for user ID: {}", project.getName(), userId);
 
-        User owner = userService.findById(userId);
-        if (!owner.getIsActive()) {
+        UserSnapshot ownerSnapshot = userService.findSnapshotById(userId);
+        if (!ownerSnapshot.active()) {
             log.warn("Project creation failed: User{} is not active", userId);
             throw new BadRequestException("Cannot create project for inactive user");
         }
 
+        User owner = userService.getReference(userId);
         project.setUser(owner);
 
         if (project.getIsActive() == null){
             project.setIsActive(true);
         }
 
-        List<Project> existingProjects = projectRepository.findByUserAndIsActive(owner, true);
-        boolean nameExists = existingProjects.stream().anyMatch(p -> p.getName().equalsIgnoreCase(project.getName()));
-
-        if (nameExists) {
+        if (activeNameExists(userId, Project.nameKey(project.getName()))) {
 
             log.warn("Project creation failed: Project name '{}' for already exists for user {}", project.getName(), userId);
             throw new BadRequestException("Project name already exists: " + project.getName());
 
         }
 
-        Project savedProject = projectRepository.save(project);
-        log.info("Successfully created project '{}' with ID: {} for user: {}", savedProject.getName(), savedProject.getId(), owner.getUsername());
+        Project savedProject = saveUniquelyNamed(project);
+        log.info("Successfully created project '{}' with ID: {} for user: {}", savedProject.getName(), savedProject.getId(), ownerSnapshot.username());
+        eventPublisher.publishEvent(ProjectOwnershipChangedEvent.created(savedProject.getId(), userId));
+        eventPublisher.publishEvent(new ProjectNameChangedEvent(savedProject.getId(), null, null, userId, savedProject.getActiveNameKey()));
 
         return savedProject;
 
@@ -62,17 +93,9 @@ public class ProjectService {
 
         log.debug("Finding project ID: {} for user ID: {}", projectId, userId);
 
-        Project project = projectRepository.findById(projectId).orElseThrow(() -> {
-            log.warn("Project not found with ID: {}", projectId);
-            return new ResourceNotFoundException("Project not found with ID: " + projectId);
-        });
-
-        if (!hasProjectAccess(project, userId)) {
-            log.warn("User {} denied access to project {}", userId, projectId);
-            throw new UnauthorizedException("You don't have access to this project");
-        }
+        requireProjectAccess(projectId, userId);
 
-        return project;
+        return findById(projectId);
 
     }
 
@@ -109,34 +132,89 @@ public class ProjectService {
         return projectRepository.findByIsActiveTrue();
     }
 
+    @Transactional(readOnly = true)
+    public List<ProjectSummary> findUserProjectSummaries(Long userId, boolean includeInactive) {
+
+        log.debug("Finding project summaries for user ID: {}, includeInactive: {}", userId, includeInactive);
+
+        userService.findSnapshotById(userId);
+
+        return includeInactive
+                ? projectRepository.findSummariesByUserId(userId)
+                : projectRepository.findSummariesByUserIdAndIsActive(userId, true);
+
+    }
+
+    @Transactional(readOnly = true)
+    public List<ProjectSummary> findActiveProjectSummaries() {
+        log.debug("Finding active project summaries");
+        return projectRepository.findActiveSummaries();
+    }
+
     @Transactional(readOnly = true)
     public List<Project> findAllProjects() {
         log.debug("Finding all projects");
         return projectRepository.findAll();
     }
 
-    public Project updateProject(Long projectId, Project updatedProject, Long userId) {
-        log.info("Updating project ID: {} by user ID: {}", projectId, userId);
+    @Transactional(readOnly = true)
+    public CursorPage<Project> findAllProjects(String cursor, int size) {
 
-        Project existingProject = findByIdWithAccess(projectId, userId);
+        log.debug("Finding page of all projects after cursor: {}", cursor);
 
-        if (!existingProject.getName().equals(updatedProject.getName())) {
-            List<Project> userProjects = projectRepository.findByUserAndIsActive(existingProject.getUser(), true);
-            boolean nameExists = userProjects.stream().anyMatch(p -> !p.getId().equals(projectId) &&
-                    p.getName().equalsIgnoreCase(updatedProject.getName()));
+        Cursor position = Cursor.decode(cursor);
+        List<Project> rows = projectRepository.findPage(position.createdAt(), position.id(), CursorPage.limitFor(size));
+        return CursorPage.of(rows, size, ProjectService::cursorOf);
 
-            if (nameExists) {
-                log.warn("Project update failed: Project name '{}' already exists for user {}", existingProject.getName(), userId);
-                throw new BadRequestException("Project name already exists: " + updatedProject.getName());
-            }
+    }
 
+    @Transactional(readOnly = true)
+    public CursorPage<Project> findAllActiveProjects(String cursor, int size) {
+
+        log.debug("Finding page of active projects after cursor: {}", cursor);
+
+        Cursor position = Cursor.decode(cursor);
+        List<Project> rows = projectRepository.findPageByIsActiveTrue(position.createdAt(), position.id(), CursorPage.limitFor(size));
+        return CursorPage.of(rows, size, ProjectService::cursorOf);
+
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<Project> findUserProjects(Long userId, boolean includeInactive, String cursor, int size) {
+
+        log.debug("Finding page of projects for user ID: {}, includeInactive: {}, cursor: {}", userId, includeInactive, cursor);
+
+        userService.findSnapshotById(userId);
+
+        Cursor position = Cursor.decode(cursor);
+        List<Project> rows = includeInactive
+                ? projectRepository.findPageByUserId(userId, position.createdAt(), position.id(), CursorPage.limitFor(size))
+                : projectRepository.findPageByUserIdAndIsActive(userId, true, position.createdAt(), position.id(), CursorPage.limitFor(size));
+        return CursorPage.of(rows, size, ProjectService::cursorOf);
+
+    }
+
+    public Project updateProject(Long projectId, Project updatedProject, Long userId) {
+        log.info("Updating project ID: {} by user ID: {}", projectId, userId);
+
+        Project existingProject = findByIdWithAccess(projectId, userId);
+        Long ownerId = existingProject.getUser().getId();
+        String previousNameKey = existingProject.getActiveNameKey();
+        String nameKey = Project.nameKey(updatedProject.getName());
+
+        // Renames that only change case or surrounding whitespace keep the same key
+        if (!Objects.equals(nameKey, Project.nameKey(existingProject.getName())) && activeNameExists(ownerId, nameKey)) {
+            log.warn("Project update failed: Project name '{}' already exists for user {}", existingProject.getName(), userId);
+            throw new BadRequestException("Project name already exists: " + updatedProject.getName());
         }
 
         existingProject.setName(updatedProject.getName());
         existingProject.setDescription(updatedProject.getDescription());
+        existingProject.refreshActiveNameKey();
 
-        Project savedProject = projectRepository.save(existingProject);
+        Project savedProject = saveUniquelyNamed(existingProject);
         log.info("Successfully updated project '{}' with ID: {}", savedProject.getName(), savedProject.getId());
+        publishNameChange(savedProject, ownerId, previousNameKey);
 
         return savedProject;
 
@@ -147,10 +225,13 @@ public class ProjectService {
         log.info("Deactivating project ID: {} by user ID: {}", projectId, userId);
 
         Project project = findByIdWithAccess(projectId, userId);
+        String previousNameKey = project.getActiveNameKey();
         project.setIsActive(false);
+        project.refreshActiveNameKey();
 
         Project savedProject = projectRepository.save(project);
         log.info("Successfully deactivated project '{}' with ID: {}", savedProject.getName(), savedProject.getId());
+        publishNameChange(savedProject, savedProject.getUser().getId(), previousNameKey);
 
         return savedProject;
 
@@ -161,10 +242,19 @@ public class ProjectService {
         log.info("Reactivating project ID: '{}' with user ID: {}", projectId, userId);
 
         Project project = findByIdWithAccess(projectId, userId);
+        Long ownerId = project.getUser().getId();
+        String previousNameKey = project.getActiveNameKey();
         project.setIsActive(true);
+        project.refreshActiveNameKey();
 
-        Project savedProject = projectRepository.save(project);
+        if (!Objects.equals(previousNameKey, project.getActiveNameKey()) && activeNameExists(ownerId, project.getActiveNameKey())) {
+            log.warn("Project reactivation failed: Project name '{}' is in use by another active project of user {}", project.getName(), ownerId);
+            throw new BadRequestException("Project name already exists: " + project.getName());
+        }
+
+        Project savedProject = saveUniquelyNamed(project);
         log.info("Successfully reactivate project '{}' with ID: {}", savedProject.getName(), savedProject.getId());
+        publishNameChange(savedProject, ownerId, previousNameKey);
 
         return savedProject;
 
@@ -175,9 +265,16 @@ public class ProjectService {
         log.warn("Permanently deleting project ID: {}", projectId);
 
         Project project = findById(projectId);
+        Long ownerId = project.getUser().getId();
+
+        // Tasks go with the project (cascade); listeners such as the workloads see them as deleted
+        List<TaskSnapshot> tasks = project.getTasks().stream().map(TaskSnapshot::of).toList();
 
         projectRepository.delete(project);
         log.warn("Successfully deleted project: '{}' with ID: {}", project.getName(), project.getId());
+        tasks.forEach(task -> eventPublisher.publishEvent(TaskChangedEvent.deleted(task)));
+        eventPublisher.publishEvent(ProjectOwnershipChangedEvent.deleted(projectId, ownerId));
+        eventPublisher.publishEvent(new ProjectNameChangedEvent(projectId, ownerId, project.getActiveNameKey(), null, null));
 
     }
 
@@ -189,6 +286,17 @@ public class ProjectService {
 
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<Project> findProjectsCreatedAfter(LocalDateTime date, String cursor, int size) {
+
+        log.debug("Finding page of projects created after: {}, cursor: {}", date, cursor);
+
+        Cursor position = Cursor.decode(cursor);
+        List<Project> rows = projectRepository.findPageByCreatedAtAfter(date, position.createdAt(), position.id(), CursorPage.limitFor(size));
+        return CursorPage.of(rows, size, ProjectService::cursorOf);
+
+    }
+
     @Transactional(readOnly = true)
     public List<Project> findProjectsWithTasks(Long userId) {
 
@@ -202,36 +310,76 @@ public class ProjectService {
         log.info("Transfering ownership of project ID: {} to user ID: {}", projectId, newOwnerId);
 
         Project project = findById(projectId);
-        User newOwner = userService.findById(newOwnerId);
+        UserSnapshot newOwner = userService.findSnapshotById(newOwnerId);
 
-        if (!newOwner.getIsActive()) {
+        if (!newOwner.active()) {
             log.warn("Ownership transfer failed: New owner {} is not active", newOwnerId);
             throw new BadRequestException("Cannot transfer ownership to inactive user");
         }
 
-        User previousOwner = project.getUser();
-        project.setUser(newOwner);
+        String nameKey = project.getActiveNameKey();
+        if (nameKey != null && !newOwnerId.equals(project.getUser().getId()) && activeNameExists(newOwnerId, nameKey)) {
+            log.warn("Ownership transfer failed: User {} already has an active project named '{}'", newOwnerId, project.getName());
+            throw new BadRequestException("Project name already exists: " + project.getName());
+        }
+
+        UserSnapshot previousOwner = userService.findSnapshotById(project.getUser().getId());
+        project.setUser(userService.getReference(newOwnerId));
 
-        Project savedProject = projectRepository.save(project);
-        log.info("Successfully transferred ownership of project '{}' from {} to {}", savedProject.getName(), previousOwner.getUsername(), newOwner.getUsername());
+        Project savedProject = saveUniquelyNamed(project);
+        log.info("Successfully transferred ownership of project '{}' from {} to {}", savedProject.getName(), previousOwner.username(), newOwner.username());
+        eventPublisher.publishEvent(new ProjectOwnershipChangedEvent(projectId, previousOwner.id(), newOwnerId));
+        eventPublisher.publishEvent(new ProjectNameChangedEvent(projectId, previousOwner.id(), nameKey, newOwnerId, nameKey));
 
         return savedProject;
 
     }
 
-    private boolean hasProjectAccess(Project project, Long userId) {
-        User user = userService.findById(userId);
+    /**
+     * In-memory access check backed by the ProjectAccessIndex.
+     * Does not load the project, so unauthorized requests never pay for it.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public boolean hasProjectAccess(Long projectId, Long userId) {
+        return projectAccess(userId).canAccess(projectId);
+    }
 
-        if (user.isAdmin() || project.getUser().getId().equals(userId)) {
-            return true;
+    /**
+     * Throws unless the user may access the project, without loading it.
+     * Only denied requests pay for an existence probe (to tell 404 from 401).
+     */
+    @Transactional(readOnly = true)
+    public void requireProjectAccess(Long projectId, Long userId) {
+
+        if (hasProjectAccess(projectId, userId)) {
+            return;
+        }
+
+        if (!projectRepository.existsById(projectId)) {
+            log.warn("Project not found with ID: {}", projectId);
+            throw new ResourceNotFoundException("Project not found with ID: " + projectId);
         }
 
-        return false;
+        log.warn("User {} denied access to project {}", userId, projectId);
+        throw new UnauthorizedException("You don't have access to this project");
+
+    }
+
+    /**
+     * Misses read the owned project IDs in a separate committed-read transaction
+     * (see CacheLoadTransaction), never through the caller's snapshot.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public ProjectAccess projectAccess(Long userId) {
+        return projectAccessIndex.get(userId, id -> {
+            boolean admin = userService.findSnapshotById(id).isAdmin();
+            return new ProjectAccess(admin, cacheLoadTransaction.load(() -> new HashSet<>(projectRepository.findIdsByUserId(id))));
+        });
     }
 
     public boolean isProjectAccessible(Project project, Long userId) {
 
-        User user = userService.findById(userId);
+        UserSnapshot user = userService.findSnapshotById(userId);
 
         if (user.isAdmin()) {
             return true;
@@ -242,12 +390,86 @@ public class ProjectService {
     }
 
     @Transactional(readOnly = true)
-    public Project getProjectWithStats(Long projectId, Long userId) {
+    public ProjectWithStats getProjectWithStats(Long projectId, Long userId) {
 
         log.debug("Getting project stats for project ID: {} by user ID: {}", projectId, userId);
 
-        return findByIdWithAccess(projectId, userId);
+        Project project = findByIdWithAccess(projectId, userId);
+        return new ProjectWithStats(project, projectStatsService.getStats(projectId));
+
+    }
+
+    /**
+     * Projects saved before active_name_key existed have no key yet. Fills it in once at
+     * startup so the constraint and the name index cover them; names that already clash
+     * (possible only in data from before the constraint) keep a null key and are logged;
+     * they stay unkeyed through later edits until renamed (see Project.refreshActiveNameKey).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillNameKeys() {
+
+        List<Project> missing = projectRepository.findByIsActiveTrueAndActiveNameKeyIsNull();
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Set<String>> taken = new HashMap<>();
+        int skipped = 0;
+        for (Project project : missing) {
+            Long ownerId = project.getUser().getId();
+            Set<String> keys = taken.computeIfAbsent(ownerId, id -> new HashSet<>(projectRepository.findActiveNameKeysByUserId(id)));
+            if (keys.add(Project.nameKey(project.getName()))) {
+                project.claimActiveNameKey();
+            } else {
+                skipped++;
+                log.warn("Project ID: {} left without a name key: '{}' clashes with another active project of user {}",
+                        project.getId(), project.getName(), ownerId);
+            }
+        }
+
+        log.info("Backfilled name keys for {} project(s), {} skipped", missing.size() - skipped, skipped);
+
+    }
+
+    private boolean activeNameExists(Long ownerId, String nameKey) {
+        return projectNameIndex.contains(ownerId, nameKey,
+                id -> cacheLoadTransaction.load(() -> projectRepository.findActiveNameKeysByUserId(id)));
+    }
+
+    /**
+     * Flushes so that a name taken by a concurrent transaction after our index probe
+     * surfaces here as a constraint violation, and reports it like any other duplicate.
+     */
+    private Project saveUniquelyNamed(Project project) {
+
+        try {
+            return projectRepository.saveAndFlush(project);
+        } catch (DataIntegrityViolationException e) {
+            if (!isNameConflict(e)) {
+                throw e;
+            }
+            log.warn("Project name '{}' was taken concurrently for user {}", project.getName(), project.getUser().getId());
+            throw new BadRequestException("Project name already exists: " + project.getName());
+        }
+
+    }
+
+    private static boolean isNameConflict(DataIntegrityViolationException e) {
+        String detail = e.getCause() instanceof ConstraintViolationException violation && violation.getConstraintName() != null
+                ? violation.getConstraintName()
+                : e.getMostSpecificCause().getMessage();
+        return detail != null && detail.toLowerCase(Locale.ROOT).contains(Project.UK_OWNER_ACTIVE_NAME);
+    }
+
+    private void publishNameChange(Project project, Long previousOwnerId, String previousNameKey) {
+        if (!Objects.equals(previousNameKey, project.getActiveNameKey())) {
+            eventPublisher.publishEvent(new ProjectNameChangedEvent(project.getId(),
+                    previousOwnerId, previousNameKey, project.getUser().getId(), project.getActiveNameKey()));
+        }
+    }
 
+    private static Cursor cursorOf(Project project) {
+        return new Cursor(project.getCreatedAt(), project.getId());
     }
 
 }
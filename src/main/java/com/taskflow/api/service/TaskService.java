@@ -1,18 +1,43 @@
 package com.taskflow.api.service;
 
+import com.taskflow.api.assignment.AssignmentEngine;
+import com.taskflow.api.cache.UserSnapshot;
+import com.taskflow.api.event.TaskChangedEvent;
+import com.taskflow.api.event.TaskSnapshot;
+import com.taskflow.api.event.TaskTextChangedEvent;
 import com.taskflow.api.exception.BadRequestException;
+import com.taskflow.api.exception.ResourceNotFoundException;
 import com.taskflow.api.model.Project;
 import com.taskflow.api.model.Task;
-import com.taskflow.api.model.User;
 import com.taskflow.api.model.enums.Priority;
 import com.taskflow.api.model.enums.TaskStatus;
+import com.taskflow.api.pagination.Cursor;
+import com.taskflow.api.pagination.CursorPage;
+import com.taskflow.api.projection.TaskDetail;
+import com.taskflow.api.projection.TaskSummary;
 import com.taskflow.api.repository.TaskRepository;
+import com.taskflow.api.workflow.BulkTransitionResult;
+import com.taskflow.api.workflow.TransitionOutcome;
+import com.taskflow.api.workflow.WorkflowRegistry;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -20,9 +45,27 @@ import java.time.LocalDateTime;
 @Transactional
 public class TaskService {
 
+    private static final int TRANSITION_CHUNK_SIZE = 1_000;
+
+    // Most urgent first: highest priority, then earliest due date (undated last)
+    private static final Comparator<TaskSnapshot> BACKLOG_ORDER = Comparator
+            .comparing((TaskSnapshot task) -> task.priority().getValue(), Comparator.reverseOrder())
+            .thenComparing(TaskSnapshot::dueDate, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(TaskSnapshot::id);
+
     private final TaskRepository taskRepository;
     private final UserService userService;
     private final ProjectService projectService;
+    private final WorkflowRegistry workflowRegistry;
+    private final AssignmentEngine assignmentEngine;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    @Value("${app.assignment.auto-assign-on-create:false}")
+    private boolean autoAssignOnCreate;
 
     public Task createTask(Task task, Long projectId, Long userId) {
         log.info("Creating new task '{}' in project ID: {} by user ID: {}",
@@ -36,6 +79,226 @@ public class TaskService {
             throw new BadRequestException("Cannot create task in inactive project");
         }
 
+        prepareNewTask(task, project);
+
+        Task savedTask = taskRepository.save(task);
+        log.info("Successfully created task '{}' with ID: {} in project '{}'",
+                savedTask.getTitle(), savedTask.getId(), project.getName());
+        eventPublisher.publishEvent(TaskChangedEvent.created(TaskSnapshot.of(savedTask)));
+        eventPublisher.publishEvent(new TaskTextChangedEvent(savedTask.getId(), projectId, savedTask.getTitle(), savedTask.getDescription()));
+
+        return savedTask;
+    }
+
+    /**
+     * Bulk import: validates every task up front, then inserts them in JDBC
+     * batches, flushing and clearing the persistence context after each batch.
+     * Returns the IDs of the created tasks in input order.
+     */
+    public List<Long> createTasks(List<Task> tasks, Long projectId, Long userId) {
+        log.info("Bulk creating {} tasks in project ID: {} by user ID: {}", tasks.size(), projectId, userId);
+
+        Project project = projectService.findByIdWithAccess(projectId, userId);
+
+        if (!project.getIsActive()) {
+            log.warn("Bulk task creation failed: Project {} is not active", projectId);
+            throw new BadRequestException("Cannot create task in inactive project");
+        }
+
+        for (Task task : tasks) {
+            prepareNewTask(task, project);
+        }
+
+        List<Long> taskIds = new ArrayList<>(tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            entityManager.persist(task);
+            taskIds.add(task.getId());
+            eventPublisher.publishEvent(TaskChangedEvent.created(TaskSnapshot.of(task)));
+            eventPublisher.publishEvent(new TaskTextChangedEvent(task.getId(), projectId, task.getTitle(), task.getDescription()));
+
+            if ((i + 1) % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+
+        entityManager.flush();
+        log.info("Successfully created {} tasks in project '{}'", taskIds.size(), project.getName());
+
+        return taskIds;
+    }
+
+    @Transactional(readOnly = true)
+    public Task findByIdWithAccess(Long taskId, Long userId) {
+
+        log.debug("Finding task ID: {} for user ID: {}", taskId, userId);
+
+        Task task = taskRepository.findById(taskId).orElseThrow(() -> {
+            log.warn("Task not found with ID: {}", taskId);
+            return new ResourceNotFoundException("Task not found with ID: " + taskId);
+        });
+
+        projectService.requireProjectAccess(task.getProject().getId(), userId);
+
+        return task;
+
+    }
+
+    /**
+     * Single status change, validated against the project's workflow.
+     */
+    public Task changeTaskStatus(Long taskId, TaskStatus newStatus, Long userId) {
+        log.info("Changing status of task ID: {} to {} by user ID: {}", taskId, newStatus, userId);
+
+        Task task = findByIdWithAccess(taskId, userId);
+        TaskSnapshot previous = TaskSnapshot.of(task);
+
+        if (!workflowRegistry.forProject(previous.projectId()).canTransition(previous.status(), newStatus)) {
+            log.warn("Status change failed: Task {} cannot move from {} to {}", taskId, previous.status(), newStatus);
+            throw new BadRequestException("Cannot change task status from " + previous.status() + " to " + newStatus);
+        }
+
+        task.setStatus(newStatus);
+
+        Task savedTask = taskRepository.save(task);
+        log.info("Successfully changed status of task ID: {} from {} to {}", taskId, previous.status(), newStatus);
+        eventPublisher.publishEvent(new TaskChangedEvent(previous, TaskSnapshot.of(savedTask)));
+
+        return savedTask;
+    }
+
+    /**
+     * Hands the task to another (active) user; a null assigneeId unassigns it.
+     */
+    public Task reassignTask(Long taskId, Long assigneeId, Long userId) {
+        log.info("Reassigning task ID: {} to user ID: {} by user ID: {}", taskId, assigneeId, userId);
+
+        Task task = findByIdWithAccess(taskId, userId);
+        TaskSnapshot previous = TaskSnapshot.of(task);
+
+        if (assigneeId == null) {
+            task.setAssignee(null);
+        } else {
+            UserSnapshot assignee = userService.findSnapshotById(assigneeId);
+            if (!assignee.active()) {
+                log.warn("Reassignment failed: Assignee {} is not active", assigneeId);
+                throw new BadRequestException("Cannot assign task to inactive user");
+            }
+            task.setAssignee(userService.getReference(assignee.id()));
+        }
+
+        Task savedTask = taskRepository.save(task);
+        log.info("Successfully reassigned task ID: {} from user ID: {} to user ID: {}", taskId, previous.assigneeId(), assigneeId);
+        eventPublisher.publishEvent(new TaskChangedEvent(previous, TaskSnapshot.of(savedTask)));
+
+        return savedTask;
+    }
+
+    /**
+     * Moves many tasks to targetStatus at once. Tasks are locked and read as
+     * snapshots in chunks, validated in memory (access + the project's compiled
+     * workflow), and then
+     * updated with one UPDATE per source status per chunk, so the statement
+     * count depends on the chunk count, not the task count.
+     */
+    public BulkTransitionResult transitionTasks(Collection<Long> taskIds, TaskStatus targetStatus, Long userId) {
+        log.info("Bulk transitioning {} tasks to {} by user ID: {}", taskIds.size(), targetStatus, userId);
+
+        List<Long> requestedIds = List.copyOf(new LinkedHashSet<>(taskIds));
+        Map<Long, BulkTransitionResult.TaskResult> resultsById = new HashMap<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int from = 0; from < requestedIds.size(); from += TRANSITION_CHUNK_SIZE) {
+            List<Long> chunk = requestedIds.subList(from, Math.min(from + TRANSITION_CHUNK_SIZE, requestedIds.size()));
+            Map<TaskStatus, List<TaskSnapshot>> transitionsBySource = new EnumMap<>(TaskStatus.class);
+
+            for (TaskSnapshot task : taskRepository.lockSnapshotsByIds(chunk)) {
+                if (!projectService.hasProjectAccess(task.projectId(), userId)) {
+                    resultsById.put(task.id(), new BulkTransitionResult.TaskResult(task.id(), task.status(), TransitionOutcome.ACCESS_DENIED));
+                } else if (!workflowRegistry.forProject(task.projectId()).canTransition(task.status(), targetStatus)) {
+                    resultsById.put(task.id(), new BulkTransitionResult.TaskResult(task.id(), task.status(), TransitionOutcome.INVALID_TRANSITION));
+                } else {
+                    transitionsBySource.computeIfAbsent(task.status(), status -> new ArrayList<>()).add(task);
+                }
+            }
+
+            for (Map.Entry<TaskStatus, List<TaskSnapshot>> entry : transitionsBySource.entrySet()) {
+                List<TaskSnapshot> tasks = entry.getValue();
+                int updated = taskRepository.updateStatus(tasks.stream().map(TaskSnapshot::id).toList(), entry.getKey(), targetStatus, now);
+                if (updated != tasks.size()) {
+                    log.warn("Bulk transition {} -> {} updated {} of {} locked tasks", entry.getKey(), targetStatus, updated, tasks.size());
+                }
+
+                for (TaskSnapshot task : tasks) {
+                    resultsById.put(task.id(), new BulkTransitionResult.TaskResult(task.id(), task.status(), TransitionOutcome.TRANSITIONED));
+                    eventPublisher.publishEvent(new TaskChangedEvent(task, task.withStatus(targetStatus)));
+                }
+            }
+        }
+
+        List<BulkTransitionResult.TaskResult> results = requestedIds.stream()
+                .map(id -> resultsById.getOrDefault(id, new BulkTransitionResult.TaskResult(id, null, TransitionOutcome.NOT_FOUND)))
+                .toList();
+        BulkTransitionResult result = new BulkTransitionResult(targetStatus, results);
+        log.info("Bulk transition to {} finished: {} of {} tasks transitioned", targetStatus, result.transitionedCount(), results.size());
+
+        return result;
+    }
+
+    /**
+     * Filter form of transitionTasks: every task of the project currently in fromStatus.
+     */
+    public BulkTransitionResult transitionProjectTasks(Long projectId, TaskStatus fromStatus, TaskStatus targetStatus, Long userId) {
+        log.info("Bulk transitioning {} tasks of project ID: {} to {} by user ID: {}", fromStatus, projectId, targetStatus, userId);
+
+        projectService.requireProjectAccess(projectId, userId);
+
+        return transitionTasks(taskRepository.findIdsByProjectIdAndStatus(projectId, fromStatus), targetStatus, userId);
+    }
+
+    /**
+     * Auto-assigns the project's unassigned open tasks, most urgent first, each to
+     * whoever is least loaded at that point (see AssignmentEngine). Tasks nobody is
+     * eligible for stay unassigned. Returns task ID -> assignee ID in assignment order.
+     */
+    public Map<Long, Long> assignBacklog(Long projectId, Long userId) {
+        log.info("Assigning backlog of project ID: {} by user ID: {}", projectId, userId);
+
+        projectService.requireProjectAccess(projectId, userId);
+
+        List<TaskSnapshot> backlog = new ArrayList<>(taskRepository.lockUnassignedOpenSnapshotsByProjectId(projectId));
+        backlog.sort(BACKLOG_ORDER);
+
+        Map<Long, Long> assignments = new LinkedHashMap<>();
+        Map<Long, List<TaskSnapshot>> tasksByAssignee = new HashMap<>();
+        for (TaskSnapshot task : backlog) {
+            Long assigneeId = assignmentEngine.assign(task.status(), task.estimatedHours());
+            if (assigneeId != null) {
+                assignments.put(task.id(), assigneeId);
+                tasksByAssignee.computeIfAbsent(assigneeId, id -> new ArrayList<>()).add(task);
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (Map.Entry<Long, List<TaskSnapshot>> entry : tasksByAssignee.entrySet()) {
+            List<TaskSnapshot> tasks = entry.getValue();
+            for (int from = 0; from < tasks.size(); from += TRANSITION_CHUNK_SIZE) {
+                List<TaskSnapshot> chunk = tasks.subList(from, Math.min(from + TRANSITION_CHUNK_SIZE, tasks.size()));
+                taskRepository.assignUnassigned(chunk.stream().map(TaskSnapshot::id).toList(), userService.getReference(entry.getKey()), now);
+                for (TaskSnapshot task : chunk) {
+                    eventPublisher.publishEvent(new TaskChangedEvent(task, task.withAssignee(entry.getKey())));
+                }
+            }
+        }
+        log.info("Assigned {} of {} backlog tasks in project ID: {} to {} users",
+                assignments.size(), backlog.size(), projectId, tasksByAssignee.size());
+
+        return assignments;
+    }
+
+    private void prepareNewTask(Task task, Project project) {
+
         // Set the project
         task.setProject(project);
 
@@ -55,19 +318,108 @@ public class TaskService {
 
         // Validate assignee if provided
         if (task.getAssignee() != null) {
-            User assignee = userService.findById(task.getAssignee().getId());
-            if (!assignee.getIsActive()) {
+            UserSnapshot assignee = userService.findSnapshotById(task.getAssignee().getId());
+            if (!assignee.active()) {
                 log.warn("Task creation failed: Assignee {} is not active", task.getAssignee().getId());
                 throw new BadRequestException("Cannot assign task to inactive user");
             }
-            task.setAssignee(assignee);
+            task.setAssignee(userService.getReference(assignee.id()));
+        } else if (autoAssignOnCreate) {
+            Long assigneeId = assignmentEngine.assign(task.getStatus(), task.getEstimatedHours());
+            if (assigneeId != null) {
+                log.debug("Auto-assigning new task '{}' to user ID: {}", task.getTitle(), assigneeId);
+                task.setAssignee(userService.getReference(assigneeId));
+            }
         }
 
-        Task savedTask = taskRepository.save(task);
-        log.info("Successfully created task '{}' with ID: {} in project '{}'",
-                savedTask.getTitle(), savedTask.getId(), project.getName());
+    }
 
-        return savedTask;
+    @Transactional(readOnly = true)
+    public CursorPage<Task> findProjectTasks(Long projectId, Long userId, String cursor, int size) {
+
+        log.debug("Finding page of tasks for project ID: {} by user ID: {}, cursor: {}", projectId, userId, cursor);
+
+        projectService.requireProjectAccess(projectId, userId);
+
+        Cursor position = Cursor.decode(cursor);
+        List<Task> rows = taskRepository.findPageByProjectId(projectId, position.createdAt(), position.id(), CursorPage.limitFor(size));
+        return CursorPage.of(rows, size, TaskService::cursorOf);
+
+    }
+
+    /**
+     * Page of project tasks with assignees fetched and comment counts attached:
+     * two statements per page (plus the access check), regardless of page size.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<TaskDetail> findProjectTaskDetails(Long projectId, Long userId, String cursor, int size) {
+
+        log.debug("Finding page of task details for project ID: {} by user ID: {}, cursor: {}", projectId, userId, cursor);
+
+        projectService.requireProjectAccess(projectId, userId);
+
+        Cursor position = Cursor.decode(cursor);
+        CursorPage<Task> page = CursorPage.of(
+                taskRepository.findPageWithAssigneeByProjectId(projectId, position.createdAt(), position.id(), CursorPage.limitFor(size)),
+                size, TaskService::cursorOf);
+
+        if (page.items().isEmpty()) {
+            return new CursorPage<>(List.of(), page.nextCursor());
+        }
+
+        Map<Long, Long> commentCounts = taskRepository.countCommentsByTaskIds(page.items().stream().map(Task::getId).toList()).stream()
+                .collect(Collectors.toMap(TaskRepository.TaskCommentCountRow::getTaskId, TaskRepository.TaskCommentCountRow::getCommentCount));
+
+        List<TaskDetail> details = page.items().stream()
+                .map(task -> new TaskDetail(task, commentCounts.getOrDefault(task.getId(), 0L)))
+                .toList();
+        return new CursorPage<>(details, page.nextCursor());
+
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<Task> findAssignedTasks(Long assigneeId, String cursor, int size) {
+
+        log.debug("Finding page of tasks assigned to user ID: {}, cursor: {}", assigneeId, cursor);
+
+        Cursor position = Cursor.decode(cursor);
+        List<Task> rows = taskRepository.findPageByAssigneeId(assigneeId, position.createdAt(), position.id(), CursorPage.limitFor(size));
+        return CursorPage.of(rows, size, TaskService::cursorOf);
+
+    }
+
+    @Transactional(readOnly = true)
+    public List<TaskSummary> findAssignedTaskSummaries(Long assigneeId) {
+        log.debug("Finding task summaries assigned to user ID: {}", assigneeId);
+        return taskRepository.findSummariesByAssigneeId(assigneeId);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<TaskSummary> findAssignedTaskSummaries(Long assigneeId, String cursor, int size) {
+
+        log.debug("Finding page of task summaries assigned to user ID: {}, cursor: {}", assigneeId, cursor);
+
+        Cursor position = Cursor.decode(cursor);
+        List<TaskSummary> rows = taskRepository.findSummaryPageByAssigneeId(assigneeId, position.createdAt(), position.id(), CursorPage.limitFor(size));
+        return CursorPage.of(rows, size, summary -> new Cursor(summary.createdAt(), summary.id()));
+
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<TaskSummary> findProjectTaskSummaries(Long projectId, Long userId, String cursor, int size) {
+
+        log.debug("Finding page of task summaries for project ID: {} by user ID: {}, cursor: {}", projectId, userId, cursor);
+
+        projectService.requireProjectAccess(projectId, userId);
+
+        Cursor position = Cursor.decode(cursor);
+        List<TaskSummary> rows = taskRepository.findSummaryPageByProjectId(projectId, position.createdAt(), position.id(), CursorPage.limitFor(size));
+        return CursorPage.of(rows, size, summary -> new Cursor(summary.createdAt(), summary.id()));
+
+    }
+
+    private static Cursor cursorOf(Task task) {
+        return new Cursor(task.getCreatedAt(), task.getId());
     }
 
 }
@@ -1,17 +1,26 @@
 package com.taskflow.api.service;
 
 
+import com.taskflow.api.cache.CacheLoadTransaction;
+import com.taskflow.api.cache.UserCache;
+import com.taskflow.api.cache.UserSnapshot;
+import com.taskflow.api.event.UserChangedEvent;
+import com.taskflow.api.exception.BadRequestException;
 import com.taskflow.api.exception.ResourceNotFoundException;
 import com.taskflow.api.model.User;
+import com.taskflow.api.pagination.Cursor;
+import com.taskflow.api.pagination.CursorPage;
 import com.taskflow.api.model.enums.Role;
 import com.taskflow.api.repository.UserRepository;
+import com.taskflow.api.workload.WorkloadService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.apache.coyote.BadRequestException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Repository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 
 import java.util.List;
 
@@ -23,8 +32,12 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserCache userCache;
+    private final CacheLoadTransaction cacheLoadTransaction;
+    private final WorkloadService workloadService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public User registerUser(User user) throws BadRequestException {
+    public User registerUser(User user) {
         log.info("Attempting to register new user: {}", user.getUsername());
 
         if (userRepository.existsByUsername(user.getUsername())) {
@@ -48,7 +61,9 @@ public class UserService {
         }
 
         User savedUser = userRepository.save(user);
+        workloadService.createWorkload(savedUser.getId());
         log.info("Successfully registered user: '{}' with ID: '{}'", savedUser.getUsername(), savedUser.getId());
+        eventPublisher.publishEvent(new UserChangedEvent(savedUser.getId()));
 
         return savedUser;
 
@@ -90,6 +105,28 @@ public class UserService {
 
     }
 
+    /**
+     * Cached identity/role lookup for access checks and validation.
+     * Runs without its own transaction so cache hits never touch the connection pool;
+     * misses load in a separate committed-read transaction (see CacheLoadTransaction).
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public UserSnapshot findSnapshotById(Long id) {
+
+        return userCache.get(id, key -> cacheLoadTransaction.load(() -> UserSnapshot.of(findById(key))));
+
+    }
+
+    /**
+     * Returns a lazy reference for wiring associations without a SELECT.
+     * Callers must have validated the ID first, e.g. via findSnapshotById.
+     */
+    public User getReference(Long id) {
+
+        return userRepository.getReferenceById(id);
+
+    }
+
     @Transactional(readOnly = true)
     public List<User> findAllActiveUsers() {
 
@@ -98,6 +135,17 @@ public class UserService {
 
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<User> findAllActiveUsers(String cursor, int size) {
+
+        log.debug("Finding page of active users after cursor: {}", cursor);
+
+        Cursor position = Cursor.decode(cursor);
+        List<User> rows = userRepository.findPageByIsActiveTrue(position.createdAt(), position.id(), CursorPage.limitFor(size));
+        return CursorPage.of(rows, size, UserService::cursorOf);
+
+    }
+
     @Transactional(readOnly = true)
     public List<User> findAllUsers() {
 
@@ -106,7 +154,18 @@ public class UserService {
 
     }
 
-    public User updateUserProfile(Long userId, User updatedUser) throws BadRequestException {
+    @Transactional(readOnly = true)
+    public CursorPage<User> findAllUsers(String cursor, int size) {
+
+        log.debug("Finding page of all users after cursor: {}", cursor);
+
+        Cursor position = Cursor.decode(cursor);
+        List<User> rows = userRepository.findPage(position.createdAt(), position.id(), CursorPage.limitFor(size));
+        return CursorPage.of(rows, size, UserService::cursorOf);
+
+    }
+
+    public User updateUserProfile(Long userId, User updatedUser) {
 
         log.info("Updating profile for user ID: {}", userId);
 
@@ -125,6 +184,7 @@ public class UserService {
 
         User savedUser = userRepository.save(existingUser);
         log.info("Successfully updated profile for user: '{}'", savedUser.getUsername());
+        eventPublisher.publishEvent(new UserChangedEvent(savedUser.getId()));
 
         return savedUser;
 
@@ -153,6 +213,7 @@ public class UserService {
 
         User savedUser = userRepository.save(user);
         log.info("Successfully updated role for user: {} to {}", savedUser.getUsername(), savedUser.getRole());
+        eventPublisher.publishEvent(new UserChangedEvent(savedUser.getId()));
 
         return savedUser;
 
@@ -167,6 +228,7 @@ public class UserService {
 
         User savedUser = userRepository.save(user);
         log.info("Successfully deactivated user: {}", savedUser.getUsername());
+        eventPublisher.publishEvent(new UserChangedEvent(savedUser.getId()));
 
         return savedUser;
 
@@ -181,6 +243,7 @@ public class UserService {
 
         User savedUser = userRepository.save(user);
         log.info("Successfully activated user: {}", savedUser.getUsername());
+        eventPublisher.publishEvent(new UserChangedEvent(savedUser.getId()));
 
         return savedUser;
 
@@ -195,6 +258,17 @@ public class UserService {
 
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<User> findUsersByRole(Role role, String cursor, int size) {
+
+        log.debug("Finding page of users with role: {}, cursor: {}", role, cursor);
+
+        Cursor position = Cursor.decode(cursor);
+        List<User> rows = userRepository.findPageByRole(role, position.createdAt(), position.id(), CursorPage.limitFor(size));
+        return CursorPage.of(rows, size, UserService::cursorOf);
+
+    }
+
     @Transactional(readOnly = true)
     public boolean existsByUsername(String username) {
 
@@ -209,4 +283,8 @@ public class UserService {
 
     }
 
+    private static Cursor cursorOf(User user) {
+        return new Cursor(user.getCreatedAt(), user.getId());
+    }
+
 }
@@ -0,0 +1,102 @@
+package com.taskflow.api.service;
+
+import com.taskflow.api.event.ProjectOwnershipChangedEvent;
+import com.taskflow.api.event.WorkflowChangedEvent;
+import com.taskflow.api.exception.BadRequestException;
+import com.taskflow.api.model.WorkflowTransition;
+import com.taskflow.api.model.enums.TaskStatus;
+import com.taskflow.api.repository.WorkflowTransitionRepository;
+import com.taskflow.api.workflow.TaskWorkflow;
+import com.taskflow.api.workflow.WorkflowRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class WorkflowService {
+
+    private final WorkflowTransitionRepository workflowTransitionRepository;
+    private final WorkflowRegistry workflowRegistry;
+    private final ProjectService projectService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional(readOnly = true)
+    public TaskWorkflow getProjectWorkflow(Long projectId, Long userId) {
+
+        log.debug("Getting workflow for project ID: {} by user ID: {}", projectId, userId);
+
+        projectService.requireProjectAccess(projectId, userId);
+        return workflowRegistry.forProject(projectId);
+
+    }
+
+    /**
+     * Replaces the project's workflow. The compiled version becomes visible to
+     * status changes once this transaction commits.
+     */
+    public TaskWorkflow updateProjectWorkflow(Long projectId, Map<TaskStatus, Set<TaskStatus>> transitions, Long userId) {
+
+        log.info("Updating workflow for project ID: {} by user ID: {}", projectId, userId);
+
+        projectService.requireProjectAccess(projectId, userId);
+
+        List<WorkflowTransition> rows = new ArrayList<>();
+        transitions.forEach((from, targets) -> {
+            for (TaskStatus to : targets) {
+                if (from == to) {
+                    log.warn("Workflow update failed: Self transition on {} for project {}", from, projectId);
+                    throw new BadRequestException("A status cannot transition to itself: " + from);
+                }
+                rows.add(WorkflowTransition.builder().projectId(projectId).fromStatus(from).toStatus(to).build());
+            }
+        });
+
+        if (rows.isEmpty()) {
+            log.warn("Workflow update failed: No transitions given for project {}", projectId);
+            throw new BadRequestException("Workflow must allow at least one transition");
+        }
+
+        workflowTransitionRepository.deleteByProjectId(projectId);
+        workflowTransitionRepository.saveAll(rows);
+
+        TaskWorkflow workflow = TaskWorkflow.compile(transitions);
+        eventPublisher.publishEvent(new WorkflowChangedEvent(projectId));
+        log.info("Successfully updated workflow for project ID: {} ({} transitions)", projectId, rows.size());
+
+        return workflow;
+
+    }
+
+    /**
+     * Restores the default TaskStatus workflow for the project.
+     */
+    public void resetProjectWorkflow(Long projectId, Long userId) {
+
+        log.info("Resetting workflow for project ID: {} by user ID: {}", projectId, userId);
+
+        projectService.requireProjectAccess(projectId, userId);
+        workflowTransitionRepository.deleteByProjectId(projectId);
+        eventPublisher.publishEvent(new WorkflowChangedEvent(projectId));
+
+    }
+
+    // Same transaction as the delete; WorkflowRegistry drops the compiled workflow after commit
+    @EventListener
+    public void onProjectOwnershipChanged(ProjectOwnershipChangedEvent event) {
+        if (event.isDeletion()) {
+            workflowTransitionRepository.deleteByProjectId(event.projectId());
+        }
+    }
+
+}
@@ -0,0 +1,106 @@
+package com.taskflow.api.stats;
+
+import com.taskflow.api.event.TaskSnapshot;
+import com.taskflow.api.model.enums.Priority;
+import com.taskflow.api.model.enums.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Mutable per-project counters, seeded once from the database and then kept
+ * current by applying task snapshots as writes commit.
+ *
+ * Overdue is time dependent, so instead of a counter we keep a multiset of the
+ * due dates of tasks that are not DONE and count the ones already in the past.
+ */
+class ProjectCounters {
+
+    private final Long projectId;
+    private final long loadedAt;
+    private final long[] byStatus = new long[TaskStatus.values().length];
+    private final long[] byPriority = new long[Priority.values().length];
+    private final TreeMap<LocalDateTime, Long> openDueDates = new TreeMap<>();
+    private long estimatedHours;
+    private long actualHours;
+
+    ProjectCounters(Long projectId) {
+        this(projectId, System.nanoTime());
+    }
+
+    /**
+     * loadedAt is the System.nanoTime() taken after the seeding query returned.
+     */
+    ProjectCounters(Long projectId, long loadedAt) {
+        this.projectId = projectId;
+        this.loadedAt = loadedAt;
+    }
+
+    /**
+     * Whether the seeding query had returned before the given System.nanoTime(), so it cannot
+     * have seen a write that was still uncommitted at that time.
+     */
+    boolean loadedBefore(long nanoTime) {
+        return loadedAt - nanoTime < 0;
+    }
+
+    /**
+     * Adds a group of tasks sharing status, priority and due date (one row of the grouped query).
+     */
+    synchronized void addGroup(TaskStatus status, Priority priority, LocalDateTime dueDate,
+                               long count, long estimated, long actual) {
+        byStatus[status.ordinal()] += count;
+        byPriority[priority.ordinal()] += count;
+        estimatedHours += estimated;
+        actualHours += actual;
+
+        if (dueDate != null && status != TaskStatus.DONE) {
+            openDueDates.merge(dueDate, count, Long::sum);
+        }
+    }
+
+    synchronized void apply(TaskSnapshot previous, TaskSnapshot current) {
+        if (previous != null) {
+            addGroup(previous.status(), previous.priority(), null, -1, -hours(previous.estimatedHours()), -hours(previous.actualHours()));
+            removeDueDate(previous);
+        }
+
+        if (current != null) {
+            addGroup(current.status(), current.priority(), current.dueDate(), 1, hours(current.estimatedHours()), hours(current.actualHours()));
+        }
+    }
+
+    synchronized ProjectStats snapshot(LocalDateTime now) {
+        Map<TaskStatus, Long> statusCounts = new EnumMap<>(TaskStatus.class);
+        long total = 0;
+        for (TaskStatus status : TaskStatus.values()) {
+            statusCounts.put(status, byStatus[status.ordinal()]);
+            total += byStatus[status.ordinal()];
+        }
+
+        Map<Priority, Long> priorityCounts = new EnumMap<>(Priority.class);
+        for (Priority priority : Priority.values()) {
+            priorityCounts.put(priority, byPriority[priority.ordinal()]);
+        }
+
+        long overdue = 0;
+        for (long count : openDueDates.headMap(now, false).values()) {
+            overdue += count;
+        }
+
+        return new ProjectStats(projectId, total, statusCounts, priorityCounts, overdue, estimatedHours, actualHours);
+    }
+
+    private void removeDueDate(TaskSnapshot task) {
+        if (task.dueDate() != null && task.status() != TaskStatus.DONE) {
+            openDueDates.computeIfPresent(task.dueDate(), (dueDate, count) -> count > 1 ? count - 1 : null);
+        }
+    }
+
+    private static long hours(Integer hours) {
+        return hours != null ? hours : 0;
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.taskflow.api.stats;
+
+import com.taskflow.api.model.enums.Priority;
+import com.taskflow.api.model.enums.TaskStatus;
+
+import java.util.Map;
+
+/**
+ * Aggregated task statistics for a single project
+ */
+public record ProjectStats(Long projectId,
+                           long totalTasks,
+                           Map<TaskStatus, Long> tasksByStatus,
+                           Map<Priority, Long> tasksByPriority,
+                           long overdueTasks,
+                           long estimatedHours,
+                           long actualHours) {
+
+    public long countByStatus(TaskStatus status) {
+        return tasksByStatus.getOrDefault(status, 0L);
+    }
+
+    public long countByPriority(Priority priority) {
+        return tasksByPriority.getOrDefault(priority, 0L);
+    }
+
+}
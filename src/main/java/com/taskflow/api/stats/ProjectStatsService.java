@@ -0,0 +1,168 @@
+package com.taskflow.api.stats;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskflow.api.cache.CacheLoadTransaction;
+import com.taskflow.api.event.ProjectOwnershipChangedEvent;
+import com.taskflow.api.event.TaskChangedEvent;
+import com.taskflow.api.event.TaskSnapshot;
+import com.taskflow.api.repository.TaskRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Project statistics engine
+ *
+ * The first read of a project runs one grouped aggregate over its tasks and
+ * keeps the result as in-memory counters. Every committed task write is then
+ * applied as a delta, so later reads never touch the tasks table.
+ *
+ * Deltas are not idempotent, so a delta is only applied to counters whose
+ * seeding query had returned before the write started to commit; such a load
+ * cannot have seen the write. Counters loaded later may or may not include it
+ * and are dropped instead, to be reloaded on the next read.
+ */
+@Service
+@Slf4j
+public class ProjectStatsService {
+
+    private final TaskRepository taskRepository;
+    private final CacheLoadTransaction cacheLoadTransaction;
+    private final Cache<Long, ProjectCounters> counters;
+
+    public ProjectStatsService(TaskRepository taskRepository,
+                               CacheLoadTransaction cacheLoadTransaction,
+                               @Value("${app.cache.project-stats.maximum-size:5000}") long maximumSize,
+                               @Value("${app.cache.project-stats.expire-after-write:10m}") Duration expireAfterWrite,
+                               MeterRegistry meterRegistry) {
+
+        this.taskRepository = taskRepository;
+        this.cacheLoadTransaction = cacheLoadTransaction;
+        this.counters = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, counters, "project-stats");
+    }
+
+    public ProjectStats getStats(Long projectId) {
+
+        log.debug("Getting stats for project ID: {}", projectId);
+
+        return counters.get(projectId, this::loadCounters).snapshot(LocalDateTime.now());
+
+    }
+
+    public void evict(Long projectId) {
+        counters.invalidate(projectId);
+    }
+
+    /**
+     * Notes when the write starts to commit and applies the delta once it has.
+     */
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Already committed: any cached counters may have been loaded after it
+            invalidate(event);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+            // Taken before the commit, so counters loaded earlier cannot include the write
+            private long committingAt;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                committingAt = System.nanoTime();
+            }
+
+            @Override
+            public void afterCommit() {
+                apply(event, committingAt);
+            }
+
+        });
+
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProjectOwnershipChanged(ProjectOwnershipChangedEvent event) {
+
+        if (event.isDeletion()) {
+            counters.invalidate(event.projectId());
+        }
+
+    }
+
+    private void apply(TaskChangedEvent event, long committingAt) {
+
+        Long previousProjectId = event.previous() != null ? event.previous().projectId() : null;
+        Long currentProjectId = event.current() != null ? event.current().projectId() : null;
+
+        if (previousProjectId != null && !Objects.equals(previousProjectId, currentProjectId)) {
+            applyDelta(previousProjectId, event.previous(), null, committingAt);
+            if (currentProjectId != null) {
+                applyDelta(currentProjectId, null, event.current(), committingAt);
+            }
+            return;
+        }
+
+        Long projectId = currentProjectId != null ? currentProjectId : previousProjectId;
+        applyDelta(projectId, event.previous(), event.current(), committingAt);
+
+    }
+
+    // compute (not computeIfPresent) so a load still in flight is waited for and judged too
+    private void applyDelta(Long projectId, TaskSnapshot previous, TaskSnapshot current, long committingAt) {
+        counters.asMap().compute(projectId, (id, projectCounters) -> {
+            if (projectCounters == null || !projectCounters.loadedBefore(committingAt)) {
+                return null;
+            }
+            projectCounters.apply(previous, current);
+            return projectCounters;
+        });
+    }
+
+    private void invalidate(TaskChangedEvent event) {
+        if (event.previous() != null) {
+            counters.invalidate(event.previous().projectId());
+        }
+        if (event.current() != null) {
+            counters.invalidate(event.current().projectId());
+        }
+    }
+
+    private ProjectCounters loadCounters(Long projectId) {
+
+        log.debug("Loading stats counters for project ID: {}", projectId);
+
+        List<TaskRepository.TaskStatsRow> rows = cacheLoadTransaction.load(() -> taskRepository.aggregateStatsByProjectId(projectId));
+        ProjectCounters projectCounters = new ProjectCounters(projectId, System.nanoTime());
+        for (TaskRepository.TaskStatsRow row : rows) {
+            projectCounters.addGroup(row.getStatus(), row.getPriority(), row.getDueDate(),
+                    row.getTaskCount(), row.getEstimatedHours(), row.getActualHours());
+        }
+
+        return projectCounters;
+
+    }
+
+}
@@ -0,0 +1,6 @@
+package com.taskflow.api.stats;
+
+import com.taskflow.api.model.Project;
+
+public record ProjectWithStats(Project project, ProjectStats stats) {
+}
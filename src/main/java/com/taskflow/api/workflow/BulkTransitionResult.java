@@ -0,0 +1,31 @@
+package com.taskflow.api.workflow;
+
+import com.taskflow.api.model.enums.TaskStatus;
+
+import java.util.List;
+
+/**
+ * Per-task outcome of a bulk status transition, in request order
+ */
+public record BulkTransitionResult(TaskStatus targetStatus, List<TaskResult> results) {
+
+    public long transitionedCount() {
+        return results.stream().filter(TaskResult::succeeded).count();
+    }
+
+    public List<TaskResult> failures() {
+        return results.stream().filter(result -> !result.succeeded()).toList();
+    }
+
+    /**
+     * previousStatus is null when the task was not found.
+     */
+    public record TaskResult(Long taskId, TaskStatus previousStatus, TransitionOutcome outcome) {
+
+        public boolean succeeded() {
+            return outcome == TransitionOutcome.TRANSITIONED;
+        }
+
+    }
+
+}
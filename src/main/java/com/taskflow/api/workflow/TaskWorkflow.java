@@ -0,0 +1,74 @@
+package com.taskflow.api.workflow;
+
+import com.taskflow.api.model.enums.TaskStatus;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable, compiled transition table
+ *
+ * Allowed transitions are stored as one bitmask per source status, indexed by
+ * ordinal, so canTransition allocates nothing and costs one array read.
+ */
+public final class TaskWorkflow {
+
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    /**
+     * The built-in rules (TaskStatus.canTransitionTo); DONE and CANCELLED are terminal.
+     */
+    public static final TaskWorkflow DEFAULT = compile(Map.of(
+            TaskStatus.TODO, EnumSet.of(TaskStatus.IN_PROGRESS, TaskStatus.CANCELLED),
+            TaskStatus.IN_PROGRESS, EnumSet.of(TaskStatus.IN_REVIEW, TaskStatus.TODO, TaskStatus.CANCELLED),
+            TaskStatus.IN_REVIEW, EnumSet.of(TaskStatus.TESTING, TaskStatus.IN_PROGRESS, TaskStatus.CANCELLED),
+            TaskStatus.TESTING, EnumSet.of(TaskStatus.DONE, TaskStatus.IN_PROGRESS, TaskStatus.CANCELLED)));
+
+    private final int[] allowed;
+
+    private TaskWorkflow(int[] allowed) {
+        this.allowed = allowed;
+    }
+
+    public static TaskWorkflow compile(Map<TaskStatus, ? extends Set<TaskStatus>> transitions) {
+        int[] allowed = new int[STATUSES.length];
+        transitions.forEach((from, targets) -> {
+            for (TaskStatus target : targets) {
+                allowed[from.ordinal()] |= 1 << target.ordinal();
+            }
+        });
+        return new TaskWorkflow(allowed);
+    }
+
+    public boolean canTransition(TaskStatus from, TaskStatus to) {
+        return (allowed[from.ordinal()] & (1 << to.ordinal())) != 0;
+    }
+
+    public Set<TaskStatus> allowedTargets(TaskStatus from) {
+        EnumSet<TaskStatus> targets = EnumSet.noneOf(TaskStatus.class);
+        for (TaskStatus status : STATUSES) {
+            if (canTransition(from, status)) {
+                targets.add(status);
+            }
+        }
+        return targets;
+    }
+
+    /**
+     * Expanded form, e.g. for persisting or displaying a workflow.
+     */
+    public Map<TaskStatus, Set<TaskStatus>> transitions() {
+        Map<TaskStatus, Set<TaskStatus>> transitions = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus from : STATUSES) {
+            Set<TaskStatus> targets = allowedTargets(from);
+            if (!targets.isEmpty()) {
+                transitions.put(from, targets);
+            }
+        }
+        return Collections.unmodifiableMap(transitions);
+    }
+
+}
@@ -0,0 +1,10 @@
+package com.taskflow.api.workflow;
+
+public enum TransitionOutcome {
+
+    TRANSITIONED,
+    NOT_FOUND,
+    ACCESS_DENIED,
+    INVALID_TRANSITION
+
+}
@@ -0,0 +1,96 @@
+package com.taskflow.api.workflow;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskflow.api.cache.CacheLoadTransaction;
+import com.taskflow.api.event.ProjectOwnershipChangedEvent;
+import com.taskflow.api.event.WorkflowChangedEvent;
+import com.taskflow.api.model.WorkflowTransition;
+import com.taskflow.api.model.enums.TaskStatus;
+import com.taskflow.api.repository.WorkflowTransitionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compiled workflow per project
+ *
+ * Each project's transitions are loaded once (in a separate committed-read
+ * transaction), compiled and cached in a bounded cache. Readers always see one
+ * whole table, never a mix. Changes drop the cached instance after commit and
+ * the next read loads the committed rows: putting the event's table instead
+ * could let two close updates, whose listeners run in either order, leave the
+ * older one cached.
+ */
+@Component
+@Slf4j
+public class WorkflowRegistry {
+
+    private final WorkflowTransitionRepository workflowTransitionRepository;
+    private final CacheLoadTransaction cacheLoadTransaction;
+    private final Cache<Long, TaskWorkflow> workflows;
+
+    public WorkflowRegistry(WorkflowTransitionRepository workflowTransitionRepository,
+                            CacheLoadTransaction cacheLoadTransaction,
+                            @Value("${app.cache.workflows.maximum-size:10000}") long maximumSize,
+                            @Value("${app.cache.workflows.expire-after-write:30m}") Duration expireAfterWrite,
+                            MeterRegistry meterRegistry) {
+
+        this.workflowTransitionRepository = workflowTransitionRepository;
+        this.cacheLoadTransaction = cacheLoadTransaction;
+        this.workflows = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, workflows, "workflows");
+    }
+
+    public TaskWorkflow forProject(Long projectId) {
+        return workflows.get(projectId, this::load);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onWorkflowChanged(WorkflowChangedEvent event) {
+        log.info("Dropping cached workflow for project ID: {}", event.projectId());
+        workflows.invalidate(event.projectId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProjectOwnershipChanged(ProjectOwnershipChangedEvent event) {
+        if (event.isDeletion()) {
+            workflows.invalidate(event.projectId());
+        }
+    }
+
+    private TaskWorkflow load(Long projectId) {
+
+        List<WorkflowTransition> rows = cacheLoadTransaction.load(() -> workflowTransitionRepository.findByProjectId(projectId));
+        if (rows.isEmpty()) {
+            return TaskWorkflow.DEFAULT;
+        }
+
+        log.debug("Compiling {} workflow transitions for project ID: {}", rows.size(), projectId);
+
+        Map<TaskStatus, Set<TaskStatus>> transitions = new EnumMap<>(TaskStatus.class);
+        for (WorkflowTransition row : rows) {
+            transitions.computeIfAbsent(row.getFromStatus(), status -> EnumSet.noneOf(TaskStatus.class)).add(row.getToStatus());
+        }
+
+        return TaskWorkflow.compile(transitions);
+
+    }
+
+}
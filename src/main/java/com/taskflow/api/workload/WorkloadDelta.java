@@ -0,0 +1,75 @@
+package com.taskflow.api.workload;
+
+import com.taskflow.api.event.TaskSnapshot;
+import com.taskflow.api.model.UserWorkload;
+import com.taskflow.api.model.enums.Priority;
+import com.taskflow.api.model.enums.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Net change to one user's workload within a transaction.
+ *
+ * Counts are plain sums; due dates only remember the earliest one added and
+ * removed, which is enough to tell whether nextDueDate has to be recomputed.
+ */
+final class WorkloadDelta {
+
+    private final int[] statusCounts = new int[TaskStatus.values().length];
+    private final int[] priorityCounts = new int[Priority.values().length];
+    private long estimatedHours;
+    private LocalDateTime earliestAddedDueDate;
+    private LocalDateTime earliestRemovedDueDate;
+
+    void add(TaskSnapshot task) {
+        statusCounts[task.status().ordinal()]++;
+        priorityCounts[task.priority().ordinal()]++;
+        estimatedHours += hours(task);
+        if (task.dueDate() != null && (earliestAddedDueDate == null || task.dueDate().isBefore(earliestAddedDueDate))) {
+            earliestAddedDueDate = task.dueDate();
+        }
+    }
+
+    void remove(TaskSnapshot task) {
+        statusCounts[task.status().ordinal()]--;
+        priorityCounts[task.priority().ordinal()]--;
+        estimatedHours -= hours(task);
+        if (task.dueDate() != null && (earliestRemovedDueDate == null || task.dueDate().isBefore(earliestRemovedDueDate))) {
+            earliestRemovedDueDate = task.dueDate();
+        }
+    }
+
+    /**
+     * Applies the counts and returns whether nextDueDate is still exact; when the
+     * removed tasks included the current earliest one it has to be reloaded.
+     */
+    boolean applyTo(UserWorkload workload) {
+
+        for (TaskStatus status : TaskStatus.values()) {
+            if (statusCounts[status.ordinal()] != 0) {
+                workload.adjustCount(status, statusCounts[status.ordinal()]);
+            }
+        }
+        for (Priority priority : Priority.values()) {
+            if (priorityCounts[priority.ordinal()] != 0) {
+                workload.adjustCount(priority, priorityCounts[priority.ordinal()]);
+            }
+        }
+        workload.setEstimatedHoursRemaining(workload.getEstimatedHoursRemaining() + estimatedHours);
+
+        LocalDateTime next = workload.getNextDueDate();
+        if (earliestRemovedDueDate != null && next != null && !earliestRemovedDueDate.isAfter(next)) {
+            return false;
+        }
+        if (earliestAddedDueDate != null && (next == null || earliestAddedDueDate.isBefore(next))) {
+            workload.setNextDueDate(earliestAddedDueDate);
+        }
+        return true;
+
+    }
+
+    private static int hours(TaskSnapshot task) {
+        return task.estimatedHours() != null ? task.estimatedHours() : 0;
+    }
+
+}
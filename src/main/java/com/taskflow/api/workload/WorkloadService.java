@@ -0,0 +1,80 @@
+package com.taskflow.api.workload;
+
+import com.taskflow.api.model.UserWorkload;
+import com.taskflow.api.repository.UserWorkloadRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * "My work" summaries, read from the user_workloads row maintained by WorkloadUpdater
+ * instead of loading every task ever assigned to the user.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class WorkloadService {
+
+    private final UserWorkloadRepository workloadRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.workload.backfill-on-startup:true}")
+    private boolean backfillOnStartup;
+
+    @Transactional(readOnly = true)
+    public UserWorkload getWorkload(Long userId) {
+
+        log.debug("Getting workload for user ID: {}", userId);
+
+        // No row yet means nothing has been assigned since the user was created
+        return workloadRepository.findById(userId).orElseGet(() -> UserWorkload.empty(userId));
+
+    }
+
+    /**
+     * Creates the row of a newly registered user up front, so their first
+     * assignments only ever update it.
+     */
+    @Transactional
+    public void createWorkload(Long userId) {
+        workloadRepository.upsertAggregated(List.of(userId));
+    }
+
+    /**
+     * Recomputes every row from the tasks table, e.g. after tasks were changed with plain SQL.
+     */
+    @Transactional
+    public void rebuild() {
+
+        log.info("Rebuilding user workloads");
+
+        workloadRepository.deleteAllInBatch();
+        int created = workloadRepository.insertAllMissing();
+        log.info("Rebuilt workloads of {} users", created);
+
+    }
+
+    // Ahead of the startup listeners that read the rows (assignment.AssignmentEngine)
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void backfillOnStartup() {
+
+        if (!backfillOnStartup) {
+            return;
+        }
+
+        Integer created = transactionTemplate.execute(status -> workloadRepository.insertAllMissing());
+        log.info("Created missing workloads for {} users", created);
+
+    }
+
+}
@@ -0,0 +1,119 @@
+package com.taskflow.api.workload;
+
+import com.taskflow.api.event.TaskChangedEvent;
+import com.taskflow.api.event.TaskSnapshot;
+import com.taskflow.api.model.UserWorkload;
+import com.taskflow.api.repository.TaskRepository;
+import com.taskflow.api.repository.UserWorkloadRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Keeps user_workloads in step with task writes, inside the writing transaction.
+ *
+ * TaskChangedEvents are folded into one WorkloadDelta per affected user while
+ * the transaction runs and applied just before it commits: one locking read of
+ * the affected rows (in user ID order, so concurrent writers cannot deadlock on
+ * them) however many tasks were created or transitioned. A rollback discards the
+ * deltas together with the task writes.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WorkloadUpdater {
+
+    private final UserWorkloadRepository workloadRepository;
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            Map<Long, WorkloadDelta> deltas = new TreeMap<>();
+            collect(deltas, event);
+            transactionTemplate.executeWithoutResult(status -> apply(deltas));
+            return;
+        }
+
+        collect(pendingDeltas(), event);
+
+    }
+
+    private static void collect(Map<Long, WorkloadDelta> deltas, TaskChangedEvent event) {
+        if (counts(event.previous())) {
+            deltas.computeIfAbsent(event.previous().assigneeId(), id -> new WorkloadDelta()).remove(event.previous());
+        }
+        if (counts(event.current())) {
+            deltas.computeIfAbsent(event.current().assigneeId(), id -> new WorkloadDelta()).add(event.current());
+        }
+    }
+
+    private static boolean counts(TaskSnapshot task) {
+        return task != null && task.assigneeId() != null && task.status().isOpen();
+    }
+
+    private void apply(Map<Long, WorkloadDelta> deltas) {
+
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        log.debug("Applying workload changes for user IDs: {}", deltas.keySet());
+
+        LocalDateTime now = LocalDateTime.now();
+        Set<Long> missing = new HashSet<>(deltas.keySet());
+        for (UserWorkload workload : workloadRepository.lockByUserIds(deltas.keySet())) {
+            missing.remove(workload.getUserId());
+            if (!deltas.get(workload.getUserId()).applyTo(workload)) {
+                workload.setNextDueDate(taskRepository.findNextOpenDueDateByAssigneeId(workload.getUserId()));
+            }
+            workload.setUpdatedAt(now);
+        }
+
+        // Users registered outside UserService: their row is built from the task rows, which already include this
+        // transaction; an upsert, as a concurrent transaction may insert the same row between the lock and here
+        if (!missing.isEmpty()) {
+            workloadRepository.upsertAggregated(missing);
+        }
+
+    }
+
+    private Map<Long, WorkloadDelta> pendingDeltas() {
+        PendingDeltas pending = (PendingDeltas) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingDeltas();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        return pending.deltas;
+    }
+
+    private final class PendingDeltas implements TransactionSynchronization {
+
+        private final Map<Long, WorkloadDelta> deltas = new TreeMap<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            apply(deltas);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(WorkloadUpdater.this);
+        }
+
+    }
+
+}
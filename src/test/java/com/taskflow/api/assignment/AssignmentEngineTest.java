@@ -0,0 +1,161 @@
+package com.taskflow.api.assignment;
+
+import com.taskflow.api.model.Project;
+import com.taskflow.api.model.Task;
+import com.taskflow.api.model.User;
+import com.taskflow.api.model.enums.Priority;
+import com.taskflow.api.model.enums.Role;
+import com.taskflow.api.model.enums.TaskStatus;
+import com.taskflow.api.repository.ProjectRepository;
+import com.taskflow.api.repository.TaskRepository;
+import com.taskflow.api.repository.UserRepository;
+import com.taskflow.api.repository.UserWorkloadRepository;
+import com.taskflow.api.service.TaskService;
+import com.taskflow.api.support.TestData;
+import com.taskflow.api.workload.WorkloadService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static com.taskflow.api.support.TestData.user;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mockingDetails;
+
+@SpringBootTest(properties = {
+        "app.assignment.auto-assign-on-create=true",
+        // Keeps this context off the JVM-wide JCache manager the other test contexts share
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@ActiveProfiles("test")
+class AssignmentEngineTest {
+
+    @Autowired
+    private AssignmentEngine engine;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private WorkloadService workloadService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @SpyBean
+    private UserWorkloadRepository workloadRepository;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    private User manager;
+    private User ada;
+    private User linus;
+    private User tess;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        TestData.deleteAll(applicationContext);
+
+        manager = saveUser("manager", Role.PROJECT_MANAGER);
+        ada = saveUser("ada", Role.DEVELOPER);
+        linus = saveUser("linus", Role.DEVELOPER);
+        tess = saveUser("tess", Role.TESTER);
+        project = projectRepository.save(Project.builder().name("Sprint").user(manager).build());
+        engine.rebuild();
+    }
+
+    @Test
+    void newTasksGoToTheLeastLoadedEligibleUser() {
+        Task first = createTask("Parser", 8, TaskStatus.TODO);
+        Task second = createTask("Lexer", 3, TaskStatus.TODO);
+        Task third = createTask("Docs", 2, TaskStatus.TODO);
+        Task check = createTask("Regression run", 4, TaskStatus.TESTING);
+
+        assertThat(first.getAssignee().getId()).isEqualTo(ada.getId());
+        assertThat(second.getAssignee().getId()).isEqualTo(linus.getId());
+        assertThat(third.getAssignee().getId()).isEqualTo(linus.getId());
+        assertThat(check.getAssignee().getId()).isEqualTo(tess.getId());
+        assertThat(engine.loadOf(linus.getId())).isEqualTo(5);
+
+        // Completing work frees the user up again
+        taskService.changeTaskStatus(first.getId(), TaskStatus.CANCELLED, manager.getId());
+
+        assertThat(engine.loadOf(ada.getId())).isZero();
+        assertThat(createTask("Formatter", 1, TaskStatus.TODO).getAssignee().getId()).isEqualTo(ada.getId());
+    }
+
+    @Test
+    void backlogIsAssignedMostUrgentFirstAndBalanced() {
+        taskService.reassignTask(createTask("Ongoing", 6, TaskStatus.TODO).getId(), linus.getId(), manager.getId());
+        for (int i = 0; i < 12; i++) {
+            taskRepository.save(Task.builder().title("Backlog " + i).project(project).estimatedHours(1 + i % 4)
+                    .priority(i == 7 ? Priority.URGENT : Priority.LOW).dueDate(LocalDateTime.now().plusDays(1 + i)).build());
+        }
+        Long urgentId = taskRepository.findByProjectId(project.getId()).stream()
+                .filter(task -> task.getPriority() == Priority.URGENT).findFirst().orElseThrow().getId();
+
+        Map<Long, Long> assignments = taskService.assignBacklog(project.getId(), manager.getId());
+
+        assertThat(assignments).hasSize(12);
+        assertThat(assignments.keySet().iterator().next()).isEqualTo(urgentId);
+        assertThat(assignments.get(urgentId)).isEqualTo(ada.getId());
+        assertThat(taskRepository.findByAssigneeId(tess.getId())).isEmpty();
+
+        // Reservations are gone and only the committed assignments count, matching the maintained workloads
+        long adaHours = workloadService.getWorkload(ada.getId()).getEstimatedHoursRemaining();
+        long linusHours = workloadService.getWorkload(linus.getId()).getEstimatedHoursRemaining();
+        assertThat(engine.loadOf(ada.getId())).isEqualTo(adaHours);
+        assertThat(engine.loadOf(linus.getId())).isEqualTo(linusHours);
+        assertThat(adaHours + linusHours).isEqualTo(6 + 30);
+        assertThat(Math.abs(adaHours - linusHours)).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    void changesCommittedWhileARebuildReadsAreNotLost() {
+        Task task = createTask("Parser", 8, TaskStatus.TODO);
+        assertThat(task.getAssignee().getId()).isEqualTo(ada.getId());
+
+        // Commits after the rebuild has read the loads, before it swaps the heaps in
+        Answer<?> repository = mockingDetails(workloadRepository).getMockCreationSettings().getDefaultAnswer();
+        doAnswer(invocation -> {
+            Object loads = repository.answer(invocation);
+            taskService.reassignTask(task.getId(), linus.getId(), manager.getId());
+            return loads;
+        }).doAnswer(repository).when(workloadRepository).findAllById(any());
+
+        engine.rebuild();
+
+        assertThat(engine.loadOf(ada.getId())).isZero();
+        assertThat(engine.loadOf(linus.getId())).isEqualTo(8);
+    }
+
+    private Task createTask(String title, int estimatedHours, TaskStatus status) {
+        return taskService.createTask(Task.builder().title(title).estimatedHours(estimatedHours).status(status).build(),
+                project.getId(), manager.getId());
+    }
+
+    private User saveUser(String username, Role role) {
+        User user = userRepository.save(user(username, role));
+        workloadService.createWorkload(user.getId());
+        return user;
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.taskflow.api.assignment;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoadHeapTest {
+
+    @Test
+    void orderByHoursThenOpenTasksThenUserId() {
+        LoadHeap heap = new LoadHeap();
+        heap.put(3, 8, 2);
+        heap.put(1, 8, 3);
+        heap.put(2, 8, 2);
+
+        assertThat(heap.peek()).isEqualTo(2L);
+
+        heap.adjust(2, 1, 1);
+        assertThat(heap.peek()).isEqualTo(3L);
+
+        heap.remove(3);
+        assertThat(heap.peek()).isEqualTo(1L);
+        assertThat(heap.contains(3)).isFalse();
+        assertThat(heap.adjust(3, 1, 1)).isFalse();
+    }
+
+    @Test
+    void minimumStaysCorrectUnderRandomUpdatesAndRemovals() {
+        LoadHeap heap = new LoadHeap();
+        Map<Long, Long> loads = new HashMap<>();
+        Random random = new Random(7);
+
+        for (int step = 0; step < 20_000; step++) {
+            long userId = random.nextInt(200);
+            switch (random.nextInt(3)) {
+                case 0 -> {
+                    long hours = random.nextInt(100);
+                    heap.put(userId, hours, 0);
+                    loads.put(userId, hours);
+                }
+                case 1 -> {
+                    long hours = random.nextInt(21) - 10;
+                    if (heap.adjust(userId, hours, 0)) {
+                        loads.merge(userId, hours, Long::sum);
+                    }
+                }
+                default -> {
+                    heap.remove(userId);
+                    loads.remove(userId);
+                }
+            }
+
+            assertThat(heap.size()).isEqualTo(loads.size());
+            assertThat(heap.peek()).isEqualTo(loads.entrySet().stream()
+                    .min(Map.Entry.<Long, Long>comparingByValue().thenComparing(Map.Entry.comparingByKey()))
+                    .map(Map.Entry::getKey).orElse(null));
+        }
+    }
+
+}
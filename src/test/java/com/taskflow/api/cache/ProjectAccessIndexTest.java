@@ -0,0 +1,83 @@
+package com.taskflow.api.cache;
+
+import com.taskflow.api.event.ProjectOwnershipChangedEvent;
+import com.taskflow.api.event.UserChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProjectAccessIndexTest {
+
+    private final ProjectAccessIndex index = new ProjectAccessIndex(100, Duration.ofMinutes(10), new SimpleMeterRegistry());
+
+    @Test
+    void ownershipEventsPatchLoadedEntries() {
+        index.get(1L, id -> new ProjectAccess(false, Set.of(10L)));
+        index.get(2L, id -> new ProjectAccess(false, Set.of()));
+
+        index.onOwnershipChanged(ProjectOwnershipChangedEvent.created(11L, 1L));
+        index.onOwnershipChanged(new ProjectOwnershipChangedEvent(10L, 1L, 2L));
+
+        assertThat(access(1L).ownedProjectIds()).containsExactly(11L);
+        assertThat(access(2L).ownedProjectIds()).containsExactly(10L);
+
+        index.onOwnershipChanged(ProjectOwnershipChangedEvent.deleted(10L, 2L));
+
+        assertThat(access(2L).canAccess(10L)).isFalse();
+    }
+
+    @Test
+    void userChangedEventForcesReload() {
+        index.get(1L, id -> new ProjectAccess(false, Set.of()));
+
+        index.onUserChanged(new UserChangedEvent(1L));
+
+        assertThat(index.get(1L, id -> new ProjectAccess(true, Set.of())).canAccess(99L)).isTrue();
+    }
+
+    @Test
+    void ownershipChangeCommittedDuringALoadIsAppliedOnTopOfIt() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        // The load read the owned projects before project 11 was created
+        CompletableFuture<ProjectAccess> load = CompletableFuture.supplyAsync(() -> index.get(1L, id -> {
+            loading.countDown();
+            await(release);
+            return new ProjectAccess(false, Set.of(10L));
+        }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<Void> patch = CompletableFuture.runAsync(
+                () -> index.onOwnershipChanged(ProjectOwnershipChangedEvent.created(11L, 1L)));
+        Thread.sleep(50);
+        assertThat(patch).isNotDone();
+
+        release.countDown();
+        load.get(5, TimeUnit.SECONDS);
+        patch.get(5, TimeUnit.SECONDS);
+
+        assertThat(access(1L).ownedProjectIds()).containsExactlyInAnyOrder(10L, 11L);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private ProjectAccess access(Long userId) {
+        return index.get(userId, id -> {
+            throw new AssertionError("entry for user " + id + " should still be cached");
+        });
+    }
+
+}
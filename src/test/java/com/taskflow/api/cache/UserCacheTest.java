@@ -0,0 +1,77 @@
+package com.taskflow.api.cache;
+
+import com.taskflow.api.event.UserChangedEvent;
+import com.taskflow.api.model.enums.Role;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserCacheTest {
+
+    private final UserCache userCache = new UserCache(100, Duration.ofMinutes(10), new SimpleMeterRegistry());
+
+    @Test
+    void loadsOnceAndCountsHitsAndMisses() {
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            userCache.get(1L, id -> {
+                loads.incrementAndGet();
+                return new UserSnapshot(id, "alice", Role.DEVELOPER, true);
+            });
+        }
+
+        assertThat(loads).hasValue(1);
+        assertThat(userCache.missCount()).isEqualTo(1);
+        assertThat(userCache.hitCount()).isEqualTo(2);
+    }
+
+    @Test
+    void userChangedEventEvictsEntry() {
+        userCache.get(1L, id -> new UserSnapshot(id, "alice", Role.DEVELOPER, true));
+
+        userCache.onUserChanged(new UserChangedEvent(1L));
+
+        UserSnapshot reloaded = userCache.get(1L, id -> new UserSnapshot(id, "alice", Role.ADMIN, true));
+        assertThat(reloaded.isAdmin()).isTrue();
+    }
+
+    @Test
+    void evictionDuringALoadDropsTheLoadedSnapshot() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<UserSnapshot> load = CompletableFuture.supplyAsync(() -> userCache.get(1L, id -> {
+            loading.countDown();
+            await(release);
+            return new UserSnapshot(id, "alice", Role.DEVELOPER, true);
+        }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<Void> evict = CompletableFuture.runAsync(() -> userCache.onUserChanged(new UserChangedEvent(1L)));
+        Thread.sleep(50);
+        assertThat(evict).isNotDone();
+
+        release.countDown();
+        load.get(5, TimeUnit.SECONDS);
+        evict.get(5, TimeUnit.SECONDS);
+
+        UserSnapshot reloaded = userCache.get(1L, id -> new UserSnapshot(id, "alice", Role.ADMIN, true));
+        assertThat(reloaded.isAdmin()).isTrue();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.taskflow.api.config;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.async.AsyncLoggerConfig;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class AsyncLoggingConfigTest {
+
+    @Test
+    void applicationAndRootLoggersAreAsync() {
+        Configuration configuration = ((LoggerContext) LogManager.getContext(false)).getConfiguration();
+
+        assertThat(configuration.getRootLogger()).isInstanceOf(AsyncLoggerConfig.class);
+        assertThat(configuration.getLoggerConfig("com.taskflow.api.service.TaskService")).isInstanceOf(AsyncLoggerConfig.class);
+    }
+
+}
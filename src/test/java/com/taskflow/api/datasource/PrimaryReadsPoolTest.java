@@ -0,0 +1,51 @@
+package com.taskflow.api.datasource;
+
+import com.taskflow.api.cache.CacheLoadTransaction;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class PrimaryReadsPoolTest {
+
+    @Autowired
+    private CacheLoadTransaction cacheLoadTransaction;
+
+    @Autowired
+    private PrimaryReadsPool primaryReadsPool;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Test
+    void cacheLoadsTakeOneConnectionFromTheirOwnPool() {
+        transactionTemplate.executeWithoutResult(status -> {
+            // The caller's transaction holds its main-pool connection throughout
+            jdbc.queryForObject("SELECT 1", Integer.class);
+
+            int activeInNestedLoad = cacheLoadTransaction.load(() -> {
+                jdbc.queryForObject("SELECT 1", Integer.class);
+                return cacheLoadTransaction.load(() -> pool().getActiveConnections());
+            });
+            assertThat(activeInNestedLoad).isEqualTo(1);
+        });
+
+        assertThat(pool().getActiveConnections()).isZero();
+    }
+
+    // Started by its first connection
+    private HikariPoolMXBean pool() {
+        return primaryReadsPool.dataSource().getHikariPoolMXBean();
+    }
+
+}
@@ -0,0 +1,138 @@
+package com.taskflow.api.datasource;
+
+import com.taskflow.api.cache.CacheLoadTransaction;
+import com.taskflow.api.model.User;
+import com.taskflow.api.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.SQLException;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two in-memory H2 databases stand in for a primary and its replica. Nothing
+ * replicates between them, so which rows a read sees tells which one served it.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:taskflow_routing_primary;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "app.datasource.replica.urls=" + ReadWriteRoutingDataSourceTest.REPLICA_URL,
+        "app.datasource.replica.read-your-writes-window=1h",
+        "app.datasource.replica.health-check-interval-ms=3600000",
+        // The replica only gets its schema in setUp, after startup
+        "app.search.rebuild-on-startup=false",
+        "app.facets.rebuild-on-startup=false",
+        "app.overdue.rebuild-on-startup=false",
+        "app.assignment.rebuild-on-startup=false",
+        // Keeps this context off the JVM-wide JCache manager the other test contexts share
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@ActiveProfiles("test")
+class ReadWriteRoutingDataSourceTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:taskflow_routing_replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ReplicaPool replicaPool;
+
+    @Autowired
+    private CacheLoadTransaction cacheLoadTransaction;
+
+    @Autowired
+    private JdbcTemplate primary;
+
+    private final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    @BeforeEach
+    void setUp() {
+        // Auto-commit JDBC outside a transaction always runs on the primary and is not tracked as anyone's write
+        primary.update("DELETE FROM users");
+        replica.execute("DROP ALL OBJECTS");
+        primary.queryForList("SCRIPT NODATA", String.class).forEach(replica::execute);
+
+        insertUser(primary, "primary-only");
+        insertUser(replica, "replica-only");
+        authenticateAs("reader-" + UUID.randomUUID());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactionsAreServedByTheReplica() {
+        assertThat(userService.existsByUsername("replica-only")).isTrue();
+        assertThat(userService.existsByUsername("primary-only")).isFalse();
+    }
+
+    @Test
+    void callerReadsOwnWritesFromThePrimaryWhileOthersStayOnTheReplica() {
+        userService.registerUser(User.builder().username("carol").email("carol@example.com").password("password")
+                .firstName("Carol").lastName("User").build());
+
+        assertThat(userService.existsByUsername("carol")).isTrue();
+        assertThat(userService.existsByUsername("replica-only")).isFalse();
+
+        authenticateAs("someone-else");
+        assertThat(userService.existsByUsername("carol")).isFalse();
+    }
+
+    @Test
+    void cacheLoadsReadThePrimaryWithoutOpeningAWindow() {
+        assertThat(cacheLoadTransaction.load(() -> userService.existsByUsername("primary-only"))).isTrue();
+
+        assertThat(userService.existsByUsername("replica-only")).isTrue();
+    }
+
+    @Test
+    void backgroundWritersDoNotShareAWindow() throws Exception {
+        SecurityContextHolder.clearContext();
+        userService.registerUser(User.builder().username("dave").email("dave@example.com").password("password")
+                .firstName("Dave").lastName("User").build());
+
+        assertThat(userService.existsByUsername("dave")).isTrue();
+        assertThat(CompletableFuture.supplyAsync(() -> userService.existsByUsername("dave"), runnable -> new Thread(runnable).start())
+                .get(10, TimeUnit.SECONDS)).isFalse();
+    }
+
+    @Test
+    void unhealthyReplicaLeavesRotationUntilAHealthCheckPasses() {
+        ReplicaPool.Replica only = replicaPool.replicas().get(0);
+        replicaPool.markDown(only, new SQLException("Connection refused"));
+
+        assertThat(replicaPool.healthyCount()).isZero();
+        assertThat(userService.existsByUsername("primary-only")).isTrue();
+
+        replicaPool.checkHealth();
+
+        assertThat(only.isHealthy()).isTrue();
+        assertThat(userService.existsByUsername("replica-only")).isTrue();
+    }
+
+    private static void insertUser(JdbcTemplate jdbc, String username) {
+        jdbc.update("INSERT INTO users (username, email, password, first_name, last_name, role, is_active, created_at, updated_at) " +
+                "VALUES (?, ?, 'password', 'Test', 'User', 'DEVELOPER', TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                username, username + "@example.com");
+    }
+
+    private static void authenticateAs(String username) {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(username, null, "ROLE_USER"));
+    }
+
+}
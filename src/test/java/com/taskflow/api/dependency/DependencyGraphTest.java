@@ -0,0 +1,103 @@
+package com.taskflow.api.dependency;
+
+import com.taskflow.api.event.TaskSnapshot;
+import com.taskflow.api.model.enums.Priority;
+import com.taskflow.api.model.enums.TaskStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DependencyGraphTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 1, 9, 0);
+
+    /**
+     * 1 -> 2 -> 4 and 1 -> 3 -> 4, with 3 the longer branch; 5 stands alone.
+     */
+    private static DependencyGraph diamond() {
+        return DependencyGraph.build(
+                List.of(task(1, TaskStatus.TODO, 2, null),
+                        task(2, TaskStatus.TODO, 1, null),
+                        task(3, TaskStatus.IN_PROGRESS, 5, NOW.plusHours(4)),
+                        task(4, TaskStatus.TODO, 3, NOW.plusDays(1)),
+                        task(5, TaskStatus.TODO, 1, null)),
+                List.of(edge(1, 2), edge(1, 3), edge(2, 4), edge(3, 4)));
+    }
+
+    @Test
+    void criticalPathFollowsTheLongestChainOfOpenWork() {
+        CriticalPath path = diamond().criticalPath(NOW);
+
+        assertThat(path.taskIds()).containsExactly(1L, 3L, 4L);
+        assertThat(path.totalHours()).isEqualTo(10);
+        assertThat(path.projectedFinish()).isEqualTo(NOW.plusHours(10));
+        assertThat(path.lateTaskIds()).containsExactly(3L);
+    }
+
+    @Test
+    void finishedBlockersReleaseTheirTasks() {
+        DependencyGraph graph = diamond();
+        assertThat(graph.unblockedTaskIds()).containsExactly(1L, 5L);
+
+        graph.update(task(1, TaskStatus.DONE, 2, null));
+        assertThat(graph.unblockedTaskIds()).containsExactly(2L, 3L, 5L);
+
+        graph.update(task(2, TaskStatus.DONE, 1, null));
+        graph.update(task(3, TaskStatus.CANCELLED, 5, null));
+        assertThat(graph.unblockedTaskIds()).containsExactly(4L, 5L);
+        assertThat(graph.criticalPath(NOW).totalHours()).isEqualTo(3);
+    }
+
+    @Test
+    void reachabilityDetectsTheLinkThatWouldCloseACycle() {
+        DependencyGraph graph = diamond();
+
+        assertThat(graph.reaches(1L, 4L)).isTrue();
+        assertThat(graph.reaches(4L, 1L)).isFalse();
+        assertThat(graph.reaches(2L, 3L)).isFalse();
+
+        DependencyGraph linked = graph.withEdge(4L, 5L);
+        assertThat(linked.reaches(1L, 5L)).isTrue();
+        assertThat(graph.reaches(1L, 5L)).isFalse();
+        assertThat(linked.withoutEdge(3L, 4L).withoutEdge(2L, 4L).reaches(1L, 5L)).isFalse();
+        assertThat(graph.withEdge(4L, 99L)).isNull();
+
+        DependencyGraph links = DependencyGraph.ofLinks(List.of(new DependencyEdge(7L, 3L), new DependencyEdge(3L, 9L)));
+        assertThat(links.reaches(7L, 9L)).isTrue();
+        assertThat(links.reaches(9L, 7L)).isFalse();
+    }
+
+    @Test
+    void longChainsAreWalkedWithoutRecursion() {
+        int n = 100_000;
+        List<TaskSnapshot> tasks = new ArrayList<>(n);
+        List<DependencyEdge> edges = new ArrayList<>(n);
+        for (int i = 1; i <= n; i++) {
+            tasks.add(task(i, TaskStatus.TODO, 1, null));
+            if (i > 1) {
+                edges.add(edge(i - 1, i));
+            }
+        }
+
+        DependencyGraph graph = DependencyGraph.build(tasks, edges);
+
+        assertThat(graph.reaches(1L, (long) n)).isTrue();
+        assertThat(graph.unblockedTaskIds()).containsExactly(1L);
+        CriticalPath path = graph.criticalPath(NOW);
+        assertThat(path.taskIds()).hasSize(n);
+        assertThat(path.totalHours()).isEqualTo(n);
+    }
+
+    private static TaskSnapshot task(long id, TaskStatus status, int estimatedHours, LocalDateTime dueDate) {
+        return new TaskSnapshot(id, 10L, null, status, Priority.MEDIUM, dueDate, estimatedHours, null);
+    }
+
+    private static DependencyEdge edge(long blockerTaskId, long blockedTaskId) {
+        return new DependencyEdge(blockerTaskId, blockedTaskId);
+    }
+
+}
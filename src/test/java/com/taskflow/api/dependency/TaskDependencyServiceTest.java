@@ -0,0 +1,146 @@
+package com.taskflow.api.dependency;
+
+import com.taskflow.api.exception.BadRequestException;
+import com.taskflow.api.model.Project;
+import com.taskflow.api.model.Task;
+import com.taskflow.api.model.TaskDependency;
+import com.taskflow.api.model.User;
+import com.taskflow.api.model.enums.TaskStatus;
+import com.taskflow.api.repository.ProjectRepository;
+import com.taskflow.api.repository.TaskDependencyRepository;
+import com.taskflow.api.repository.UserRepository;
+import com.taskflow.api.service.ProjectService;
+import com.taskflow.api.service.TaskService;
+import com.taskflow.api.support.TestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import static com.taskflow.api.support.TestData.user;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class TaskDependencyServiceTest {
+
+    @Autowired
+    private TaskDependencyService dependencyService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskDependencyRepository dependencyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    private User owner;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        TestData.deleteAll(applicationContext);
+
+        owner = userRepository.save(user("owner"));
+        project = projectRepository.save(Project.builder().name("Sprint").user(owner).build());
+    }
+
+    @Test
+    void linksThatWouldCloseACycleAreRejected() {
+        Task design = createTask("Design", 4);
+        Task build = createTask("Build", 8);
+        Task ship = createTask("Ship", 1);
+
+        dependencyService.addDependency(design.getId(), build.getId(), owner.getId());
+        dependencyService.addDependency(build.getId(), ship.getId(), owner.getId());
+
+        assertThatThrownBy(() -> dependencyService.addDependency(ship.getId(), design.getId(), owner.getId()))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("cycle");
+        assertThatThrownBy(() -> dependencyService.addDependency(design.getId(), build.getId(), owner.getId()))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> dependencyService.addDependency(ship.getId(), ship.getId(), owner.getId()))
+                .isInstanceOf(BadRequestException.class);
+
+        // Once the path is broken the reverse link is fine
+        dependencyService.removeDependency(build.getId(), ship.getId(), owner.getId());
+        dependencyService.addDependency(ship.getId(), design.getId(), owner.getId());
+        assertThat(dependencyRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void cycleCheckSeesLinksTheCachedGraphHasNotCaughtUpWith() {
+        Task design = createTask("Design", 4);
+        Task build = createTask("Build", 8);
+        assertThat(dependencyService.findUnblockedTaskIds(project.getId(), owner.getId())).contains(build.getId());
+
+        // Committed without an event, like a concurrent writer whose after-commit patch has not run yet
+        dependencyRepository.save(TaskDependency.builder()
+                .projectId(project.getId()).blockerTaskId(design.getId()).blockedTaskId(build.getId()).build());
+
+        assertThatThrownBy(() -> dependencyService.addDependency(build.getId(), design.getId(), owner.getId()))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("cycle");
+    }
+
+    @Test
+    void unblockedTasksAndCriticalPathFollowCommittedChanges() {
+        Task design = createTask("Design", 4);
+        Task build = createTask("Build", 8);
+        Task docs = createTask("Docs", 2);
+        Task ship = createTask("Ship", 1);
+        dependencyService.addDependency(design.getId(), build.getId(), owner.getId());
+        dependencyService.addDependency(design.getId(), docs.getId(), owner.getId());
+        dependencyService.addDependency(build.getId(), ship.getId(), owner.getId());
+        dependencyService.addDependency(docs.getId(), ship.getId(), owner.getId());
+
+        assertThat(dependencyService.findUnblockedTaskIds(project.getId(), owner.getId())).containsExactly(design.getId());
+        CriticalPath path = dependencyService.getCriticalPath(project.getId(), owner.getId());
+        assertThat(path.taskIds()).containsExactly(design.getId(), build.getId(), ship.getId());
+        assertThat(path.totalHours()).isEqualTo(13);
+
+        taskService.changeTaskStatus(design.getId(), TaskStatus.CANCELLED, owner.getId());
+
+        assertThat(dependencyService.findUnblockedTaskIds(project.getId(), owner.getId())).containsExactly(build.getId(), docs.getId());
+        assertThat(dependencyService.getCriticalPath(project.getId(), owner.getId()).totalHours()).isEqualTo(9);
+
+        // A new task changes the node set and is picked up on the next read
+        Task review = createTask("Review", 3);
+        assertThat(dependencyService.findUnblockedTaskIds(project.getId(), owner.getId())).contains(review.getId());
+    }
+
+    @Test
+    void linksStayWithinOneProject() {
+        Project other = projectRepository.save(Project.builder().name("Other").user(owner).build());
+        Task here = createTask("Here", 1);
+        Task there = taskService.createTask(Task.builder().title("There").build(), other.getId(), owner.getId());
+
+        assertThatThrownBy(() -> dependencyService.addDependency(here.getId(), there.getId(), owner.getId()))
+                .isInstanceOf(BadRequestException.class);
+
+        dependencyService.addDependency(here.getId(), createTask("Next", 1).getId(), owner.getId());
+        projectService.deleteProject(project.getId());
+
+        assertThat(dependencyRepository.count()).isZero();
+    }
+
+    private Task createTask(String title, int estimatedHours) {
+        return taskService.createTask(Task.builder().title(title).estimatedHours(estimatedHours).build(),
+                project.getId(), owner.getId());
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.taskflow.api.exception;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DomainExceptionTest {
+
+    private final boolean initialSetting = DomainException.isCapturingStackTraces();
+
+    @AfterEach
+    void restoreSetting() {
+        DomainException.setCaptureStackTraces(initialSetting);
+    }
+
+    @Test
+    void stackTracesAreOnlyCapturedWhenEnabled() {
+        DomainException.setCaptureStackTraces(false);
+        assertThat(new ResourceNotFoundException("Task not found").getStackTrace()).isEmpty();
+
+        DomainException.setCaptureStackTraces(true);
+        assertThat(new UnauthorizedException("No access").getStackTrace()).isNotEmpty();
+    }
+
+    @Test
+    void handlerRendersStatusAndMessage() {
+        ResponseEntity<GlobalExceptionHandler.ErrorResponse> response =
+                new GlobalExceptionHandler().handleResourceNotFound(new ResourceNotFoundException("Task not found with ID: 7"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(response.getBody().getStatus()).isEqualTo(404);
+        assertThat(response.getBody().getError()).isEqualTo("Resource Not Found");
+        assertThat(response.getBody().getMessage()).isEqualTo("Task not found with ID: 7");
+        assertThat(response.getBody().getTimestamp()).isNotNull();
+    }
+
+}
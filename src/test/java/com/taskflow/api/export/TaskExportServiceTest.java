@@ -0,0 +1,94 @@
+package com.taskflow.api.export;
+
+import com.taskflow.api.model.Comment;
+import com.taskflow.api.model.Project;
+import com.taskflow.api.model.Task;
+import com.taskflow.api.model.User;
+import com.taskflow.api.repository.CommentRepository;
+import com.taskflow.api.repository.ProjectRepository;
+import com.taskflow.api.repository.TaskRepository;
+import com.taskflow.api.repository.UserRepository;
+import com.taskflow.api.support.TestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.StringWriter;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "app.export.chunk-size=2")
+@ActiveProfiles("test")
+class TaskExportServiceTest {
+
+    @Autowired
+    private TaskExportService taskExportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    private User owner;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        TestData.deleteAll(applicationContext);
+
+        owner = userRepository.save(User.builder()
+                .username("exporter").email("exporter@example.com").password("password")
+                .firstName("Ex").lastName("Porter").build());
+        project = projectRepository.save(Project.builder().name("Export").user(owner).build());
+
+        Task first = taskRepository.save(Task.builder().title("First, task").project(project).assignee(owner).build());
+        Task second = taskRepository.save(Task.builder().title("Second").project(project).build());
+        taskRepository.save(Task.builder().title("Third").project(project).build());
+
+        commentRepository.saveAll(List.of(
+                Comment.builder().content("Looks \"good\"").task(first).author(owner).build(),
+                Comment.builder().content("Ship it").task(first).author(owner).build(),
+                Comment.builder().content("Blocked").task(second).author(owner).build()));
+    }
+
+    @Test
+    void ndjsonHasOneLinePerTaskWithNestedComments() {
+        StringWriter out = new StringWriter();
+
+        long exported = taskExportService.exportProject(project.getId(), owner.getId(), ExportFormat.NDJSON, out);
+
+        List<String> lines = out.toString().lines().toList();
+        assertThat(exported).isEqualTo(3);
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0)).contains("\"title\":\"First, task\"", "Ship it", "\"assignee\":\"exporter\"");
+        assertThat(lines.get(1)).contains("Blocked");
+        assertThat(lines.get(2)).contains("\"comments\":[]");
+    }
+
+    @Test
+    void csvHasOneRowPerCommentAndQuotesSpecialCharacters() {
+        StringWriter out = new StringWriter();
+
+        taskExportService.exportProject(project.getId(), owner.getId(), ExportFormat.CSV, out);
+
+        List<String> lines = out.toString().lines().toList();
+        assertThat(lines).hasSize(1 + 4);
+        assertThat(lines.get(0)).startsWith("task_id,title");
+        assertThat(lines.get(1)).contains("\"First, task\"", "\"Looks \"\"good\"\"\"");
+    }
+
+}
@@ -0,0 +1,104 @@
+package com.taskflow.api.facet;
+
+import com.taskflow.api.cache.ProjectAccessIndex;
+import com.taskflow.api.model.Project;
+import com.taskflow.api.model.Task;
+import com.taskflow.api.model.User;
+import com.taskflow.api.model.enums.Priority;
+import com.taskflow.api.model.enums.TaskStatus;
+import com.taskflow.api.repository.ProjectRepository;
+import com.taskflow.api.repository.TaskRepository;
+import com.taskflow.api.repository.UserRepository;
+import com.taskflow.api.service.TaskService;
+import com.taskflow.api.support.TestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static com.taskflow.api.facet.TaskFilter.and;
+import static com.taskflow.api.facet.TaskFilter.inProgress;
+import static com.taskflow.api.facet.TaskFilter.priority;
+import static com.taskflow.api.facet.TaskFilter.status;
+import static com.taskflow.api.facet.TaskFilter.unassigned;
+import static com.taskflow.api.support.TestData.user;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class TaskFacetServiceTest {
+
+    @Autowired
+    private TaskFacetService facetService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectAccessIndex projectAccessIndex;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    private User owner;
+    private User stranger;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        TestData.deleteAll(applicationContext);
+        facetService.rebuild();
+        // Another test context recreating the schema restarts the IDs, so drop access entries of earlier users
+        projectAccessIndex.clear();
+
+        owner = userRepository.save(user("owner"));
+        stranger = userRepository.save(user("stranger"));
+        project = projectRepository.save(Project.builder().name("Sprint").user(owner).build());
+    }
+
+    @Test
+    void committedWritesAreFilterableAndPagedById() {
+        List<Long> ids = taskService.createTasks(List.of(
+                Task.builder().title("One").priority(Priority.HIGH).build(),
+                Task.builder().title("Two").priority(Priority.HIGH).build(),
+                Task.builder().title("Three").priority(Priority.HIGH).build(),
+                Task.builder().title("Low").priority(Priority.LOW).build()), project.getId(), owner.getId());
+        ids.subList(0, 3).forEach(id -> taskService.changeTaskStatus(id, TaskStatus.IN_PROGRESS, owner.getId()));
+
+        TaskFilter filter = and(inProgress(), priority(Priority.HIGH), unassigned());
+        FacetPage<Task> first = facetService.filterTasks(filter, owner.getId(), null, 2);
+        FacetPage<Task> second = facetService.filterTasks(filter, owner.getId(), first.nextAfterId(), 2);
+
+        assertThat(first.items()).extracting(Task::getId).containsExactly(ids.get(0), ids.get(1));
+        assertThat(first.totalMatches()).isEqualTo(3);
+        assertThat(second.items()).extracting(Task::getId).containsExactly(ids.get(2));
+        assertThat(second.hasNext()).isFalse();
+        assertThat(facetService.countTasks(status(TaskStatus.TODO), owner.getId())).isEqualTo(1);
+        assertThat(facetService.countTasks(filter, stranger.getId())).isZero();
+    }
+
+    @Test
+    void rebuildRestoresIndexFromDatabase() {
+        Task task = taskRepository.save(Task.builder().title("Imported directly").project(project).build());
+        assertThat(facetService.countTasks(unassigned(), owner.getId())).isZero();
+
+        facetService.rebuild();
+
+        assertThat(facetService.filterTasks(unassigned(), owner.getId(), null, 10).items())
+                .extracting(Task::getId).containsExactly(task.getId());
+    }
+
+}
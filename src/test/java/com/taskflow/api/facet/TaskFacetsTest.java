@@ -0,0 +1,86 @@
+package com.taskflow.api.facet;
+
+import com.taskflow.api.cache.ProjectAccess;
+import com.taskflow.api.event.TaskSnapshot;
+import com.taskflow.api.model.enums.Priority;
+import com.taskflow.api.model.enums.TaskStatus;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+
+import java.util.Set;
+
+import static com.taskflow.api.facet.TaskFilter.and;
+import static com.taskflow.api.facet.TaskFilter.assignee;
+import static com.taskflow.api.facet.TaskFilter.inProgress;
+import static com.taskflow.api.facet.TaskFilter.not;
+import static com.taskflow.api.facet.TaskFilter.or;
+import static com.taskflow.api.facet.TaskFilter.priority;
+import static com.taskflow.api.facet.TaskFilter.project;
+import static com.taskflow.api.facet.TaskFilter.status;
+import static com.taskflow.api.facet.TaskFilter.unassigned;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskFacetsTest {
+
+    private static final ProjectAccess ADMIN = new ProjectAccess(true, Set.of());
+
+    @Test
+    void combinesFacetsWithAndOrNot() {
+        TaskFacets facets = new TaskFacets();
+        facets.apply(null, task(1L, 10L, 100L, TaskStatus.IN_PROGRESS, Priority.HIGH));
+        facets.apply(null, task(2L, 10L, null, TaskStatus.TODO, Priority.URGENT));
+        facets.apply(null, task(3L, 20L, 100L, TaskStatus.TESTING, Priority.LOW));
+        facets.apply(null, task(4L, 20L, 200L, TaskStatus.DONE, Priority.HIGH));
+
+        assertThat(ids(facets.evaluate(and(inProgress(), priority(Priority.HIGH, Priority.URGENT))))).containsExactly(1L);
+        assertThat(ids(facets.evaluate(or(unassigned(), assignee(200L))))).containsExactly(2L, 4L);
+        assertThat(ids(facets.evaluate(and(project(20L), not(status(TaskStatus.DONE)))))).containsExactly(3L);
+        assertThat(ids(facets.evaluate(assignee(999L)))).isEmpty();
+    }
+
+    @Test
+    void updatesMoveTasksBetweenBitmaps() {
+        TaskFacets facets = new TaskFacets();
+        TaskSnapshot todo = task(1L, 10L, null, TaskStatus.TODO, Priority.MEDIUM);
+        facets.apply(null, todo);
+
+        TaskSnapshot started = task(1L, 10L, 100L, TaskStatus.IN_PROGRESS, Priority.MEDIUM);
+        facets.apply(todo, started);
+
+        assertThat(ids(facets.evaluate(status(TaskStatus.TODO)))).isEmpty();
+        assertThat(ids(facets.evaluate(unassigned()))).isEmpty();
+        assertThat(ids(facets.evaluate(and(inProgress(), assignee(100L))))).containsExactly(1L);
+
+        facets.apply(started, null);
+
+        assertThat(facets.size()).isZero();
+        assertThat(ids(facets.evaluate(assignee(100L)))).isEmpty();
+    }
+
+    @Test
+    void restrictsToAccessibleProjectsAndDropsDeletedProjects() {
+        TaskFacets facets = new TaskFacets();
+        facets.apply(null, task(1L, 10L, 100L, TaskStatus.TODO, Priority.MEDIUM));
+        facets.apply(null, task(2L, 20L, 100L, TaskStatus.TODO, Priority.MEDIUM));
+
+        Roaring64Bitmap matches = facets.evaluate(assignee(100L));
+        facets.restrictTo(matches, new ProjectAccess(false, Set.of(20L)));
+        assertThat(ids(matches)).containsExactly(2L);
+
+        facets.removeProject(20L);
+
+        Roaring64Bitmap remaining = facets.evaluate(status(TaskStatus.TODO));
+        facets.restrictTo(remaining, ADMIN);
+        assertThat(ids(remaining)).containsExactly(1L);
+        assertThat(facets.size()).isEqualTo(1);
+    }
+
+    private static TaskSnapshot task(Long id, Long projectId, Long assigneeId, TaskStatus status, Priority priority) {
+        return new TaskSnapshot(id, projectId, assigneeId, status, priority, null, null, null);
+    }
+
+    private static long[] ids(Roaring64Bitmap bitmap) {
+        return bitmap.toArray();
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.taskflow.api.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RebuildableIndexTest {
+
+    private final RebuildableIndex<Map<Long, String>> index =
+            new RebuildableIndex<>("Test index", TreeMap::new, rebuilt -> rebuilt.size() + " entries");
+
+    @Test
+    void writesMadeDuringARebuildAreReplayedOntoTheRebuiltInstance() {
+        index.apply(entries -> entries.put(1L, "stale"));
+
+        index.rebuild(rebuilt -> {
+            rebuilt.put(2L, "loaded");
+            // Committed while the loader runs: the live instance sees it at once
+            index.apply(entries -> entries.put(3L, "written"));
+            String written = index.read(entries -> entries.get(3L));
+            String removed = index.applyAndGet(entries -> entries.remove(1L));
+            assertThat(written).isEqualTo("written");
+            assertThat(removed).isEqualTo("stale");
+        });
+
+        Map<Long, String> entries = index.read(TreeMap::new);
+        assertThat(entries).containsExactly(Map.entry(2L, "loaded"), Map.entry(3L, "written"));
+    }
+
+    @Test
+    void failedRebuildKeepsTheLiveInstanceAndAllowsAnother() {
+        index.apply(entries -> entries.put(1L, "live"));
+
+        assertThatThrownBy(() -> index.rebuild(rebuilt -> {
+            assertThatThrownBy(() -> index.rebuild(nested -> { }))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("Test index rebuild already in progress");
+            throw new IllegalArgumentException("load failed");
+        })).hasMessage("load failed");
+        String live = index.read(entries -> entries.get(1L));
+        assertThat(live).isEqualTo("live");
+
+        index.rebuild(rebuilt -> rebuilt.put(2L, "loaded"));
+        Set<Long> keys = index.read(entries -> Set.copyOf(entries.keySet()));
+        assertThat(keys).containsExactly(2L);
+    }
+
+}
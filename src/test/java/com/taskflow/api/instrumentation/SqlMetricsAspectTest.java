@@ -0,0 +1,106 @@
+package com.taskflow.api.instrumentation;
+
+import com.taskflow.api.model.Project;
+import com.taskflow.api.model.Task;
+import com.taskflow.api.model.User;
+import com.taskflow.api.repository.ProjectRepository;
+import com.taskflow.api.repository.TaskRepository;
+import com.taskflow.api.repository.UserRepository;
+import com.taskflow.api.service.ProjectService;
+import com.taskflow.api.support.TestData;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import static com.taskflow.api.support.TestData.user;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SqlMetricsAspectTest {
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        TestData.deleteAll(applicationContext);
+
+        owner = userRepository.save(user("owner"));
+        for (int i = 0; i < 3; i++) {
+            Project project = projectRepository.save(Project.builder().name("Project " + i).user(owner).build());
+            taskRepository.save(Task.builder().title("Task " + i).project(project).build());
+        }
+    }
+
+    @Test
+    void recordsStatementsRowsAndJdbcTimePerServiceMethod() {
+        projectService.findProjectsWithTasks(owner.getId());
+
+        DistributionSummary statements = statements("findProjectsWithTasks(Long)");
+        DistributionSummary rows = meterRegistry.find("service.sql.rows")
+                .tags("class", "ProjectService", "method", "findProjectsWithTasks(Long)").summary();
+        Timer jdbcTime = meterRegistry.find("service.sql.jdbc.time")
+                .tags("class", "ProjectService", "method", "findProjectsWithTasks(Long)").timer();
+
+        assertThat(statements).isNotNull();
+        assertThat(statements.count()).isEqualTo(1);
+        assertThat(statements.totalAmount()).isEqualTo(1);
+        assertThat(rows.totalAmount()).isEqualTo(3);
+        assertThat(jdbcTime.totalTime(TimeUnit.NANOSECONDS)).isPositive();
+    }
+
+    @Test
+    void callsServedFromCachesAreRecordedWithZeroStatements() {
+        Long projectId = projectRepository.findByUser(owner).get(0).getId();
+        projectService.requireProjectAccess(projectId, owner.getId());
+        double before = statements("requireProjectAccess(Long,Long)").totalAmount();
+
+        projectService.requireProjectAccess(projectId, owner.getId());
+
+        DistributionSummary statements = statements("requireProjectAccess(Long,Long)");
+        assertThat(statements.count()).isGreaterThanOrEqualTo(2);
+        assertThat(statements.totalAmount()).isEqualTo(before);
+    }
+
+    @Test
+    void overloadsAreRecordedSeparately() {
+        LocalDateTime since = LocalDateTime.now().minusDays(1);
+        projectService.findProjectsCreatedAfter(since);
+        projectService.findProjectsCreatedAfter(since, null, 10);
+
+        assertThat(statements("findProjectsCreatedAfter(LocalDateTime)")).isNotNull();
+        assertThat(statements("findProjectsCreatedAfter(LocalDateTime,String,int)")).isNotNull();
+    }
+
+    private DistributionSummary statements(String method) {
+        return meterRegistry.find("service.sql.statements").tags("class", "ProjectService", "method", method).summary();
+    }
+
+}
@@ -0,0 +1,99 @@
+package com.taskflow.api.overdue;
+
+import com.taskflow.api.event.TaskOverdueEvent;
+import com.taskflow.api.model.Project;
+import com.taskflow.api.model.Task;
+import com.taskflow.api.model.User;
+import com.taskflow.api.model.enums.TaskStatus;
+import com.taskflow.api.repository.ProjectRepository;
+import com.taskflow.api.repository.TaskRepository;
+import com.taskflow.api.repository.UserRepository;
+import com.taskflow.api.service.TaskService;
+import com.taskflow.api.support.TestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.time.LocalDateTime;
+
+import static com.taskflow.api.support.TestData.user;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@RecordApplicationEvents
+class OverdueTaskServiceTest {
+
+    @Autowired
+    private OverdueTaskService overdueService;
+
+    @Autowired
+    private OverdueTaskEngine engine;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    private User owner;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        TestData.deleteAll(applicationContext);
+        overdueService.rebuild();
+
+        owner = userRepository.save(user("owner"));
+        project = projectRepository.save(Project.builder().name("Sprint").user(owner).build());
+    }
+
+    @Test
+    void passedDeadlinesPublishEventsAndLeaveOnCompletion() {
+        Task task = taskService.createTask(Task.builder().title("Renew domain").assignee(owner)
+                .dueDate(LocalDateTime.now().plusHours(1)).build(), project.getId(), owner.getId());
+        assertThat(overdueService.countOverdueProjectTasks(project.getId(), owner.getId())).isZero();
+
+        engine.advance(LocalDateTime.now().plusHours(2));
+
+        assertThat(events.stream(TaskOverdueEvent.class)).extracting(event -> event.task().id()).containsExactly(task.getId());
+        assertThat(overdueService.findOverdueProjectTasks(project.getId(), owner.getId())).extracting(Task::getId).containsExactly(task.getId());
+        assertThat(overdueService.findOverdueAssignedTaskIds(owner.getId())).containsExactly(task.getId());
+
+        for (TaskStatus status : new TaskStatus[]{TaskStatus.IN_PROGRESS, TaskStatus.IN_REVIEW, TaskStatus.TESTING, TaskStatus.DONE}) {
+            taskService.changeTaskStatus(task.getId(), status, owner.getId());
+        }
+
+        assertThat(overdueService.countOverdueProjectTasks(project.getId(), owner.getId())).isZero();
+        assertThat(overdueService.countOverdueAssignedTasks(owner.getId())).isZero();
+    }
+
+    @Test
+    void rebuildLoadsAlreadyOverdueTasksWithoutEvents() {
+        Task task = taskRepository.save(Task.builder().title("Imported late").project(project)
+                .dueDate(LocalDateTime.now().minusDays(1)).build());
+
+        overdueService.rebuild();
+
+        assertThat(overdueService.findOverdueProjectTaskIds(project.getId(), owner.getId())).containsExactly(task.getId());
+        assertThat(events.stream(TaskOverdueEvent.class)).isEmpty();
+    }
+
+}
@@ -0,0 +1,73 @@
+package com.taskflow.api.overdue;
+
+import com.taskflow.api.event.TaskSnapshot;
+import com.taskflow.api.model.enums.Priority;
+import com.taskflow.api.model.enums.TaskStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OverdueTrackerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 1, 12, 0);
+
+    @Test
+    void firesDeadlinesInDueDateOrderAndGroupsOverdueTasks() {
+        OverdueTracker tracker = new OverdueTracker();
+        tracker.apply(null, task(1L, 10L, 100L, TaskStatus.TODO, NOW.plusHours(2)), NOW);
+        tracker.apply(null, task(2L, 10L, null, TaskStatus.IN_PROGRESS, NOW.plusHours(1)), NOW);
+        tracker.apply(null, task(3L, 20L, 100L, TaskStatus.TODO, NOW.plusDays(1)), NOW);
+        tracker.apply(null, task(4L, 20L, 100L, TaskStatus.DONE, NOW.plusMinutes(1)), NOW);
+
+        assertThat(tracker.advance(NOW.plusMinutes(90))).extracting(TaskSnapshot::id).containsExactly(2L);
+        assertThat(tracker.advance(NOW.plusHours(3))).extracting(TaskSnapshot::id).containsExactly(1L);
+        assertThat(tracker.advance(NOW.plusHours(3))).isEmpty();
+
+        assertThat(tracker.overdueInProject(10L)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(tracker.overdueCountInProject(20L)).isZero();
+        assertThat(tracker.overdueForAssignee(100L)).containsExactly(1L);
+        assertThat(tracker.pendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    void dueDateAndStatusChangesRescheduleOrClearTasks() {
+        OverdueTracker tracker = new OverdueTracker();
+        TaskSnapshot original = task(1L, 10L, 100L, TaskStatus.TODO, NOW.plusHours(1));
+        tracker.apply(null, original, NOW);
+
+        TaskSnapshot postponed = task(1L, 10L, 100L, TaskStatus.TODO, NOW.plusDays(2));
+        tracker.apply(original, postponed, NOW);
+        assertThat(tracker.advance(NOW.plusHours(2))).isEmpty();
+
+        assertThat(tracker.advance(NOW.plusDays(3))).extracting(TaskSnapshot::id).containsExactly(1L);
+        assertThat(tracker.overdueCountForAssignee(100L)).isEqualTo(1);
+
+        TaskSnapshot reviewed = postponed.withStatus(TaskStatus.IN_REVIEW);
+        assertThat(tracker.apply(postponed, reviewed, NOW.plusDays(3))).isNull();
+        assertThat(tracker.overdueCountInProject(10L)).isEqualTo(1);
+
+        tracker.apply(reviewed, reviewed.withStatus(TaskStatus.DONE), NOW.plusDays(3));
+        assertThat(tracker.overdueCount()).isZero();
+        assertThat(tracker.overdueForAssignee(100L)).isEmpty();
+    }
+
+    @Test
+    void projectDeletionDropsPendingAndOverdueTasks() {
+        OverdueTracker tracker = new OverdueTracker();
+        tracker.apply(null, task(1L, 10L, 100L, TaskStatus.TODO, NOW.minusHours(1)), NOW);
+        tracker.apply(null, task(2L, 10L, 100L, TaskStatus.TODO, NOW.plusHours(1)), NOW);
+
+        tracker.removeProject(10L);
+
+        assertThat(tracker.overdueInProject(10L)).isEmpty();
+        assertThat(tracker.overdueForAssignee(100L)).isEmpty();
+        assertThat(tracker.advance(NOW.plusDays(1))).isEmpty();
+    }
+
+    private static TaskSnapshot task(Long id, Long projectId, Long assigneeId, TaskStatus status, LocalDateTime dueDate) {
+        return new TaskSnapshot(id, projectId, assigneeId, status, Priority.MEDIUM, dueDate, null, null);
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.taskflow.api.pagination;
+
+import com.taskflow.api.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorTest {
+
+    @Test
+    void tokenRoundTrips() {
+        Cursor cursor = new Cursor(LocalDateTime.of(2025, 3, 4, 5, 6, 7, 890_000_000), 42L);
+
+        assertThat(Cursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void blankTokenMeansFirstPage() {
+        assertThat(Cursor.decode(null)).isEqualTo(Cursor.START);
+        assertThat(Cursor.decode(" ")).isEqualTo(Cursor.START);
+    }
+
+    @Test
+    void malformedTokenIsBadRequest() {
+        assertThatThrownBy(() -> Cursor.decode("not-a-cursor")).isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void extraRowProducesNextCursorFromLastItem() {
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+        List<Cursor> rows = List.of(new Cursor(base, 1L), new Cursor(base, 2L), new Cursor(base, 3L));
+
+        CursorPage<Cursor> page = CursorPage.of(rows, 2, row -> row);
+
+        assertThat(page.items()).hasSize(2);
+        assertThat(Cursor.decode(page.nextCursor())).isEqualTo(new Cursor(base, 2L));
+        assertThat(CursorPage.of(rows, 3, row -> row).hasNext()).isFalse();
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.taskflow.api.search;
+
+import com.taskflow.api.cache.ProjectAccess;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvertedIndexTest {
+
+    private static final ProjectAccess ADMIN = new ProjectAccess(true, Set.of());
+
+    @Test
+    void titleMatchesOutrankDescriptionAndCommentMatches() {
+        InvertedIndex index = new InvertedIndex();
+        index.upsertTask(1L, 10L, "Release checklist", "Prepare the deployment");
+        index.upsertTask(2L, 10L, "Update docs", "Mention the deployment window");
+        index.upsertTask(3L, 10L, "Fix login", null);
+        index.upsertComment(100L, 3L, 10L, "Blocks the deployment");
+
+        assertThat(index.search(List.of("release"), ADMIN, 10)).extracting(TaskSearchHit::taskId).containsExactly(1L);
+        assertThat(index.search(List.of("deployment", "checklist"), ADMIN, 10)).extracting(TaskSearchHit::taskId)
+                .startsWith(1L)
+                .containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
+    @Test
+    void onlyReturnsTasksInAccessibleProjects() {
+        InvertedIndex index = new InvertedIndex();
+        index.upsertTask(1L, 10L, "Database migration", null);
+        index.upsertTask(2L, 20L, "Database backup", null);
+
+        assertThat(index.search(List.of("database"), new ProjectAccess(false, Set.of(20L)), 10))
+                .extracting(TaskSearchHit::taskId).containsExactly(2L);
+    }
+
+    @Test
+    void rewritesDropStaleTermsAndProjectDeletionDropsTasks() {
+        InvertedIndex index = new InvertedIndex();
+        index.upsertTask(1L, 10L, "Old title", null);
+        index.upsertTask(1L, 10L, "New title", null);
+        index.upsertTask(2L, 20L, "Other title", null);
+
+        assertThat(index.search(List.of("old"), ADMIN, 10)).isEmpty();
+        assertThat(index.search(List.of("new"), ADMIN, 10)).extracting(TaskSearchHit::taskId).containsExactly(1L);
+
+        index.removeProject(10L);
+
+        assertThat(index.search(List.of("title"), ADMIN, 10)).extracting(TaskSearchHit::taskId).containsExactly(2L);
+        assertThat(index.termCount()).isEqualTo(2);
+    }
+
+}
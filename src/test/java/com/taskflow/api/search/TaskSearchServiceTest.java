@@ -0,0 +1,82 @@
+package com.taskflow.api.search;
+
+import com.taskflow.api.model.Comment;
+import com.taskflow.api.model.Project;
+import com.taskflow.api.model.Task;
+import com.taskflow.api.model.User;
+import com.taskflow.api.repository.ProjectRepository;
+import com.taskflow.api.repository.TaskRepository;
+import com.taskflow.api.repository.UserRepository;
+import com.taskflow.api.service.CommentService;
+import com.taskflow.api.service.TaskService;
+import com.taskflow.api.support.TestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import static com.taskflow.api.support.TestData.user;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class TaskSearchServiceTest {
+
+    @Autowired
+    private TaskSearchService searchService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    private User owner;
+    private User stranger;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        TestData.deleteAll(applicationContext);
+        searchService.rebuild();
+
+        owner = userRepository.save(user("owner"));
+        stranger = userRepository.save(user("stranger"));
+        project = projectRepository.save(Project.builder().name("Sprint").user(owner).build());
+    }
+
+    @Test
+    void committedWritesAreSearchableByProjectMembersOnly() {
+        Task task = taskService.createTask(Task.builder().title("Rotate certificates").build(), project.getId(), owner.getId());
+        commentService.addComment(task.getId(), Comment.builder().content("Expires next Friday").build(), owner.getId());
+
+        assertThat(searchService.search("certificates", owner.getId(), 10)).extracting(TaskSearchHit::taskId).containsExactly(task.getId());
+        assertThat(searchService.search("friday", owner.getId(), 10)).extracting(TaskSearchHit::taskId).containsExactly(task.getId());
+        assertThat(searchService.search("certificates", stranger.getId(), 10)).isEmpty();
+    }
+
+    @Test
+    void rebuildRestoresIndexFromDatabase() {
+        Task task = taskRepository.save(Task.builder().title("Imported directly").project(project).build());
+        assertThat(searchService.search("imported", owner.getId(), 10)).isEmpty();
+
+        searchService.rebuild();
+
+        assertThat(searchService.search("imported", owner.getId(), 10)).extracting(TaskSearchHit::taskId).containsExactly(task.getId());
+    }
+
+}
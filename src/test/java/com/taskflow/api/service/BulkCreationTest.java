@@ -0,0 +1,151 @@
+package com.taskflow.api.service;
+
+import com.taskflow.api.config.IdSequenceSeeder;
+import com.taskflow.api.exception.BadRequestException;
+import com.taskflow.api.exception.UnauthorizedException;
+import com.taskflow.api.model.Comment;
+import com.taskflow.api.model.Project;
+import com.taskflow.api.model.Task;
+import com.taskflow.api.model.User;
+import com.taskflow.api.repository.CommentRepository;
+import com.taskflow.api.repository.ProjectRepository;
+import com.taskflow.api.repository.TaskRepository;
+import com.taskflow.api.repository.UserRepository;
+import com.taskflow.api.support.TestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.taskflow.api.support.TestData.user;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class BulkCreationTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private IdSequenceSeeder idSequenceSeeder;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    private User owner;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        TestData.deleteAll(applicationContext);
+
+        owner = userRepository.save(user("owner"));
+        project = projectRepository.save(Project.builder().name("Import").user(owner).build());
+    }
+
+    @Test
+    void tasksAreCreatedAcrossBatchesWithIdsInInputOrder() {
+        // More than one batch of 50
+        List<Long> ids = taskService.createTasks(tasks(120), project.getId(), owner.getId());
+
+        assertThat(ids).hasSize(120).doesNotHaveDuplicates();
+        assertThat(taskRepository.findById(ids.get(0)).orElseThrow().getTitle()).isEqualTo("Task 0");
+        assertThat(taskRepository.findById(ids.get(119)).orElseThrow().getTitle()).isEqualTo("Task 119");
+    }
+
+    @Test
+    void oneInvalidTaskRejectsTheWholeImport() {
+        List<Task> tasks = tasks(60);
+        tasks.get(55).setDueDate(LocalDateTime.now().minusDays(1));
+
+        assertThatThrownBy(() -> taskService.createTasks(tasks, project.getId(), owner.getId()))
+                .isInstanceOf(BadRequestException.class);
+        assertThat(taskRepository.count()).isZero();
+    }
+
+    @Test
+    void commentsNeedAccessToEveryReferencedTask() {
+        List<Long> taskIds = taskService.createTasks(tasks(2), project.getId(), owner.getId());
+        User stranger = userRepository.save(user("stranger"));
+        Project theirs = projectRepository.save(Project.builder().name("Theirs").user(stranger).build());
+        Long theirTaskId = taskService.createTasks(tasks(1), theirs.getId(), stranger.getId()).get(0);
+
+        assertThatThrownBy(() -> commentService.createComments(
+                List.of(comment(taskIds.get(0), "Mine"), comment(theirTaskId, "Not mine")), owner.getId()))
+                .isInstanceOf(UnauthorizedException.class);
+        assertThat(commentRepository.count()).isZero();
+
+        List<Long> commentIds = commentService.createComments(
+                IntStream.range(0, 70).mapToObj(i -> comment(taskIds.get(i % 2), "Comment " + i)).toList(), owner.getId());
+        assertThat(commentIds).hasSize(70).doesNotHaveDuplicates();
+        assertThat(commentRepository.count()).isEqualTo(70);
+    }
+
+    @Test
+    void commentsWithoutATaskAreRejectedAsBadRequests() {
+        Long taskId = taskService.createTasks(tasks(1), project.getId(), owner.getId()).get(0);
+        Comment orphan = Comment.builder().content("Lost").build();
+
+        assertThatThrownBy(() -> commentService.createComments(List.of(comment(taskId, "Fine"), orphan), owner.getId()))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("Comment 1 must reference a task");
+        assertThat(commentRepository.count()).isZero();
+    }
+
+    @Test
+    void seededSequencesSkipIdsAlreadyInUse() {
+        long next = jdbc.queryForObject("SELECT NEXT VALUE FOR task_seq", Long.class);
+        // Inside the block the sequence hands out next, as IDENTITY keys or explicit-ID inserts would leave it
+        long takenId = next + 10;
+        jdbc.update("INSERT INTO tasks (id, title, status, priority, project_id, created_at, updated_at) " +
+                "VALUES (?, 'Legacy', 'TODO', 'MEDIUM', ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", takenId, project.getId());
+
+        idSequenceSeeder.seed();
+
+        // Enough to use up the IDs Hibernate already holds and draw a new block
+        List<Long> ids = taskService.createTasks(tasks(60), project.getId(), owner.getId());
+        assertThat(ids).doesNotContain(takenId);
+        assertThat(ids.get(59)).isGreaterThan(takenId);
+    }
+
+    private static List<Task> tasks(int count) {
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tasks.add(Task.builder().title("Task " + i).estimatedHours(1).build());
+        }
+        return tasks;
+    }
+
+    private static Comment comment(Long taskId, String content) {
+        return Comment.builder().content(content).task(Task.builder().id(taskId).build()).build();
+    }
+
+}
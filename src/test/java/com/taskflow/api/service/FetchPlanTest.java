@@ -0,0 +1,149 @@
+package com.taskflow.api.service;
+
+import com.taskflow.api.cache.ProjectAccessIndex;
+import com.taskflow.api.cache.UserCache;
+import com.taskflow.api.model.Comment;
+import com.taskflow.api.model.Project;
+import com.taskflow.api.model.Task;
+import com.taskflow.api.model.User;
+import com.taskflow.api.pagination.CursorPage;
+import com.taskflow.api.projection.TaskDetail;
+import com.taskflow.api.repository.CommentRepository;
+import com.taskflow.api.repository.ProjectRepository;
+import com.taskflow.api.repository.TaskRepository;
+import com.taskflow.api.repository.UserRepository;
+import com.taskflow.api.support.SqlStatementCounter;
+import com.taskflow.api.support.TestData;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.taskflow.api.support.TestData.user;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Statement budgets for list-shaped service calls, measured with every cache cold.
+ * The counts must not depend on how many projects, tasks or comments are returned.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class FetchPlanTest {
+
+    private static final int PROJECTS = 3;
+    private static final int TASKS_PER_PROJECT = 4;
+    private static final int COMMENTS_PER_TASK = 2;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private UserCache userCache;
+
+    @Autowired
+    private ProjectAccessIndex projectAccessIndex;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    private SqlStatementCounter counter;
+    private User owner;
+    private Project firstProject;
+    private Task firstTask;
+
+    @BeforeEach
+    void setUp() {
+        TestData.deleteAll(applicationContext);
+
+        owner = userRepository.save(user("owner"));
+        List<User> assignees = new ArrayList<>();
+        for (int i = 0; i < TASKS_PER_PROJECT; i++) {
+            assignees.add(userRepository.save(user("assignee" + i)));
+        }
+
+        for (int p = 0; p < PROJECTS; p++) {
+            Project project = projectRepository.save(Project.builder().name("Project " + p).user(owner).build());
+            for (int t = 0; t < TASKS_PER_PROJECT; t++) {
+                Task task = taskRepository.save(Task.builder().title("Task " + t).project(project).assignee(assignees.get(t)).build());
+                for (int c = 0; c < COMMENTS_PER_TASK; c++) {
+                    commentRepository.save(Comment.builder().content("Comment " + c).task(task).author(assignees.get(c)).build());
+                }
+                if (firstTask == null) {
+                    firstProject = project;
+                    firstTask = task;
+                }
+            }
+        }
+
+        entityManagerFactory.getCache().evictAll();
+        userCache.clear();
+        projectAccessIndex.clear();
+        counter = new SqlStatementCounter(entityManagerFactory);
+    }
+
+    @Test
+    void projectsWithTasksLoadInOneStatement() {
+        List<Project> projects = counter.expectStatements(1, () -> {
+            List<Project> result = projectService.findProjectsWithTasks(owner.getId());
+            // Navigating the graph after the transaction must not hit the database
+            result.forEach(project -> project.getTasks().forEach(task -> task.getAssignee().getUsername()));
+            return result;
+        });
+
+        assertThat(projects).hasSize(PROJECTS);
+        assertThat(projects.get(0).getTasks()).hasSize(TASKS_PER_PROJECT);
+    }
+
+    @Test
+    void taskDetailsPageUsesFixedStatementCount() {
+        // user + owned project ids (access index), task page with assignees, grouped comment counts
+        CursorPage<TaskDetail> page = counter.expectStatements(4, () -> {
+            CursorPage<TaskDetail> result = taskService.findProjectTaskDetails(firstProject.getId(), owner.getId(), null, 50);
+            result.items().forEach(detail -> detail.task().getAssignee().getUsername());
+            return result;
+        });
+
+        assertThat(page.items()).hasSize(TASKS_PER_PROJECT)
+                .allSatisfy(detail -> assertThat(detail.commentCount()).isEqualTo(COMMENTS_PER_TASK));
+    }
+
+    @Test
+    void taskCommentsPageFetchesAuthors() {
+        // task -> project lookup, user + owned project ids (access index), comment page with authors
+        CursorPage<Comment> page = counter.expectStatements(4, () -> {
+            CursorPage<Comment> result = commentService.findTaskComments(firstTask.getId(), owner.getId(), null, 50);
+            result.items().forEach(comment -> comment.getAuthor().getUsername());
+            return result;
+        });
+
+        assertThat(page.items()).hasSize(COMMENTS_PER_TASK);
+    }
+
+}
@@ -0,0 +1,121 @@
+package com.taskflow.api.service;
+
+import com.taskflow.api.exception.BadRequestException;
+import com.taskflow.api.model.Project;
+import com.taskflow.api.model.User;
+import com.taskflow.api.repository.ProjectRepository;
+import com.taskflow.api.repository.UserRepository;
+import com.taskflow.api.support.SqlStatementCounter;
+import com.taskflow.api.support.TestData;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static com.taskflow.api.support.TestData.user;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ProjectNameUniquenessTest {
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        TestData.deleteAll(applicationContext);
+
+        owner = userRepository.save(user("owner"));
+    }
+
+    @Test
+    void duplicateCheckIsAnInMemoryProbe() {
+        for (int i = 0; i < 20; i++) {
+            projectService.createProject(project("Project " + i), owner.getId());
+        }
+
+        // Loading the owner's active projects would be one more statement
+        SqlStatementCounter counter = new SqlStatementCounter(entityManagerFactory);
+        counter.expectStatements(0, () -> assertThatThrownBy(
+                () -> projectService.createProject(project("  project 7 "), owner.getId()))
+                .isInstanceOf(BadRequestException.class));
+    }
+
+    @Test
+    void nameIsFreedByDeactivationAndClaimedBackOnReactivation() {
+        Project original = projectService.createProject(project("Sprint"), owner.getId());
+        projectService.deactivateproject(original.getId(), owner.getId());
+
+        Project replacement = projectService.createProject(project("SPRINT"), owner.getId());
+        assertThat(replacement.getActiveNameKey()).isEqualTo("sprint");
+
+        assertThatThrownBy(() -> projectService.reactivateProject(original.getId(), owner.getId()))
+                .isInstanceOf(BadRequestException.class);
+
+        projectService.updateProject(replacement.getId(), project("Sprint 2"), owner.getId());
+        assertThat(projectService.reactivateProject(original.getId(), owner.getId()).getIsActive()).isTrue();
+    }
+
+    @Test
+    void nameTakenBehindTheIndexIsRejectedByTheConstraint() {
+        projectService.createProject(project("Alpha"), owner.getId());
+
+        // Committed by someone else after this owner's names were loaded, as a concurrent create would be
+        jdbc.update("INSERT INTO projects (name, active_name_key, owner_id, is_active, created_at, updated_at) " +
+                "VALUES ('Beta', 'beta', ?, TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", owner.getId());
+
+        assertThatThrownBy(() -> projectService.createProject(project("beta"), owner.getId()))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("already exists");
+        assertThat(projectRepository.findActiveNameKeysByUserId(owner.getId())).containsExactlyInAnyOrder("alpha", "beta");
+    }
+
+    @Test
+    void legacyClashStaysUnkeyedThroughEditsUntilRenamed() {
+        // Two active projects saved before the constraint, with clashing names and no keys
+        for (int i = 0; i < 2; i++) {
+            jdbc.update("INSERT INTO projects (name, owner_id, is_active, created_at, updated_at) " +
+                    "VALUES ('Legacy', ?, TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", owner.getId());
+        }
+        projectService.backfillNameKeys();
+
+        Project unkeyed = projectRepository.findByIsActiveTrueAndActiveNameKeyIsNull().get(0);
+        Project edit = project("Legacy");
+        edit.setDescription("Edited");
+
+        assertThat(projectService.updateProject(unkeyed.getId(), edit, owner.getId()).getActiveNameKey()).isNull();
+        assertThat(projectRepository.findById(unkeyed.getId()).orElseThrow().getDescription()).isEqualTo("Edited");
+
+        Project renamed = projectService.updateProject(unkeyed.getId(), project("Legacy 2"), owner.getId());
+        assertThat(renamed.getActiveNameKey()).isEqualTo("legacy 2");
+        assertThat(projectRepository.findActiveNameKeysByUserId(owner.getId())).containsExactlyInAnyOrder("legacy", "legacy 2");
+    }
+
+    private static Project project(String name) {
+        return Project.builder().name(name).description("Test project").build();
+    }
+
+}
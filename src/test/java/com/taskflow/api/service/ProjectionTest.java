@@ -0,0 +1,119 @@
+package com.taskflow.api.service;
+
+import com.taskflow.api.model.Project;
+import com.taskflow.api.model.Task;
+import com.taskflow.api.model.User;
+import com.taskflow.api.pagination.CursorPage;
+import com.taskflow.api.projection.ProjectSummary;
+import com.taskflow.api.projection.TaskSummary;
+import com.taskflow.api.repository.ProjectRepository;
+import com.taskflow.api.repository.UserRepository;
+import com.taskflow.api.support.SqlStatementCounter;
+import com.taskflow.api.support.TestData;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static com.taskflow.api.support.TestData.user;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ProjectionTest {
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    private User owner;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        TestData.deleteAll(applicationContext);
+
+        owner = userRepository.save(user("owner"));
+        project = projectRepository.save(Project.builder().name("Alpha").user(owner).build());
+    }
+
+    @Test
+    void projectSummariesCarryTheOwnerFromTheSameStatement() {
+        projectRepository.save(Project.builder().name("Beta").user(owner).build());
+        projectRepository.save(Project.builder().name("Archived").user(owner).isActive(false).build());
+
+        assertThat(projectService.findUserProjectSummaries(owner.getId(), false))
+                .extracting(ProjectSummary::name).containsExactly("Alpha", "Beta");
+        assertThat(projectService.findUserProjectSummaries(owner.getId(), true))
+                .extracting(ProjectSummary::name).containsExactly("Alpha", "Beta", "Archived");
+
+        // No per-row owner lookups
+        List<ProjectSummary> active = new SqlStatementCounter(entityManagerFactory)
+                .expectStatements(1, () -> projectService.findActiveProjectSummaries());
+        assertThat(active).extracting(ProjectSummary::name).containsExactly("Alpha", "Beta");
+        assertThat(active).allSatisfy(summary -> {
+            assertThat(summary.ownerId()).isEqualTo(owner.getId());
+            assertThat(summary.ownerUsername()).isEqualTo("owner");
+        });
+    }
+
+    @Test
+    void taskSummaryPagesWalkEveryRowOnceInCreationOrder() {
+        List<Long> ids = taskService.createTasks(assignedTasks(7), project.getId(), owner.getId());
+
+        assertThat(taskService.findAssignedTaskSummaries(owner.getId()))
+                .extracting(TaskSummary::id).containsExactlyElementsOf(ids);
+
+        assertThat(walk(cursor -> taskService.findAssignedTaskSummaries(owner.getId(), cursor, 3)))
+                .containsExactlyElementsOf(ids);
+        assertThat(walk(cursor -> taskService.findProjectTaskSummaries(project.getId(), owner.getId(), cursor, 3)))
+                .containsExactlyElementsOf(ids);
+
+        TaskSummary first = taskService.findProjectTaskSummaries(project.getId(), owner.getId(), null, 1).items().get(0);
+        assertThat(first.title()).isEqualTo("Task 0");
+        assertThat(first.projectId()).isEqualTo(project.getId());
+        assertThat(first.assigneeId()).isEqualTo(owner.getId());
+    }
+
+    private static List<Long> walk(Function<String, CursorPage<TaskSummary>> pages) {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<TaskSummary> page = pages.apply(cursor);
+            assertThat(page.items()).hasSizeLessThanOrEqualTo(3);
+            page.items().forEach(summary -> ids.add(summary.id()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        return ids;
+    }
+
+    private List<Task> assignedTasks(int count) {
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tasks.add(Task.builder().title("Task " + i).assignee(owner).build());
+        }
+        return tasks;
+    }
+
+}
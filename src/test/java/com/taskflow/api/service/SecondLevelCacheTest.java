@@ -0,0 +1,83 @@
+package com.taskflow.api.service;
+
+import com.taskflow.api.model.Project;
+import com.taskflow.api.model.User;
+import com.taskflow.api.model.enums.Role;
+import com.taskflow.api.repository.UserRepository;
+import com.taskflow.api.support.TestData;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import static com.taskflow.api.support.TestData.user;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SecondLevelCacheTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    private Statistics statistics;
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        TestData.deleteAll(applicationContext);
+
+        owner = userRepository.save(user("owner"));
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void entityLookupsAreServedFromTheUsersRegion() {
+        userService.findById(owner.getId());
+        userService.findById(owner.getId());
+
+        assertThat(statistics.getDomainDataRegionStatistics("users").getHitCount()).isPositive();
+    }
+
+    @Test
+    void roleChangeInvalidatesCachedFinderResults() {
+        assertThat(userService.findUsersByRole(Role.ADMIN)).isEmpty();
+        assertThat(userService.findUsersByRole(Role.ADMIN)).isEmpty();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+
+        userService.updateUserRole(owner.getId(), Role.ADMIN);
+
+        assertThat(userService.findUsersByRole(Role.ADMIN)).extracting(User::getId).containsExactly(owner.getId());
+    }
+
+    @Test
+    void projectDeactivationInvalidatesActiveProjectList() {
+        Project project = projectService.createProject(Project.builder().name("Sprint").build(), owner.getId());
+        assertThat(projectService.findAllActiveProjects()).extracting(Project::getId).containsExactly(project.getId());
+
+        projectService.deactivateproject(project.getId(), owner.getId());
+
+        assertThat(projectService.findAllActiveProjects()).isEmpty();
+        assertThat(projectService.findById(project.getId()).getIsActive()).isFalse();
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.taskflow.api.service;
+
+import com.taskflow.api.model.Project;
+import com.taskflow.api.model.Task;
+import com.taskflow.api.model.User;
+import com.taskflow.api.model.enums.TaskStatus;
+import com.taskflow.api.repository.ProjectRepository;
+import com.taskflow.api.repository.TaskRepository;
+import com.taskflow.api.repository.UserRepository;
+import com.taskflow.api.support.TestData;
+import com.taskflow.api.workflow.BulkTransitionResult;
+import com.taskflow.api.workflow.TransitionOutcome;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static com.taskflow.api.support.TestData.user;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class TaskBulkTransitionTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    private User owner;
+    private Project project;
+    private Project foreignProject;
+
+    @BeforeEach
+    void setUp() {
+        TestData.deleteAll(applicationContext);
+
+        owner = userRepository.save(user("owner"));
+        User stranger = userRepository.save(user("stranger"));
+        project = projectRepository.save(Project.builder().name("Sprint").user(owner).build());
+        foreignProject = projectRepository.save(Project.builder().name("Other").user(stranger).build());
+    }
+
+    @Test
+    void reportsPerTaskOutcomeAndOnlyUpdatesValidTransitions() {
+        Task testing = task(project, TaskStatus.TESTING);
+        Task testingToo = task(project, TaskStatus.TESTING);
+        Task todo = task(project, TaskStatus.TODO);
+        Task foreign = task(foreignProject, TaskStatus.TESTING);
+
+        BulkTransitionResult result = taskService.transitionTasks(
+                List.of(testing.getId(), todo.getId(), foreign.getId(), -1L, testingToo.getId()), TaskStatus.DONE, owner.getId());
+
+        assertThat(result.results()).extracting(BulkTransitionResult.TaskResult::outcome).containsExactly(
+                TransitionOutcome.TRANSITIONED,
+                TransitionOutcome.INVALID_TRANSITION,
+                TransitionOutcome.ACCESS_DENIED,
+                TransitionOutcome.NOT_FOUND,
+                TransitionOutcome.TRANSITIONED);
+        assertThat(statusOf(testing)).isEqualTo(TaskStatus.DONE);
+        assertThat(statusOf(testingToo)).isEqualTo(TaskStatus.DONE);
+        assertThat(statusOf(todo)).isEqualTo(TaskStatus.TODO);
+        assertThat(statusOf(foreign)).isEqualTo(TaskStatus.TESTING);
+    }
+
+    @Test
+    void filterFormTransitionsEveryTaskInSourceStatus() {
+        task(project, TaskStatus.TESTING);
+        task(project, TaskStatus.TESTING);
+        task(project, TaskStatus.IN_REVIEW);
+
+        BulkTransitionResult result = taskService.transitionProjectTasks(project.getId(), TaskStatus.TESTING, TaskStatus.DONE, owner.getId());
+
+        assertThat(result.transitionedCount()).isEqualTo(2);
+        assertThat(taskRepository.findIdsByProjectIdAndStatus(project.getId(), TaskStatus.TESTING)).isEmpty();
+    }
+
+    private Task task(Project target, TaskStatus status) {
+        return taskRepository.save(Task.builder().title("Task " + status).status(status).project(target).build());
+    }
+
+    private TaskStatus statusOf(Task task) {
+        return taskRepository.findById(task.getId()).orElseThrow().getStatus();
+    }
+
+}
@@ -0,0 +1,105 @@
+package com.taskflow.api.service;
+
+import com.taskflow.api.event.WorkflowChangedEvent;
+import com.taskflow.api.exception.BadRequestException;
+import com.taskflow.api.model.Project;
+import com.taskflow.api.model.Task;
+import com.taskflow.api.model.User;
+import com.taskflow.api.model.enums.TaskStatus;
+import com.taskflow.api.repository.ProjectRepository;
+import com.taskflow.api.repository.UserRepository;
+import com.taskflow.api.repository.WorkflowTransitionRepository;
+import com.taskflow.api.support.TestData;
+import com.taskflow.api.workflow.TaskWorkflow;
+import com.taskflow.api.workflow.WorkflowRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.EnumSet;
+import java.util.Map;
+
+import static com.taskflow.api.support.TestData.user;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class WorkflowServiceTest {
+
+    @Autowired
+    private WorkflowService workflowService;
+
+    @Autowired
+    private WorkflowRegistry workflowRegistry;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private WorkflowTransitionRepository workflowTransitionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    private User owner;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        workflowTransitionRepository.deleteAll();
+        TestData.deleteAll(applicationContext);
+
+        owner = userRepository.save(user("owner"));
+        project = projectRepository.save(Project.builder().name("Kanban").user(owner).build());
+    }
+
+    @Test
+    void customWorkflowGovernsStatusChangesUntilTheProjectIsDeleted() {
+        workflowService.updateProjectWorkflow(project.getId(), Map.of(
+                TaskStatus.TODO, EnumSet.of(TaskStatus.DONE)), owner.getId());
+        Task task = taskService.createTask(Task.builder().title("Card").build(), project.getId(), owner.getId());
+
+        assertThatThrownBy(() -> taskService.changeTaskStatus(task.getId(), TaskStatus.IN_PROGRESS, owner.getId()))
+                .isInstanceOf(BadRequestException.class);
+        assertThat(taskService.changeTaskStatus(task.getId(), TaskStatus.DONE, owner.getId()).getStatus()).isEqualTo(TaskStatus.DONE);
+
+        projectService.deleteProject(project.getId());
+
+        assertThat(workflowTransitionRepository.findByProjectId(project.getId())).isEmpty();
+        assertThat(workflowRegistry.forProject(project.getId())).isSameAs(TaskWorkflow.DEFAULT);
+    }
+
+    @Test
+    void lateChangeNotificationsReloadTheCommittedWorkflow() {
+        workflowService.updateProjectWorkflow(project.getId(), Map.of(
+                TaskStatus.TODO, EnumSet.of(TaskStatus.DONE)), owner.getId());
+        workflowService.updateProjectWorkflow(project.getId(), Map.of(
+                TaskStatus.TODO, EnumSet.of(TaskStatus.TESTING)), owner.getId());
+        assertThat(workflowRegistry.forProject(project.getId()).canTransition(TaskStatus.TODO, TaskStatus.TESTING)).isTrue();
+
+        // The first update's listener running after the second's
+        eventPublisher.publishEvent(new WorkflowChangedEvent(project.getId()));
+
+        TaskWorkflow workflow = workflowRegistry.forProject(project.getId());
+        assertThat(workflow.canTransition(TaskStatus.TODO, TaskStatus.TESTING)).isTrue();
+        assertThat(workflow.canTransition(TaskStatus.TODO, TaskStatus.DONE)).isFalse();
+    }
+
+}
@@ -0,0 +1,45 @@
+package com.taskflow.api.stats;
+
+import com.taskflow.api.event.TaskSnapshot;
+import com.taskflow.api.model.enums.Priority;
+import com.taskflow.api.model.enums.TaskStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProjectCountersTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 15, 12, 0);
+
+    @Test
+    void seededGroupsAndDeltasProduceExactStats() {
+        ProjectCounters counters = new ProjectCounters(1L);
+        counters.addGroup(TaskStatus.TODO, Priority.HIGH, NOW.minusDays(1), 2, 10, 0);
+        counters.addGroup(TaskStatus.DONE, Priority.LOW, NOW.minusDays(3), 1, 4, 5);
+
+        TaskSnapshot todo = new TaskSnapshot(7L, 1L, null, TaskStatus.TODO, Priority.URGENT, NOW.plusDays(1), 3, null);
+        counters.apply(null, todo);
+
+        ProjectStats stats = counters.snapshot(NOW);
+        assertThat(stats.totalTasks()).isEqualTo(4);
+        assertThat(stats.countByStatus(TaskStatus.TODO)).isEqualTo(3);
+        assertThat(stats.countByPriority(Priority.URGENT)).isEqualTo(1);
+        assertThat(stats.overdueTasks()).isEqualTo(2);
+        assertThat(stats.estimatedHours()).isEqualTo(17);
+        assertThat(stats.actualHours()).isEqualTo(5);
+
+        // Passing its due date makes the new task overdue; finishing it clears that again
+        assertThat(counters.snapshot(NOW.plusDays(2)).overdueTasks()).isEqualTo(3);
+
+        TaskSnapshot done = new TaskSnapshot(7L, 1L, null, TaskStatus.DONE, Priority.URGENT, NOW.plusDays(1), 3, 2);
+        counters.apply(todo, done);
+
+        ProjectStats afterDone = counters.snapshot(NOW.plusDays(2));
+        assertThat(afterDone.overdueTasks()).isEqualTo(2);
+        assertThat(afterDone.countByStatus(TaskStatus.DONE)).isEqualTo(2);
+        assertThat(afterDone.actualHours()).isEqualTo(7);
+    }
+
+}
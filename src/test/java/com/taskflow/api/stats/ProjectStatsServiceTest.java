@@ -0,0 +1,99 @@
+package com.taskflow.api.stats;
+
+import com.taskflow.api.model.Project;
+import com.taskflow.api.model.Task;
+import com.taskflow.api.model.User;
+import com.taskflow.api.model.enums.TaskStatus;
+import com.taskflow.api.repository.ProjectRepository;
+import com.taskflow.api.repository.UserRepository;
+import com.taskflow.api.service.TaskService;
+import com.taskflow.api.support.TestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static com.taskflow.api.support.TestData.user;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ProjectStatsServiceTest {
+
+    @Autowired
+    private ProjectStatsService statsService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    private User owner;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        TestData.deleteAll(applicationContext);
+
+        owner = userRepository.save(user("owner"));
+        project = projectRepository.save(Project.builder().name("Sprint").user(owner).build());
+        // IDs restart when another test context recreates the schema
+        statsService.evict(project.getId());
+    }
+
+    @Test
+    void committedWritesAreAppliedToLoadedCounters() {
+        taskService.createTask(Task.builder().title("One").build(), project.getId(), owner.getId());
+        assertThat(statsService.getStats(project.getId()).totalTasks()).isEqualTo(1);
+
+        Task second = taskService.createTask(Task.builder().title("Two").build(), project.getId(), owner.getId());
+        taskService.changeTaskStatus(second.getId(), TaskStatus.IN_PROGRESS, owner.getId());
+
+        ProjectStats stats = statsService.getStats(project.getId());
+        assertThat(stats.totalTasks()).isEqualTo(2);
+        assertThat(stats.countByStatus(TaskStatus.IN_PROGRESS)).isEqualTo(1);
+    }
+
+    @Test
+    void countersLoadedBeforeTheWriteCommitsArePatched() {
+        transactionTemplate.executeWithoutResult(status -> {
+            taskService.createTask(Task.builder().title("One").build(), project.getId(), owner.getId());
+            // The load runs in its own transaction and cannot see the uncommitted task
+            assertThat(statsService.getStats(project.getId()).totalTasks()).isZero();
+        });
+
+        assertThat(statsService.getStats(project.getId()).totalTasks()).isEqualTo(1);
+    }
+
+    @Test
+    void countersLoadedOnceTheWriteHasCommittedAreReloadedInsteadOfPatched() {
+        transactionTemplate.executeWithoutResult(status -> {
+            // Runs after the commit but ahead of the stats listener, so the load already counts the task
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    assertThat(statsService.getStats(project.getId()).totalTasks()).isEqualTo(1);
+                }
+            });
+            taskService.createTask(Task.builder().title("One").build(), project.getId(), owner.getId());
+        });
+
+        assertThat(statsService.getStats(project.getId()).totalTasks()).isEqualTo(1);
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.taskflow.api.support;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Counts JDBC statements prepared by Hibernate (requires hibernate.generate_statistics).
+ *
+ * Statistics are global to the session factory, so this only gives exact
+ * numbers while tests run one at a time.
+ */
+public final class SqlStatementCounter {
+
+    private final Statistics statistics;
+
+    public SqlStatementCounter(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public <T> T expectStatements(long expected, Supplier<T> call) {
+        statistics.clear();
+        T result = call.get();
+        assertThat(statistics.getPrepareStatementCount())
+                .as("SQL statements executed")
+                .isEqualTo(expected);
+        return result;
+    }
+
+}
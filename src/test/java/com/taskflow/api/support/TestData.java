@@ -0,0 +1,47 @@
+package com.taskflow.api.support;
+
+import com.taskflow.api.model.User;
+import com.taskflow.api.model.enums.Role;
+import com.taskflow.api.repository.CommentRepository;
+import com.taskflow.api.repository.ProjectRepository;
+import com.taskflow.api.repository.TaskDependencyRepository;
+import com.taskflow.api.repository.TaskRepository;
+import com.taskflow.api.repository.UserRepository;
+import org.springframework.context.ApplicationContext;
+
+/**
+ * Shared fixtures for the Spring service tests.
+ *
+ * The test contexts share one in-memory database, so each test class starts by
+ * deleting what the others left behind. Repository deletes publish no events:
+ * in-memory indexes built from those rows are the test's own business to reset.
+ */
+public final class TestData {
+
+    private TestData() {
+    }
+
+    /**
+     * Deletes task dependencies, comments, tasks, projects and users, children first.
+     */
+    public static void deleteAll(ApplicationContext context) {
+        context.getBean(TaskDependencyRepository.class).deleteAll();
+        context.getBean(CommentRepository.class).deleteAll();
+        context.getBean(TaskRepository.class).deleteAll();
+        context.getBean(ProjectRepository.class).deleteAll();
+        context.getBean(UserRepository.class).deleteAll();
+    }
+
+    /**
+     * Unsaved developer; the email is derived from the username.
+     */
+    public static User user(String username) {
+        return user(username, Role.DEVELOPER);
+    }
+
+    public static User user(String username, Role role) {
+        return User.builder().username(username).email(username + "@example.com").password("password")
+                .firstName("Test").lastName("User").role(role).build();
+    }
+
+}
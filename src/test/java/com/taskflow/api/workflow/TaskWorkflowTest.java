@@ -0,0 +1,44 @@
+package com.taskflow.api.workflow;
+
+import com.taskflow.api.model.enums.TaskStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+import static com.taskflow.api.model.enums.TaskStatus.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskWorkflowTest {
+
+    @Test
+    void defaultWorkflowMatchesDocumentedRules() {
+        Map<TaskStatus, Set<TaskStatus>> expected = Map.of(
+                TODO, EnumSet.of(IN_PROGRESS, CANCELLED),
+                IN_PROGRESS, EnumSet.of(IN_REVIEW, TODO, CANCELLED),
+                IN_REVIEW, EnumSet.of(TESTING, IN_PROGRESS, CANCELLED),
+                TESTING, EnumSet.of(DONE, IN_PROGRESS, CANCELLED));
+
+        for (TaskStatus from : TaskStatus.values()) {
+            Set<TaskStatus> targets = expected.getOrDefault(from, EnumSet.noneOf(TaskStatus.class));
+            for (TaskStatus to : TaskStatus.values()) {
+                assertThat(from.canTransitionTo(to)).as("%s -> %s", from, to).isEqualTo(targets.contains(to));
+                assertThat(TaskWorkflow.DEFAULT.canTransition(from, to)).as("%s -> %s", from, to).isEqualTo(targets.contains(to));
+            }
+        }
+    }
+
+    @Test
+    void compiledCustomWorkflowOnlyAllowsConfiguredTransitions() {
+        TaskWorkflow kanban = TaskWorkflow.compile(Map.of(
+                TODO, EnumSet.of(IN_PROGRESS),
+                IN_PROGRESS, EnumSet.of(DONE, TODO)));
+
+        assertThat(kanban.canTransition(IN_PROGRESS, DONE)).isTrue();
+        assertThat(kanban.canTransition(IN_PROGRESS, IN_REVIEW)).isFalse();
+        assertThat(kanban.allowedTargets(TODO)).containsExactly(IN_PROGRESS);
+        assertThat(kanban.transitions()).containsOnlyKeys(TODO, IN_PROGRESS);
+    }
+
+}
@@ -0,0 +1,170 @@
+package com.taskflow.api.workload;
+
+import com.taskflow.api.model.Project;
+import com.taskflow.api.model.Task;
+import com.taskflow.api.model.User;
+import com.taskflow.api.model.UserWorkload;
+import com.taskflow.api.model.enums.Priority;
+import com.taskflow.api.model.enums.TaskStatus;
+import com.taskflow.api.repository.ProjectRepository;
+import com.taskflow.api.repository.UserRepository;
+import com.taskflow.api.service.TaskService;
+import com.taskflow.api.support.TestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.taskflow.api.support.TestData.user;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class WorkloadServiceTest {
+
+    @Autowired
+    private WorkloadService workloadService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    private final LocalDateTime tomorrow = LocalDateTime.now().plusDays(1).withNano(0);
+
+    private User owner;
+    private User alice;
+    private User bob;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        TestData.deleteAll(applicationContext);
+
+        owner = saveUser("owner");
+        alice = saveUser("alice");
+        bob = saveUser("bob");
+        project = projectRepository.save(Project.builder().name("Sprint").user(owner).build());
+    }
+
+    @Test
+    void followsCreateReassignmentAndStatusChanges() {
+        Task urgent = createTask("Hotfix", alice, Priority.URGENT, 3, tomorrow);
+        Task later = createTask("Refactor", alice, Priority.LOW, 5, tomorrow.plusDays(6));
+
+        UserWorkload workload = workloadService.getWorkload(alice.getId());
+        assertThat(workload.getOpenCount()).isEqualTo(2);
+        assertThat(workload.getCount(TaskStatus.TODO)).isEqualTo(2);
+        assertThat(workload.getCount(Priority.URGENT)).isEqualTo(1);
+        assertThat(workload.getEstimatedHoursRemaining()).isEqualTo(8);
+        assertThat(workload.getNextDueDate()).isEqualTo(tomorrow);
+
+        taskService.changeTaskStatus(later.getId(), TaskStatus.IN_PROGRESS, owner.getId());
+        assertThat(workloadService.getWorkload(alice.getId()).getCount(TaskStatus.IN_PROGRESS)).isEqualTo(1);
+
+        // Moving the earliest task away makes the next due date fall back to the remaining one
+        taskService.reassignTask(urgent.getId(), bob.getId(), owner.getId());
+
+        workload = workloadService.getWorkload(alice.getId());
+        assertThat(workload.getOpenCount()).isEqualTo(1);
+        assertThat(workload.getCount(Priority.URGENT)).isZero();
+        assertThat(workload.getEstimatedHoursRemaining()).isEqualTo(5);
+        assertThat(workload.getNextDueDate()).isEqualTo(tomorrow.plusDays(6));
+        assertThat(workloadService.getWorkload(bob.getId()).getCount(Priority.URGENT)).isEqualTo(1);
+
+        taskService.changeTaskStatus(later.getId(), TaskStatus.CANCELLED, owner.getId());
+
+        workload = workloadService.getWorkload(alice.getId());
+        assertThat(workload.getOpenCount()).isZero();
+        assertThat(workload.getEstimatedHoursRemaining()).isZero();
+        assertThat(workload.getNextDueDate()).isNull();
+    }
+
+    @Test
+    void bulkWritesMatchAFullRecompute() {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            tasks.add(Task.builder().title("Imported " + i).assignee(i % 3 == 0 ? bob : alice)
+                    .priority(Priority.values()[i % Priority.values().length]).estimatedHours(i % 7)
+                    .dueDate(tomorrow.plusHours(i)).build());
+        }
+        List<Long> ids = taskService.createTasks(tasks, project.getId(), owner.getId());
+        taskService.transitionTasks(ids.subList(0, 50), TaskStatus.IN_PROGRESS, owner.getId());
+        taskService.transitionTasks(ids.subList(0, 10), TaskStatus.CANCELLED, owner.getId());
+
+        UserWorkload maintainedAlice = workloadService.getWorkload(alice.getId());
+        UserWorkload maintainedBob = workloadService.getWorkload(bob.getId());
+
+        workloadService.rebuild();
+
+        assertSameCounts(maintainedAlice, workloadService.getWorkload(alice.getId()));
+        assertSameCounts(maintainedBob, workloadService.getWorkload(bob.getId()));
+        assertThat(maintainedBob.getOpenCount()).isEqualTo(36);
+    }
+
+    @Test
+    void rolledBackWritesLeaveTheWorkloadUntouched() {
+        Task task = createTask("Hotfix", alice, Priority.HIGH, 2, tomorrow);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            taskService.reassignTask(task.getId(), bob.getId(), owner.getId());
+            status.setRollbackOnly();
+        });
+
+        assertThat(workloadService.getWorkload(alice.getId()).getOpenCount()).isEqualTo(1);
+        assertThat(workloadService.getWorkload(bob.getId()).getOpenCount()).isZero();
+    }
+
+    @Test
+    void creatingAnExistingRowRecomputesItFromTheTasks() {
+        createTask("Hotfix", alice, Priority.HIGH, 2, tomorrow);
+        // Written without events, as by a transaction whose own row insert lost the race
+        jdbc.update("INSERT INTO tasks (id, title, status, priority, estimated_hours, project_id, assignee_id, created_at, updated_at) " +
+                "VALUES (?, 'Legacy', 'TODO', 'LOW', 4, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                Long.MAX_VALUE - 1, project.getId(), alice.getId());
+
+        workloadService.createWorkload(alice.getId());
+
+        UserWorkload workload = workloadService.getWorkload(alice.getId());
+        assertThat(workload.getOpenCount()).isEqualTo(2);
+        assertThat(workload.getCount(Priority.LOW)).isEqualTo(1);
+        assertThat(workload.getEstimatedHoursRemaining()).isEqualTo(6);
+    }
+
+    private Task createTask(String title, User assignee, Priority priority, int estimatedHours, LocalDateTime dueDate) {
+        return taskService.createTask(Task.builder().title(title).assignee(assignee).priority(priority)
+                .estimatedHours(estimatedHours).dueDate(dueDate).build(), project.getId(), owner.getId());
+    }
+
+    private User saveUser(String username) {
+        User user = userRepository.save(user(username));
+        workloadService.createWorkload(user.getId());
+        return user;
+    }
+
+    private static void assertSameCounts(UserWorkload maintained, UserWorkload recomputed) {
+        assertThat(maintained).usingRecursiveComparison().ignoringFields("updatedAt").isEqualTo(recomputed);
+    }
+
+}